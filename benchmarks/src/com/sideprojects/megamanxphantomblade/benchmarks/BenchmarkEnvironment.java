@@ -0,0 +1,21 @@
+package com.sideprojects.megamanxphantomblade.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.sideprojects.megamanxphantomblade.headless.HeadlessLauncher;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ * Lets benchmarks load sprites and maps without a GPU, see HeadlessLauncher.
+ * The benchmarks run from the assets directory.
+ */
+public class BenchmarkEnvironment {
+    private BenchmarkEnvironment() {}
+
+    public static void init() {
+        if (Gdx.files == null) {
+            Gdx.files = new HeadlessFiles();
+        }
+        HeadlessLauncher.install();
+    }
+}
@@ -0,0 +1,62 @@
+package com.sideprojects.megamanxphantomblade.benchmarks;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.sideprojects.megamanxphantomblade.MovingObject;
+import com.sideprojects.megamanxphantomblade.mocks.MockMovingObject;
+import com.sideprojects.megamanxphantomblade.physics.collision.Collision;
+import com.sideprojects.megamanxphantomblade.physics.collision.CollisionDetectionRay;
+import com.sideprojects.megamanxphantomblade.physics.collision.CollisionList;
+import com.sideprojects.megamanxphantomblade.physics.tiles.RectangleTile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ * Filling a collision list with a frame's worth of collisions, in a new list and in a reused one.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionListBenchmark {
+    private static final int COLLISIONS = 4;
+
+    private MovingObject object;
+    private RectangleTile tile;
+    private Rectangle rayStart;
+    private CollisionList reusedList;
+
+    @Setup
+    public void setUp() {
+        object = new MockMovingObject(1.2f, 1.1f, 0, -1);
+        tile = new RectangleTile(1, 0, 1, 1);
+        rayStart = new Rectangle(1.2f, 1.1f, 0.3f, 0.7f);
+        reusedList = new CollisionList();
+    }
+
+    @Benchmark
+    public CollisionList newList() {
+        CollisionList list = new CollisionList();
+        fill(list);
+        return list;
+    }
+
+    @Benchmark
+    public CollisionList reusedList() {
+        reusedList.clear();
+        fill(reusedList);
+        return reusedList;
+    }
+
+    private void fill(CollisionList list) {
+        for (int i = 0; i < COLLISIONS; i++) {
+            CollisionDetectionRay ray = list.obtainRay().set(rayStart, 1.2f + i * 0.1f, 0.6f, 0, 0,
+                    CollisionDetectionRay.Side.Front, CollisionDetectionRay.Orientation.Vertical);
+            list.add(list.obtain().set(object, 1.2f + i * 0.1f, 1f, Collision.Side.Up, ray, tile, null, null));
+        }
+        list.refresh();
+    }
+}
@@ -0,0 +1,95 @@
+package com.sideprojects.megamanxphantomblade.benchmarks;
+
+import com.sideprojects.megamanxphantomblade.Difficulty;
+import com.sideprojects.megamanxphantomblade.PhantomBladeGame;
+import com.sideprojects.megamanxphantomblade.enemies.EnemyBase;
+import com.sideprojects.megamanxphantomblade.entities.components.ActiveComponent;
+import com.sideprojects.megamanxphantomblade.entities.systems.GravitySystem;
+import com.sideprojects.megamanxphantomblade.entities.systems.MapCollisionSystem;
+import com.sideprojects.megamanxphantomblade.headless.ForkJoinChunkRunner;
+import com.sideprojects.megamanxphantomblade.headless.HeadlessSimulation;
+import com.sideprojects.megamanxphantomblade.map.MapBase;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ * Moves and updates of the enemies of the intro stage, all of them spawned at once, and whole simulation steps of the stage.
+ * The parallel step updates the enemies on a fork join pool with a thread per core.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EnemyUpdateBenchmark {
+    private HeadlessSimulation simulation;
+    private HeadlessSimulation parallelSimulation;
+    private ForkJoinChunkRunner runner;
+    private MapBase map;
+    private List<EnemyBase> enemies;
+    private GravitySystem gravity;
+    private MapCollisionSystem mapCollision;
+
+    @Setup(Level.Trial)
+    public void setUpRunner() {
+        runner = new ForkJoinChunkRunner(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownRunner() {
+        runner.dispose();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BenchmarkEnvironment.init();
+        simulation = new HeadlessSimulation(0, Difficulty.NORMAL);
+        parallelSimulation = new HeadlessSimulation(0, Difficulty.NORMAL, runner);
+        map = simulation.map;
+        enemies = map.enemyList;
+        for (EnemyBase enemy : enemies) {
+            enemy.spawn();
+            enemy.entity.add(new ActiveComponent());
+        }
+        gravity = map.engine.getSystem(GravitySystem.class);
+        mapCollision = map.engine.getSystem(MapCollisionSystem.class);
+    }
+
+    /**
+     * Every iteration loads its own stage, the maps of the last one would otherwise keep their atlases and engine
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        simulation.map.dispose();
+        parallelSimulation.map.dispose();
+    }
+
+    @Benchmark
+    public void allEnemies() {
+        gravity.update(PhantomBladeGame.TIME_STEP);
+        mapCollision.update(PhantomBladeGame.TIME_STEP);
+        for (int i = 0; i < enemies.size(); i++) {
+            EnemyBase enemy = enemies.get(i);
+            // Killed enemies come back, so every invocation updates the same number of enemies
+            if (!enemy.spawned) {
+                enemy.spawn();
+            }
+            enemy.update(PhantomBladeGame.TIME_STEP);
+            enemy.sideEffects.apply(map);
+        }
+    }
+
+    @Benchmark
+    public void simulationStep() {
+        simulation.run(1);
+    }
+
+    @Benchmark
+    public void parallelSimulationStep() {
+        parallelSimulation.run(1);
+    }
+}
@@ -0,0 +1,77 @@
+package com.sideprojects.megamanxphantomblade.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.sideprojects.megamanxphantomblade.math.GeoMathRectangle;
+import com.sideprojects.megamanxphantomblade.math.GeoMathTriangle;
+import com.sideprojects.megamanxphantomblade.physics.tiles.RectangleTile;
+import com.sideprojects.megamanxphantomblade.physics.tiles.SquareTriangleTile;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ * Ray intersections with the sides of rectangle and triangle tiles, for rays that hit.
+ * The *Into benchmarks use the raw coordinate API that writes into a given vector.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GeoMathBenchmark {
+    private RectangleTile rectangle;
+    private SquareTriangleTile triangle;
+    private Vector2 start;
+    private Vector2 end;
+    private Vector2 startFromAbove;
+    private Vector2 endFromAbove;
+    private Vector2 intersection;
+
+    @Setup
+    public void setUp() {
+        rectangle = new RectangleTile(1, 1, 1, 1);
+        triangle = new SquareTriangleTile(1, 1, 2, 1, 2, 2, 1, 1, 0, 1);
+        start = new Vector2(0.5f, 1.5f);
+        end = new Vector2(2.5f, 1.5f);
+        startFromAbove = new Vector2(1, 2f);
+        endFromAbove = new Vector2(2, 1f);
+        intersection = new Vector2();
+    }
+
+    @Benchmark
+    public void rectangleSides(Blackhole blackhole) {
+        blackhole.consume(GeoMathRectangle.findIntersectionLeft(rectangle, start, end));
+        blackhole.consume(GeoMathRectangle.findIntersectionRight(rectangle, end, start));
+        blackhole.consume(GeoMathRectangle.findIntersectionUp(rectangle, startFromAbove, endFromAbove));
+        blackhole.consume(GeoMathRectangle.findIntersectionDown(rectangle, endFromAbove, startFromAbove));
+    }
+
+    @Benchmark
+    public void triangleSides(Blackhole blackhole) {
+        blackhole.consume(GeoMathTriangle.findVertexIntersectionUp(triangle, startFromAbove, endFromAbove));
+        blackhole.consume(GeoMathTriangle.findLineIntersectionUp(triangle, start, end));
+        blackhole.consume(GeoMathTriangle.findIntersectionDown(triangle, endFromAbove, startFromAbove));
+    }
+
+    @Benchmark
+    public void rectangleSidesInto(Blackhole blackhole) {
+        float x = rectangle.x();
+        float y = rectangle.y();
+        float width = rectangle.getWidth();
+        float height = rectangle.getHeight();
+        blackhole.consume(GeoMathRectangle.intersectLeft(x, y, height, start.x, start.y, end.x, end.y, intersection));
+        blackhole.consume(GeoMathRectangle.intersectRight(x, y, width, height, end.x, end.y, start.x, start.y, intersection));
+        blackhole.consume(GeoMathRectangle.intersectUp(x, y, width, height, startFromAbove.x, startFromAbove.y, endFromAbove.x, endFromAbove.y, intersection));
+        blackhole.consume(GeoMathRectangle.intersectDown(x, y, width, endFromAbove.x, endFromAbove.y, startFromAbove.x, startFromAbove.y, intersection));
+    }
+
+    @Benchmark
+    public void triangleSidesInto(Blackhole blackhole) {
+        blackhole.consume(GeoMathTriangle.intersectVertexUp(triangle, startFromAbove.x, startFromAbove.y, endFromAbove.x, endFromAbove.y, intersection));
+        blackhole.consume(GeoMathTriangle.intersectLineUp(triangle, start.x, start.y, end.x, end.y, intersection));
+        blackhole.consume(GeoMathTriangle.intersectDown(triangle, endFromAbove.x, endFromAbove.y, startFromAbove.x, startFromAbove.y, intersection));
+    }
+}
@@ -0,0 +1,58 @@
+package com.sideprojects.megamanxphantomblade.benchmarks;
+
+import com.sideprojects.megamanxphantomblade.MovingObject;
+import com.sideprojects.megamanxphantomblade.mocks.MockMap;
+import com.sideprojects.megamanxphantomblade.mocks.MockMovingObject;
+import com.sideprojects.megamanxphantomblade.physics.PhysicsBase;
+import com.sideprojects.megamanxphantomblade.physics.TestablePhysicsBase;
+import com.sideprojects.megamanxphantomblade.physics.collision.CollisionList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ * Collision detection of an object falling onto a rectangle tile and onto a slope.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapCollisionBenchmark {
+    private static final float DELTA = 0.5f;
+
+    private MockMap map;
+    private PhysicsBase physics;
+    private MovingObject onRectangle;
+    private MovingObject onSlope;
+
+    @Setup
+    public void setUp() {
+        map = new MockMap();
+        map.addRectTile(1, 0);
+        map.addSlopeBottomRight(4, 0);
+        physics = new TestablePhysicsBase();
+
+        onRectangle = new MockMovingObject(1.2f, 1.1f, 0, -1);
+        onRectangle.direction = MovingObject.RIGHT;
+        onSlope = new MockMovingObject(5f, 1.1f, 0, -1);
+        onSlope.direction = MovingObject.LEFT;
+    }
+
+    @TearDown
+    public void tearDown() {
+        map.dispose();
+    }
+
+    @Benchmark
+    public CollisionList rectangle() {
+        return physics.getMapCollision(onRectangle, DELTA, map);
+    }
+
+    @Benchmark
+    public CollisionList slope() {
+        return physics.getMapCollision(onSlope, DELTA, map);
+    }
+}
@@ -0,0 +1,37 @@
+package com.sideprojects.megamanxphantomblade.benchmarks;
+
+import com.sideprojects.megamanxphantomblade.MovingObject;
+import com.sideprojects.megamanxphantomblade.PhantomBladeGame;
+import com.sideprojects.megamanxphantomblade.animation.Particle;
+import com.sideprojects.megamanxphantomblade.animation.Particles;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ * A step of the particle effects while dashing: a new dust particle and an update.
+ * Every expired particle is retired on update, so the ring stays at the length of the dust animation or the budget.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParticlesBenchmark {
+    private Particles particles;
+
+    @Setup
+    public void setUp() {
+        BenchmarkEnvironment.init();
+        particles = new Particles(15f, -8f);
+    }
+
+    @Benchmark
+    public int addAndUpdate() {
+        particles.add(Particle.ParticleType.DASH, 2, 1, false, MovingObject.RIGHT);
+        particles.update(PhantomBladeGame.TIME_STEP);
+        return particles.size();
+    }
+}
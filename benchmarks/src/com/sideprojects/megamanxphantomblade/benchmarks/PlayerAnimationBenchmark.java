@@ -0,0 +1,50 @@
+package com.sideprojects.megamanxphantomblade.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.sideprojects.megamanxphantomblade.Damage;
+import com.sideprojects.megamanxphantomblade.MovingObject;
+import com.sideprojects.megamanxphantomblade.player.PlayerAnimationBase;
+import com.sideprojects.megamanxphantomblade.player.x.PlayerXAnimation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by buivuhoang on 24/10/17.
+ * The per frame animation and padding lookups of the player, standing still and shooting while dashing.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayerAnimationBenchmark {
+    private PlayerAnimationBase animations;
+
+    @Setup
+    public void setUp() {
+        BenchmarkEnvironment.init();
+        animations = new PlayerXAnimation();
+        animations.warmUp();
+    }
+
+    @TearDown
+    public void tearDown() {
+        animations.dispose();
+    }
+
+    @Benchmark
+    public Animation<TextureRegion> idle() {
+        return animations.get(PlayerAnimationBase.Type.Idle, false, false, null, false, false);
+    }
+
+    @Benchmark
+    public Vector2 dashShooting() {
+        animations.get(PlayerAnimationBase.Type.Dash, false, true, Damage.Type.HEAVY, true, false);
+        animations.get(PlayerAnimationBase.Type.Dashrocket, false, true, Damage.Type.HEAVY, true, false);
+        return animations.getAnimationPadding(PlayerAnimationBase.Type.Dash, MovingObject.LEFT, true, Damage.Type.HEAVY, false);
+    }
+}
@@ -0,0 +1,48 @@
+package com.sideprojects.megamanxphantomblade.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.sideprojects.megamanxphantomblade.math.VectorCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ * Lookups of cached vectors, always the same one and cycling through a set of them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class VectorCacheBenchmark {
+    // Must be a power of 2
+    private static final int KEYS = 64;
+
+    private float[] xs;
+    private float[] ys;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        xs = new float[KEYS];
+        ys = new float[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            xs[i] = i * 0.05f;
+            ys[i] = -i * 0.1f;
+            VectorCache.get(xs[i], ys[i]);
+        }
+    }
+
+    @Benchmark
+    public Vector2 sameVector() {
+        return VectorCache.get(0.3f, -0.6f);
+    }
+
+    @Benchmark
+    public Vector2 manyVectors() {
+        next = (next + 1) & (KEYS - 1);
+        return VectorCache.get(xs[next], ys[next]);
+    }
+}
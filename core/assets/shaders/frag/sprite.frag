@@ -0,0 +1,21 @@
+#ifdef GL_ES
+#define LOWP lowp
+precision mediump float;
+#else
+#define LOWP
+#endif
+varying LOWP vec4 v_color;
+varying vec2 v_texCoords;
+uniform sampler2D u_texture;
+// The vertex colour picks the effect of each sprite, see SpriteShader.
+// A channel below 0.5 fills the sprite with twice its value,
+// a channel from 0.5 brightens the sprite by twice its distance to 1, so white draws the texture as is.
+void main()
+{
+    vec4 f_color = texture2D(u_texture, v_texCoords);
+    vec3 fill = v_color.rgb * 2.0;
+    vec3 brighten = f_color.rgb + (2.0 - fill) * f_color.a;
+    f_color.rgb = mix(fill, brighten, step(0.5, v_color.rgb));
+    f_color.a *= v_color.a;
+    gl_FragColor = f_color;
+}
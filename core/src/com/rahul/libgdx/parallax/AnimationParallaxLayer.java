@@ -23,9 +23,14 @@ public class AnimationParallaxLayer extends TextureRegionParallaxLayer {
     }
 
     @Override
-    public void draw(Batch batch, float x, float y, float delta) {
-        super.draw(batch, x, y, delta);
+    public void update(float delta) {
         stateTime += delta;
         texRegion = animation.getKeyFrame(stateTime, true);
     }
+
+    @Override
+    public void draw(Batch batch, float x, float y, float delta) {
+        super.draw(batch, x, y, delta);
+        update(delta);
+    }
 }
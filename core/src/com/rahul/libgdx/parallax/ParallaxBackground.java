@@ -1,11 +1,16 @@
 package com.rahul.libgdx.parallax;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
 import com.rahul.libgdx.parallax.ParallaxLayer.TileMode;
 /**
  * A ParallaxBacground encapsulates the logic to Render ParallaxLayers.
@@ -13,11 +18,14 @@ import com.rahul.libgdx.parallax.ParallaxLayer.TileMode;
  * These Layers a rendered on screen showing parallax effect based on scrolling characteristics of individual layers. 
  * This rendering module does not owns any Batch ,you need to provide one in the draw method. 
  * <p>
+ * Layers in repeating texture mode (see {@link TextureRegionParallaxLayer#setRepeatingTexture(boolean)}) are drawn as one quad covering the camera
+ * that scrolls by texture coordinates, the other layers are drawn once per visible segment. Dispose the background to release the shader of the repeating layers.
+ * <p>
  * Also see {@link ParallaxLayer}. 
  * @author Rahul Verma
  *
  */
-public class ParallaxBackground {
+public class ParallaxBackground implements Disposable {
 	
 	/**
 	 * this array contains the parallax scrolling layers that are drawn on the screen. Layers are rendered in the order they are present in this array.
@@ -26,6 +34,9 @@ public class ParallaxBackground {
 	private Matrix4 cachedProjectionView;
 	private Vector3 cachedPos;
 	private float cachedZoom;
+	private Vector2 cachedLayerPos;
+	// Created on the first draw of a layer in repeating texture mode
+	private ShaderProgram repeatingShader;
 	
 	/**
 	 * Create a ParallaxBackground without any layers
@@ -49,6 +60,7 @@ public class ParallaxBackground {
     	layers = new Array<>();
 		cachedPos = new Vector3();
 		cachedProjectionView = new Matrix4();
+		cachedLayerPos = new Vector2();
 	}
 	
 	/**
@@ -68,11 +80,17 @@ public class ParallaxBackground {
 		cachedProjectionView.set(worldCamera.combined);
 		cachedPos.set(worldCamera.position);
 		cachedZoom = worldCamera.zoom;
+		boolean cameraMoved = false;
 		
 		
 		for(int i=0; i<layers.size; i++){
 			ParallaxLayer layer = layers.get(i);
-			Vector2 origCameraPos = new Vector2(cachedPos.x,cachedPos.y);
+			if(isRepeatingTexture(layer)){
+				drawRepeating((TextureRegionParallaxLayer)layer, worldCamera, batch, delta);
+				continue;
+			}
+			cameraMoved = true;
+			Vector2 origCameraPos = cachedLayerPos.set(cachedPos.x,cachedPos.y);
 			worldCamera.position.set(origCameraPos.scl(layer.getParallaxRatio()),cachedPos.z);
 		    worldCamera.update();
 		    batch.setProjectionMatrix(worldCamera.combined);
@@ -93,13 +111,71 @@ public class ParallaxBackground {
 		     
 		}
 		
-		worldCamera.combined.set(cachedProjectionView);
-		worldCamera.position.set(cachedPos);
-		worldCamera.zoom = cachedZoom;
-		worldCamera.update();
+		if(cameraMoved){
+			worldCamera.combined.set(cachedProjectionView);
+			worldCamera.position.set(cachedPos);
+			worldCamera.zoom = cachedZoom;
+			worldCamera.update();
+		}
 		batch.setProjectionMatrix(worldCamera.combined);
 	    
 	}
+
+	private static boolean isRepeatingTexture(ParallaxLayer layer){
+		return layer instanceof TextureRegionParallaxLayer && ((TextureRegionParallaxLayer)layer).isRepeatingTexture();
+	}
+
+	/**
+	 * draws the layer as one quad covering the world camera, scrolled by texture coordinates in segments of the layer.
+	 * The segments are placed where the other layers would draw them, and the camera is left untouched.
+	 */
+	private void drawRepeating(TextureRegionParallaxLayer layer, OrthographicCamera worldCamera, Batch batch, float delta){
+		if(repeatingShader == null)
+			repeatingShader = RepeatingTextureShader.create();
+		layer.update(delta);
+		TextureRegion region = layer.getTexRegion();
+		Texture texture = region.getTexture();
+		Vector2 ratio = layer.getParallaxRatio();
+		float width = layer.getWidth();
+		float height = layer.getHeight();
+		float viewWidth = worldCamera.viewportWidth*worldCamera.zoom;
+		float viewHeight = worldCamera.viewportHeight*worldCamera.zoom;
+
+		// The lower left corner of the camera in the scrolled space of the layer, relative to the first segment
+		float startX = (cachedPos.x*ratio.x-viewWidth*.5f+Math.abs((1-ratio.x)%1)*worldCamera.viewportWidth*.5f)/width;
+		float startY = (cachedPos.y*ratio.y-viewHeight*.5f+((1-ratio.y)%1)*worldCamera.viewportHeight*.5f)/height;
+		// Only the position within a segment matters on repeating axes, keeping the coordinates small keeps them precise
+		boolean repeatX = layer.getTileModeX().equals(TileMode.repeat);
+		boolean repeatY = layer.getTileModeY().equals(TileMode.repeat);
+		if(repeatX)
+			startX -= MathUtils.floor(startX);
+		if(repeatY)
+			startY -= MathUtils.floor(startY);
+
+		ShaderProgram previousShader = batch.getShader();
+		batch.setShader(repeatingShader);
+		batch.setProjectionMatrix(worldCamera.combined);
+		// Stay half a texel inside the region so linear filtering doesn't pick up its neighbours in the atlas
+		float halfTexelU = .5f/texture.getWidth();
+		float halfTexelV = .5f/texture.getHeight();
+		repeatingShader.setUniformf(RepeatingTextureShader.SEGMENT, layer.getPadLeft()/width, layer.getPadBottom()/height,
+				layer.getRegionWidth()/width, layer.getRegionHeight()/height);
+		repeatingShader.setUniformf(RepeatingTextureShader.REGION, region.getU()+halfTexelU, region.getV2()-halfTexelV,
+				region.getU2()-region.getU()-2*halfTexelU, region.getV()-region.getV2()+2*halfTexelV);
+		repeatingShader.setUniformf(RepeatingTextureShader.REPEAT, repeatX?1:0, repeatY?1:0);
+		batch.draw(texture, cachedPos.x-viewWidth*.5f, cachedPos.y-viewHeight*.5f, viewWidth, viewHeight,
+				startX, startY, startX+viewWidth/width, startY+viewHeight/height);
+		// The uniforms belong to this quad, so it has to be drawn before the next layer changes them
+		batch.setShader(previousShader);
+	}
+
+	@Override
+	public void dispose(){
+		if(repeatingShader != null){
+			repeatingShader.dispose();
+			repeatingShader = null;
+		}
+	}
 	
 
 }
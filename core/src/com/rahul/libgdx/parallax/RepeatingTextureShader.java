@@ -0,0 +1,61 @@
+package com.rahul.libgdx.parallax;
+
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+/**
+ * Created by buivuhoang on 26/10/17.
+ * Shader used by ParallaxBackground for layers in repeating texture mode.
+ * The texture coordinates of the quad are in layer segments, so 1 is the width or height of the layer including
+ * its paddings. Each fragment wraps its coordinate into a single segment and samples the region inside the paddings,
+ * which works for regions packed with others in an atlas where GL_REPEAT would wrap the whole page.
+ */
+class RepeatingTextureShader {
+	static final String SEGMENT = "u_segment";
+	static final String REGION = "u_region";
+	static final String REPEAT = "u_repeat";
+
+	private static final String VERTEX = "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+			+ "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+			+ "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+			+ "uniform mat4 u_projTrans;\n"
+			+ "varying vec4 v_color;\n"
+			+ "varying vec2 v_texCoords;\n"
+			+ "void main()\n"
+			+ "{\n"
+			+ "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+			+ "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+			+ "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+			+ "}\n";
+
+	private static final String FRAGMENT = "#ifdef GL_ES\n"
+			+ "precision mediump float;\n"
+			+ "#endif\n"
+			+ "varying vec4 v_color;\n"
+			+ "varying vec2 v_texCoords;\n"
+			+ "uniform sampler2D u_texture;\n"
+			// Start and size of the region inside the segment, in segments
+			+ "uniform vec4 " + SEGMENT + ";\n"
+			// Texture coordinates of the bottom left corner of the region and its size
+			+ "uniform vec4 " + REGION + ";\n"
+			// 1 for the axes that repeat, 0 for the ones drawn once
+			+ "uniform vec2 " + REPEAT + ";\n"
+			+ "void main()\n"
+			+ "{\n"
+			+ "    vec2 segment = mix(v_texCoords, fract(v_texCoords), " + REPEAT + ");\n"
+			+ "    vec2 local = (segment - " + SEGMENT + ".xy) / " + SEGMENT + ".zw;\n"
+			+ "    if (any(lessThan(local, vec2(0.0))) || any(greaterThan(local, vec2(1.0)))) {\n"
+			+ "        discard;\n"
+			+ "    }\n"
+			+ "    gl_FragColor = v_color * texture2D(u_texture, " + REGION + ".xy + local * " + REGION + ".zw);\n"
+			+ "}\n";
+
+	private RepeatingTextureShader() {}
+
+	static ShaderProgram create() {
+		ShaderProgram shader = new ShaderProgram(VERTEX, FRAGMENT);
+		if (!shader.isCompiled()) {
+			throw new IllegalArgumentException("Error compiling repeating texture shader: " + shader.getLog());
+		}
+		return shader;
+	}
+}
@@ -19,6 +19,7 @@ public class TextureRegionParallaxLayer extends ParallaxLayer{
 	protected TextureRegion texRegion;
 	private float padLeft=0,padRight=0,padBottom=0,padTop=0;
 	private float regionWidth,regionHeight;
+	private boolean repeatingTexture;
 
 	/**
 	 * Creates a TextureRegionParallaxLayer with regionWidth and regionHeight equal that of the texRegion. Paddings are set to 0.
@@ -82,6 +83,31 @@ public class TextureRegionParallaxLayer extends ParallaxLayer{
 
 
 
+	/**
+	 * advances the region of this layer, called once per frame when the layer is in repeating texture mode. Does nothing for a single region
+	 * @param delta time since the last frame
+	 */
+	public void update(float delta) {
+	}
+
+	/**
+	 * whether this layer is drawn as one quad covering the camera that scrolls by texture coordinates, see {@link #setRepeatingTexture(boolean)}
+	 * @return whether the layer is in repeating texture mode
+	 */
+	public boolean isRepeatingTexture() {
+		return repeatingTexture;
+	}
+
+	/**
+	 * In repeating texture mode ParallaxBackground draws this layer as one quad covering the camera and wraps the region in a shader,
+	 * instead of drawing the region once per visible segment, so the cost of the layer doesn't depend on the size of the screen.
+	 * {@link #draw(Batch, float, float, float)} isn't called in this mode, the current region is drawn with the paddings instead.
+	 * @param repeatingTexture whether to use repeating texture mode
+	 */
+	public void setRepeatingTexture(boolean repeatingTexture) {
+		this.repeatingTexture = repeatingTexture;
+	}
+
 	/**
 	 * returns the width of this layer (regionWidth+padLeft+padRight)
 	 */
@@ -1,13 +1,22 @@
 package com.sideprojects.megamanxphantomblade;
 
+import com.badlogic.gdx.utils.Pool;
+import com.sideprojects.megamanxphantomblade.entities.components.DamageComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.WallHitComponent;
+
 /**
  * Created by buivuhoang on 27/03/17.
+ * Attacks are reused through AttackPool, subclasses set themselves up in an init method instead of the constructor
+ * and let go of everything from the last shot in reset.
  */
-public abstract class Attack extends MovingObject {
+public abstract class Attack extends MovingObject implements Pool.Poolable {
     public final Damage damage;
     protected boolean shouldBeRemoved;
     protected boolean targetTookDamage;
 
+    // The pool this attack was obtained from, null once it has been freed or if it was created directly
+    AttackPool<? super Attack> pool;
+
     public boolean isShouldBeRemoved() {
         return shouldBeRemoved;
     }
@@ -16,8 +25,16 @@ public abstract class Attack extends MovingObject {
         this.shouldBeRemoved = shouldBeRemoved;
     }
 
-    public Attack(Damage damage, int direction) {
-        this.damage = damage;
+    public Attack() {
+        damage = new Damage(Damage.Type.NORMAL, Damage.Side.NONE, 0);
+        entity.add(new DamageComponent(damage));
+        if (canCollideWithWall()) {
+            entity.add(new WallHitComponent(this));
+        }
+    }
+
+    protected void init(Damage damage, int direction) {
+        this.damage.set(damage);
         this.direction = direction;
         shouldBeRemoved = false;
     }
@@ -27,6 +44,29 @@ public abstract class Attack extends MovingObject {
         super.die();
     }
 
+    /**
+     * Returns this attack to its pool once it has been taken off the map
+     */
+    public void free() {
+        if (pool != null) {
+            AttackPool<? super Attack> pool = this.pool;
+            this.pool = null;
+            pool.free(this);
+        }
+    }
+
+    @Override
+    public void reset() {
+        shouldBeRemoved = false;
+        targetTookDamage = false;
+        stateTime = 0;
+        direction = NONEDIRECTION;
+        grounded = false;
+        health.points = 0;
+        health.max = 0;
+        resetPreviousPos();
+    }
+
     public abstract boolean canCollideWithWall();
 
     public abstract void update(float delta);
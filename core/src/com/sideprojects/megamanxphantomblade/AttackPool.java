@@ -0,0 +1,31 @@
+package com.sideprojects.megamanxphantomblade;
+
+import com.badlogic.gdx.utils.Pool;
+
+import java.util.function.Supplier;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Pool of one type of attack. Attacks obtained from it return to it on Attack.free.
+ */
+public class AttackPool<T extends Attack> extends Pool<T> {
+    private final Supplier<T> newAttack;
+
+    public AttackPool(Supplier<T> newAttack, int max) {
+        super(max, max);
+        this.newAttack = newAttack;
+    }
+
+    @Override
+    protected T newObject() {
+        return newAttack.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T obtain() {
+        T attack = super.obtain();
+        attack.pool = (AttackPool<? super Attack>) this;
+        return attack;
+    }
+}
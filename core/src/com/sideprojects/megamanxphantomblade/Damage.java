@@ -47,6 +47,17 @@ public class Damage {
         this.difficulty = difficulty;
     }
 
+    public Damage set(Type type, Side side, int difficulty) {
+        this.type = type;
+        this.side = side;
+        this.difficulty = difficulty;
+        return this;
+    }
+
+    public Damage set(Damage damage) {
+        return set(damage.type, damage.side, damage.difficulty);
+    }
+
     public int getDamage() {
         int finalDamage = type.getDamage() + difficulty;
         if (finalDamage < 0) return 1;
@@ -0,0 +1,49 @@
+package com.sideprojects.megamanxphantomblade;
+
+/**
+ * Created by buivuhoang on 22/10/17.
+ * Accumulates frame time and splits it into simulation steps of a fixed length,
+ * so the simulation behaves the same regardless of the frame rate.
+ */
+public class FixedTimeStep {
+    private final float stepDuration;
+    private final int maxStepsPerFrame;
+    private float accumulator;
+
+    /**
+     * @param stepDuration The length of one simulation step, in seconds
+     * @param maxStepsPerFrame Catch up at most this many steps per frame. Time beyond this is dropped,
+     *                         so a long frame slows the game down instead of stalling it further.
+     */
+    public FixedTimeStep(float stepDuration, int maxStepsPerFrame) {
+        this.stepDuration = stepDuration;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Adds the frame's time.
+     * @return The number of simulation steps to run this frame
+     */
+    public int advance(float delta) {
+        accumulator += delta;
+        int steps = (int)(accumulator / stepDuration);
+        if (steps > maxStepsPerFrame) {
+            steps = maxStepsPerFrame;
+            accumulator = 0;
+        } else {
+            accumulator -= steps * stepDuration;
+        }
+        return steps;
+    }
+
+    /**
+     * @return How far the leftover time is into the next step, between 0 and 1
+     */
+    public float alpha() {
+        return Math.min(accumulator / stepDuration, 1);
+    }
+
+    public float getStepDuration() {
+        return stepDuration;
+    }
+}
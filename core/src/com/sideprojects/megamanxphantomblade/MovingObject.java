@@ -1,7 +1,14 @@
 package com.sideprojects.megamanxphantomblade;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.sideprojects.megamanxphantomblade.entities.components.AnimationComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.BoundsComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.HealthComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.PositionComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.VelocityComponent;
+import com.sideprojects.megamanxphantomblade.map.SpatialHash;
 import com.sideprojects.megamanxphantomblade.math.VectorCache;
 import com.sideprojects.megamanxphantomblade.physics.collision.CollisionDetectionRay;
 
@@ -10,12 +17,27 @@ import com.sideprojects.megamanxphantomblade.physics.collision.CollisionDetectio
  * Objects that move around in the map, with a position, velocity, direction,
  * bounding box.
  * These objects can collide with the map and with each other.
+ * The data of the object is kept in the components of its entity, so systems can go through only the
+ * components they need. The object keeps its entity for its whole life, attacks keep theirs through the pool.
  */
 public abstract class MovingObject {
     // Property for collision detection
     public CollisionDetectionRay horizontalRay;
     public CollisionDetectionRay diagonalRay;
 
+    // Properties for the map's broadphase, see SpatialHash
+    public SpatialHash<? extends MovingObject> spatialHash;
+    public int spatialHashCellX;
+    public int spatialHashCellY;
+    public int spatialHashOrder;
+
+    // The entity of this object in the map's engine
+    public final Entity entity;
+    protected final PositionComponent position;
+    public final HealthComponent health;
+    // What the object is drawn with, the renderers draw its frame
+    public final AnimationComponent sprite;
+
     // Directions
     public static final int LEFT = -1;
     public static final int RIGHT = 1;
@@ -24,20 +46,32 @@ public abstract class MovingObject {
     public int direction;
     public boolean grounded;
 
+    // Shortcuts to the vectors and boxes of the components, set them rather than replacing them
     public Vector2 pos;
     public Vector2 vel;
-    public Rectangle mapCollisionBounds = new Rectangle();
-    public Rectangle takeDamageBounds = new Rectangle();
-    private Rectangle dealDamageBounds = new Rectangle();
+    public Rectangle mapCollisionBounds;
+    public Rectangle takeDamageBounds;
+    private Rectangle dealDamageBounds;
 
     public float stateTime;
 
-    public int healthPoints;
-    public int maxHealthPoints;
+    public MovingObject() {
+        position = new PositionComponent();
+        VelocityComponent velocity = new VelocityComponent();
+        BoundsComponent bounds = new BoundsComponent();
+        health = new HealthComponent();
+        sprite = new AnimationComponent();
+        entity = new Entity().add(position).add(velocity).add(bounds).add(health).add(sprite);
+        pos = position.pos;
+        vel = velocity.vel;
+        mapCollisionBounds = bounds.collision;
+        takeDamageBounds = bounds.takeDamage;
+        dealDamageBounds = bounds.dealDamage;
+    }
 
     public void initialiseHealthPoints(int hp) {
-        maxHealthPoints = hp;
-        healthPoints = hp;
+        health.max = hp;
+        health.points = hp;
     }
 
     /**
@@ -46,7 +80,7 @@ public abstract class MovingObject {
      * @return Whether the damage has successfully been dealt
      */
     public boolean takeDamage(Damage damage) {
-        healthPoints -= damage.getDamage();
+        health.points -= damage.getDamage();
         return true;
     }
 
@@ -60,6 +94,27 @@ public abstract class MovingObject {
         takeDamageBounds.y = mapCollisionBounds.y + collisionBoundsOffset.y;
         dealDamageBounds.x = mapCollisionBounds.x + collisionBoundsOffset.x;
         dealDamageBounds.y = mapCollisionBounds.y + collisionBoundsOffset.y;
+        if (spatialHash != null) {
+            spatialHash.update(this);
+        }
+    }
+
+    /**
+     * Stops interpolating from the previous position, for when the object is teleported
+     */
+    public void resetPreviousPos() {
+        position.hasPrevious = false;
+    }
+
+    /**
+     * @param alpha How far the current frame is between the previous simulation step and the current one
+     * @return The position to render this object at
+     */
+    public Vector2 getInterpolatedPos(float alpha, Vector2 out) {
+        if (!position.hasPrevious) {
+            return out.set(pos);
+        }
+        return out.set(position.previous).lerp(pos, alpha);
     }
 
     public int movingDirection() {
@@ -72,11 +127,11 @@ public abstract class MovingObject {
     }
 
     public void die() {
-        healthPoints = 0;
+        health.points = 0;
     }
 
     public boolean isDead() {
-        return healthPoints <= 0;
+        return health.points <= 0;
     }
 
     public boolean isAffectedByGravity() {
@@ -89,6 +144,17 @@ public abstract class MovingObject {
 
     protected Vector2 getCollisionBoundsOffset() { return VectorCache.get(0f, 0f); }
 
+    /**
+     * @return How far the damage bounds can reach from the position of this object
+     */
+    public float getDamageBoundsReach() {
+        Vector2 offset = getCollisionBoundsOffset();
+        float size = Math.max(
+                Math.max(takeDamageBounds.width, takeDamageBounds.height),
+                Math.max(dealDamageBounds.width, dealDamageBounds.height));
+        return Math.max(Math.abs(offset.x), Math.abs(offset.y)) + size;
+    }
+
     public Rectangle getDealDamageBounds() {
         return dealDamageBounds;
     }
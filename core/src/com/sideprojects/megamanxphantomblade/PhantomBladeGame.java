@@ -2,9 +2,14 @@ package com.sideprojects.megamanxphantomblade;
 
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.sideprojects.megamanxphantomblade.assets.Assets;
 import com.sideprojects.megamanxphantomblade.input.PlayerInputProcessor;
 import com.sideprojects.megamanxphantomblade.logging.TraceLogger;
 import com.sideprojects.megamanxphantomblade.map.MapBase;
@@ -13,44 +18,82 @@ import com.sideprojects.megamanxphantomblade.physics.player.x.PlayerXPhysicsFact
 import com.sideprojects.megamanxphantomblade.player.x.PlayerXFactory;
 import com.sideprojects.megamanxphantomblade.player.x.PlayerXSound;
 import com.sideprojects.megamanxphantomblade.renderers.DebugRenderer;
+import com.sideprojects.megamanxphantomblade.renderers.LoadingRenderer;
 import com.sideprojects.megamanxphantomblade.renderers.WorldRenderer;
 import com.sideprojects.megamanxphantomblade.sound.SoundPlayer;
 
 public class PhantomBladeGame extends ApplicationAdapter {
+	public static final float TIME_STEP = 1 / 60f;
+	private static final int MAX_STEPS_PER_FRAME = 5;
+
 	MapBase map;
 	WorldRenderer mapRenderer;
 	DebugRenderer debugRenderer;
 	KeyMap keyMap;
+	PlayerInputProcessor input;
 	ShapeRenderer shapeRenderer;
 	PlayerXSound playerSounds;
+	FixedTimeStep timeStep;
+	// Loads the files of the stage in the background before it starts
+	AssetManager assets;
+	LoadingRenderer loadingRenderer;
 
 	@Override
 	public void resize(int width, int height) {
 		super.resize(width, height);
-		mapRenderer.resize(width, height);
+		if (mapRenderer != null) {
+			mapRenderer.resize(width, height);
+		}
 	}
 
 	@Override
 	public void create () {
 		keyMap = new KeyMap();
+		shapeRenderer = new ShapeRenderer();
+		shapeRenderer.setAutoShapeType(true);
+		timeStep = new FixedTimeStep(TIME_STEP, MAX_STEPS_PER_FRAME);
+		assets = new AssetManager();
+		assets.setLoader(TiledMap.class, new TmxMapLoader(new InternalFileHandleResolver()));
+		Assets.setManager(assets);
+		IntroStage.getManifest().queue(assets);
+		loadingRenderer = new LoadingRenderer();
+	}
+
+	private void startStage() {
 		SoundPlayer sound = new SoundPlayer();
+		// Keep every sound of the stage decoded, so none is decoded again while playing
+		sound.preload(IntroStage.getManifest().getSounds());
 		playerSounds = new PlayerXSound(sound);
 		playerSounds.preload();
-		map = new IntroStage(new PlayerXFactory(), new PlayerXPhysicsFactory(new PlayerInputProcessor(keyMap), playerSounds), sound, Difficulty.NORMAL);
+		input = new PlayerInputProcessor(keyMap);
+		Gdx.input.setInputProcessor(input);
+		map = new IntroStage(new PlayerXFactory(), new PlayerXPhysicsFactory(input, playerSounds), sound, Difficulty.NORMAL);
 		mapRenderer = new WorldRenderer(new TraceLogger(), map);
 		debugRenderer = new DebugRenderer(mapRenderer);
-		shapeRenderer = new ShapeRenderer();
-		shapeRenderer.setAutoShapeType(true);
 	}
 
 	@Override
 	public void render () {
 		Gdx.gl.glClearColor(0, 0, 0, 1);
 		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+		if (map == null) {
+			// Keep showing the progress until every file is loaded, then build the stage from them
+			if (!assets.update()) {
+				loadingRenderer.render(assets.getProgress());
+				return;
+			}
+			startStage();
+		}
 		float delta = Gdx.graphics.getRawDeltaTime();
-		map.update(delta);
+		// Run the simulation in fixed steps, and render in between them
+		int steps = timeStep.advance(delta);
+		for (int i = 0; i < steps; i++) {
+			map.update(TIME_STEP);
+			// A press is seen by the first step after it, frames without a step keep it for the next one
+			input.endStep();
+		}
 //		renderGradientBackground();
-		mapRenderer.render(delta);
+		mapRenderer.render(delta, timeStep.alpha());
 //		debugRenderer.render(delta);
 	}
 
@@ -73,9 +116,14 @@ public class PhantomBladeGame extends ApplicationAdapter {
 	@Override
 	public void dispose () {
 		shapeRenderer.dispose();
-		mapRenderer.dispose();
-		debugRenderer.dispose();
-		playerSounds.dispose();
-		map.dispose();
+		loadingRenderer.dispose();
+		if (map != null) {
+			mapRenderer.dispose();
+			debugRenderer.dispose();
+			playerSounds.dispose();
+			map.dispose();
+		}
+		assets.dispose();
+		Assets.setManager(null);
 	}
 }
@@ -2,6 +2,8 @@ package com.sideprojects.megamanxphantomblade.animation;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
 
 import java.util.HashMap;
 import java.util.List;
@@ -10,19 +12,40 @@ import java.util.Map;
 /**
  * Created by buivuhoang on 07/04/17.
  */
-public class AnimationCache<T> {
+public class AnimationCache<T> implements Disposable {
     private Map<T, Animation<TextureRegion>> cache;
+    // The atlas of every loaded animation, to release them on dispose
+    private Array<String> loadedAtlases;
 
     public AnimationCache() {
         cache = new HashMap<>();
+        loadedAtlases = new Array<>();
     }
 
-    public Animation<TextureRegion> retrieveFromCache(T key, boolean flipped, String texture, List<Integer> animationIndex, float frameDuration) {
+    public Animation<TextureRegion> retrieveFromCache(T key, String texture, List<Integer> animationIndex, float frameDuration) {
         if (!cache.containsKey(key)) {
             cache.put(key,
-                    AnimationLoader.load(texture, animationIndex, flipped, frameDuration));
+                    AnimationLoader.load(texture, animationIndex, frameDuration));
+            loadedAtlases.add(texture);
         }
 
         return cache.get(key);
     }
+
+    public boolean contains(T key) {
+        return cache.containsKey(key);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public void dispose() {
+        for (String atlas : loadedAtlases) {
+            AnimationLoader.release(atlas);
+        }
+        loadedAtlases.clear();
+        cache.clear();
+    }
 }
@@ -1,9 +1,12 @@
 package com.sideprojects.megamanxphantomblade.animation;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
+import com.sideprojects.megamanxphantomblade.assets.Assets;
 
 import java.util.List;
 
@@ -11,10 +14,36 @@ import java.util.List;
  * Created by buivuhoang on 05/02/17.
  */
 public class AnimationLoader {
+    // Null means the textures are loaded onto the GPU
+    private static TextureSource textureSource;
+    private static final AtlasRegistry atlases = new AtlasRegistry(AnimationLoader::loadAtlas, AnimationLoader::unloadAtlas);
+
     private AnimationLoader() {}
 
-    public static Animation<TextureRegion> load(String atlasFile, List<Integer> animationIndex, boolean flipped, float frameDuration) {
-        Array<TextureAtlas.AtlasRegion> regions = load(atlasFile, flipped, false);
+    /**
+     * Changes where the textures of sprites and maps come from, e.g. to simulate the game without a GPU
+     */
+    public static void setTextureSource(TextureSource source) {
+        textureSource = source;
+    }
+
+    public static TextureSource getTextureSource() {
+        return textureSource;
+    }
+
+    /**
+     * The atlases that are currently loaded, with their texture memory
+     */
+    public static AtlasRegistry getAtlasRegistry() {
+        return atlases;
+    }
+
+    /**
+     * Loads an animation from the shared atlas of the file, or from the packed sprites if the file was packed. Call release with the same file once the animation is no longer used.
+     * The frames face the way they are drawn in the atlas, the renderers mirror them for the other direction.
+     */
+    public static Animation<TextureRegion> load(String atlasFile, List<Integer> animationIndex, float frameDuration) {
+        Array<TextureAtlas.AtlasRegion> regions = load(atlasFile, false);
 
         Array<TextureAtlas.AtlasRegion> indexedRegions = new Array<>();
 
@@ -26,27 +55,73 @@ public class AnimationLoader {
             }
         }
 
-        return new Animation<>(frameDuration, indexedRegions);
+        // Pass a typed array, otherwise getKeyFrames returns an Object[]
+        return new Animation<>(frameDuration, indexedRegions.toArray(TextureRegion.class));
     }
 
-    private static Array<TextureAtlas.AtlasRegion> load(String atlasFile, boolean xFlipped, boolean yFlipped) {
-        TextureAtlas atlas = new TextureAtlas(atlasFile);
-
-        Array<TextureAtlas.AtlasRegion> regions = atlas.getRegions();
+    private static Array<TextureAtlas.AtlasRegion> load(String atlasFile, boolean yFlipped) {
+        Array<TextureAtlas.AtlasRegion> regions = findRegions(atlasFile);
 
-        if (xFlipped || yFlipped) {
-            for (TextureRegion region: regions) {
-                region.flip(xFlipped, yFlipped);
+        if (yFlipped) {
+            // The atlas is shared, so flip copies of the regions
+            Array<TextureAtlas.AtlasRegion> flippedRegions = new Array<>(true, regions.size, TextureAtlas.AtlasRegion.class);
+            for (TextureAtlas.AtlasRegion region : regions) {
+                TextureAtlas.AtlasRegion flippedRegion = new TextureAtlas.AtlasRegion(region);
+                flippedRegion.flip(false, true);
+                flippedRegions.add(flippedRegion);
             }
+            return flippedRegions;
         }
 
         return regions;
     }
 
+    private static Array<TextureAtlas.AtlasRegion> findRegions(String atlasFile) {
+        if (!PackedSprites.contains(atlasFile)) {
+            return atlases.acquire(atlasFile).getRegions();
+        }
+        Array<TextureAtlas.AtlasRegion> regions = PackedSprites.findRegions(atlases.acquire(PackedSprites.ATLAS), atlasFile);
+        if (regions.size == 0) {
+            atlases.release(PackedSprites.ATLAS);
+            throw new IllegalStateException(atlasFile + " is missing from " + PackedSprites.ATLAS + ", run the packSprites task again");
+        }
+        return regions;
+    }
+
+    private static TextureAtlas loadAtlas(String atlasFile) {
+        TextureAtlas preloaded = Assets.getLoaded(atlasFile, TextureAtlas.class);
+        if (preloaded != null) {
+            return preloaded;
+        }
+        if (textureSource == null) {
+            return new TextureAtlas(atlasFile);
+        }
+        FileHandle file = Gdx.files.internal(atlasFile);
+        TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(file, file.parent(), false);
+        for (TextureAtlas.TextureAtlasData.Page page : data.getPages()) {
+            page.texture = textureSource.load(page.textureFile);
+        }
+        return new TextureAtlas(data);
+    }
+
+    private static void unloadAtlas(TextureAtlas atlas) {
+        // Preloaded atlases stay loaded until the AssetManager unloads them
+        if (!Assets.isManaged(atlas)) {
+            atlas.dispose();
+        }
+    }
+
+    /**
+     * Lets go of an atlas loaded by load or loadGui, it is disposed once nothing uses it anymore
+     */
+    public static void release(String atlasFile) {
+        atlases.release(PackedSprites.getAtlasFile(atlasFile));
+    }
+
     /**
      * GUI elements are rendered from the top to bottom so need to flip y
      */
     public static Array<TextureAtlas.AtlasRegion> loadGui(String atlasFile) {
-        return load(atlasFile, false, true);
+        return load(atlasFile, true);
     }
 }
@@ -0,0 +1,121 @@
+package com.sideprojects.megamanxphantomblade.animation;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Created by buivuhoang on 24/10/17.
+ * Keeps one TextureAtlas per atlas file, shared by everything that uses it.
+ * Every acquire needs to be matched by a release, the atlas is disposed when its last user releases it.
+ */
+public class AtlasRegistry {
+    private class Entry {
+        private final TextureAtlas atlas;
+        private final long textureMemory;
+        private int references;
+
+        private Entry(TextureAtlas atlas) {
+            this.atlas = atlas;
+            this.textureMemory = getTextureMemory(atlas);
+        }
+    }
+
+    private final Function<String, TextureAtlas> loader;
+    private final Consumer<TextureAtlas> unloader;
+    private final ObjectMap<String, Entry> atlases;
+    private long textureMemory;
+
+    public AtlasRegistry(Function<String, TextureAtlas> loader) {
+        this(loader, TextureAtlas::dispose);
+    }
+
+    /**
+     * @param unloader Called instead of dispose once an atlas is no longer used
+     */
+    public AtlasRegistry(Function<String, TextureAtlas> loader, Consumer<TextureAtlas> unloader) {
+        this.loader = loader;
+        this.unloader = unloader;
+        atlases = new ObjectMap<>();
+    }
+
+    /**
+     * Returns the atlas of the file, loading it if nobody is using it yet.
+     * The regions of the atlas are shared, so they must not be changed.
+     */
+    public TextureAtlas acquire(String atlasFile) {
+        Entry entry = atlases.get(atlasFile);
+        if (entry == null) {
+            entry = new Entry(loader.apply(atlasFile));
+            atlases.put(atlasFile, entry);
+            textureMemory += entry.textureMemory;
+        }
+        entry.references++;
+        return entry.atlas;
+    }
+
+    public void release(String atlasFile) {
+        Entry entry = atlases.get(atlasFile);
+        if (entry == null) {
+            throw new IllegalStateException(atlasFile + " is released more often than it is acquired");
+        }
+        entry.references--;
+        if (entry.references == 0) {
+            atlases.remove(atlasFile);
+            textureMemory -= entry.textureMemory;
+            unloader.accept(entry.atlas);
+        }
+    }
+
+    public int getReferenceCount(String atlasFile) {
+        Entry entry = atlases.get(atlasFile);
+        return entry == null ? 0 : entry.references;
+    }
+
+    /**
+     * @return The number of loaded atlases
+     */
+    public int size() {
+        return atlases.size;
+    }
+
+    /**
+     * @return The estimated GPU memory used by the textures of all loaded atlases, in bytes
+     */
+    public long getTextureMemory() {
+        return textureMemory;
+    }
+
+    static long getTextureMemory(TextureAtlas atlas) {
+        long bytes = 0;
+        for (Texture texture : atlas.getTextures()) {
+            long textureBytes = (long)texture.getWidth() * texture.getHeight() * bytesPerPixel(texture.getTextureData().getFormat());
+            if (texture.getTextureData().useMipMaps()) {
+                // The mip chain adds a third of the base level
+                textureBytes += textureBytes / 3;
+            }
+            bytes += textureBytes;
+        }
+        return bytes;
+    }
+
+    private static int bytesPerPixel(Pixmap.Format format) {
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.sideprojects.megamanxphantomblade.animation;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Created by buivuhoang on 25/10/17.
+ * Resolves the sprite sheets in Sprites to the shared pages made by the packSprites task.
+ * Every sheet under sprites/ is packed, its frames are the regions named after the path of the sheet,
+ * e.g. sprites/x/idle.txt becomes x/idle, indexed in the order of the original sheet.
+ * Without the packed atlas the sheets are loaded one by one.
+ */
+public class PackedSprites {
+    public static final String ATLAS = "packed/sprites.atlas";
+    private static final String SPRITES_FOLDER = "sprites/";
+    private static final String SHEET_EXTENSION = ".txt";
+
+    // Null until checked
+    private static Boolean available;
+
+    private PackedSprites() {}
+
+    public static boolean isAvailable() {
+        if (available == null) {
+            available = Gdx.files != null && Gdx.files.internal(ATLAS).exists();
+        }
+        return available;
+    }
+
+    /**
+     * Overrides whether the packed atlas is used, null checks for the file again
+     */
+    public static void setAvailable(Boolean packed) {
+        available = packed;
+    }
+
+    /**
+     * @return Whether the frames of the sprite sheet are in the packed atlas
+     */
+    public static boolean contains(String spriteSheet) {
+        return spriteSheet.startsWith(SPRITES_FOLDER) && spriteSheet.endsWith(SHEET_EXTENSION) && isAvailable();
+    }
+
+    /**
+     * @return The atlas file to load for the sprite sheet
+     */
+    public static String getAtlasFile(String spriteSheet) {
+        return contains(spriteSheet) ? ATLAS : spriteSheet;
+    }
+
+    public static String getRegionName(String spriteSheet) {
+        return spriteSheet.substring(SPRITES_FOLDER.length(), spriteSheet.length() - SHEET_EXTENSION.length());
+    }
+
+    /**
+     * @return The frames of the sprite sheet in the packed atlas, in their original order
+     */
+    public static Array<TextureAtlas.AtlasRegion> findRegions(TextureAtlas packed, String spriteSheet) {
+        Array<TextureAtlas.AtlasRegion> regions = packed.findRegions(getRegionName(spriteSheet));
+        regions.sort((first, second) -> first.index - second.index);
+        return regions;
+    }
+}
@@ -6,31 +6,84 @@ import com.badlogic.gdx.math.Vector2;
 
 /**
  * Created by buivuhoang on 14/03/17.
+ * A slot in Particles. Slots are created once and reused for every particle spawned in them.
+ * Animated particles live as long as their animation, explode fragments fall with gravity for a set time.
  */
 public class Particle {
     public enum ParticleType {
-        WALLKICK,
-        WALLSLIDE,
-        DASH
+        WALLKICK(4),
+        WALLSLIDE(2),
+        DASH(4),
+        EXPLODE_FRAGMENT(32);
+
+        // Most particles of the type alive at once, spawning another one replaces the oldest
+        public final int budget;
+
+        ParticleType(int budget) {
+            this.budget = budget;
+        }
     }
+    // Null for explode fragments
     public Animation<TextureRegion> animation;
     public TextureRegion currentFrame;
     public ParticleType type;
-    public Vector2 pos;
+    public final Vector2 pos = new Vector2();
+    // Position at the start of the current simulation step, used to interpolate rendering between steps
+    public final Vector2 previousPos = new Vector2();
+    public final Vector2 vel = new Vector2();
     public float stateTime;
+    public float lifetime;
     public int direction;
+    public boolean alive;
 
-    public Particle(ParticleType type, float x, float y, int direction, Animation<TextureRegion> animation) {
+    Particle(ParticleType type) {
         this.type = type;
-        this.pos = new Vector2(x, y);
+    }
+
+    void spawn(float x, float y, int direction, Animation<TextureRegion> animation) {
+        spawn(x, y, direction, animation.getAnimationDuration());
         this.animation = animation;
+        currentFrame = null;
+        vel.setZero();
+    }
+
+    void spawnFragment(TextureRegion frame, float x, float y, float velX, float velY, int direction, float lifetime) {
+        spawn(x, y, direction, lifetime);
+        animation = null;
+        currentFrame = frame;
+        vel.set(velX, velY);
+    }
+
+    private void spawn(float x, float y, int direction, float lifetime) {
+        pos.set(x, y);
+        previousPos.set(x, y);
         this.direction = direction;
+        this.lifetime = lifetime;
         stateTime = 0;
+        alive = true;
     }
 
-    public void update(float deltaTime) {
+    public void update(float deltaTime, float gravity, float maxFallspeed) {
+        previousPos.set(pos);
         stateTime += deltaTime;
-        currentFrame = animation.getKeyFrame(stateTime, false);
+        if (animation != null) {
+            currentFrame = animation.getKeyFrame(stateTime, false);
+        } else {
+            if (vel.y > maxFallspeed) {
+                vel.y -= gravity * deltaTime;
+            } else {
+                vel.y = maxFallspeed;
+            }
+            pos.x += vel.x * deltaTime;
+            pos.y += vel.y * deltaTime;
+        }
+        if (stateTime >= lifetime) {
+            alive = false;
+        }
+    }
+
+    public Vector2 getInterpolatedPos(float alpha, Vector2 out) {
+        return out.set(previousPos).lerp(pos, alpha);
     }
 
     public int currentFrameIndex() {
@@ -2,20 +2,44 @@ package com.sideprojects.megamanxphantomblade.animation;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Queue;
-import com.sideprojects.megamanxphantomblade.MovingObject;
-import com.sideprojects.megamanxphantomblade.sound.LRUCache;
+import com.badlogic.gdx.utils.Disposable;
 
 /**
  * Created by buivuhoang on 14/03/17.
+ * Keeps the particles of each type in a ring of slots the size of the type's budget, so spawning and retiring
+ * are O(1) and nothing is allocated once the map is running.
+ * Particles of a type are retired from the oldest, and every expired one at the front is retired on update.
+ * A particle that expires before older ones stops being updated and drawn, and its slot is freed once they are gone.
+ * When a ring is full the oldest particle of the type is replaced.
  */
-public class Particles {
-    protected LRUCache<ParticleKey, Animation<TextureRegion>> animationCache;
-    protected Queue<Particle> particleQueue;
+public class Particles implements Disposable {
+    private static final Particle.ParticleType[] TYPES = Particle.ParticleType.values();
 
-    public Particles(int initialSize) {
-        particleQueue = new Queue<>(initialSize);
-        animationCache = new LRUCache<>(initialSize);
+    // Loaded on the first particle of the type
+    protected Animation<TextureRegion>[] animations;
+    private Particle[][] rings;
+    private int[] heads;
+    private int[] counts;
+
+    private float gravity;
+    private float maxFallspeed;
+
+    public Particles(float gravity, float maxFallspeed) {
+        this.gravity = gravity;
+        this.maxFallspeed = maxFallspeed;
+        @SuppressWarnings("unchecked")
+        Animation<TextureRegion>[] animations = (Animation<TextureRegion>[]) new Animation<?>[TYPES.length];
+        this.animations = animations;
+        rings = new Particle[TYPES.length][];
+        heads = new int[TYPES.length];
+        counts = new int[TYPES.length];
+        for (Particle.ParticleType type : TYPES) {
+            Particle[] ring = new Particle[type.budget];
+            for (int i = 0; i < ring.length; i++) {
+                ring[i] = new Particle(type);
+            }
+            rings[type.ordinal()] = ring;
+        }
     }
 
     /**
@@ -27,96 +51,137 @@ public class Particles {
      * @param direction The direction which the particle effect should have
      */
     public void add(Particle.ParticleType type, float x, float y, boolean isSingletonParticle, int direction) {
-        ParticleKey key = new ParticleKey(type, direction);
-        if (!animationCache.containsKey(key)) {
-            loadParticleAnimation(key);
+        // Both directions share the animation, the renderer mirrors it
+        Animation<TextureRegion> animation = getAnimation(type);
+        if (animation == null) {
+            return;
         }
-        Animation<TextureRegion> animation = animationCache.get(key);
-        if (animation != null) {
-            if (particleQueue.size != 0 && isSingletonParticle &&
-                    particleQueue.last().type == type) {
-                Particle p = particleQueue.last();
-                p.pos.x = x;
-                p.pos.y = y;
-
-                // TODO: Hack to loop the middle frames of wall sliding animation
-                if (type == Particle.ParticleType.WALLSLIDE && p.currentFrameIndex() == 4) {
-                    p.setToFrameIndex(1);
-                }
-            } else {
-                Particle p = new Particle(type, x, y, direction, animation);
-                particleQueue.addLast(p);
+        Particle last = last(type);
+        if (isSingletonParticle && last != null && last.alive) {
+            last.pos.x = x;
+            last.pos.y = y;
+
+            // TODO: Hack to loop the middle frames of wall sliding animation
+            if (type == Particle.ParticleType.WALLSLIDE && last.currentFrameIndex() == 4) {
+                last.setToFrameIndex(1);
+            }
+        } else {
+            obtain(type).spawn(x, y, direction, animation);
+        }
+    }
+
+    /**
+     * Add a fragment of an exploding enemy, which falls with gravity until its lifetime runs out
+     */
+    public void addFragment(TextureRegion frame, float x, float y, float velX, float velY, int direction, float lifetime) {
+        obtain(Particle.ParticleType.EXPLODE_FRAGMENT).spawnFragment(frame, x, y, velX, velY, direction, lifetime);
+    }
+
+    private Animation<TextureRegion> getAnimation(Particle.ParticleType type) {
+        Animation<TextureRegion> animation = animations[type.ordinal()];
+        if (animation == null) {
+            String atlasFile = getAtlasFile(type);
+            if (atlasFile != null) {
+                animation = AnimationLoader.load(atlasFile, null, 0.05f);
+                animations[type.ordinal()] = animation;
             }
         }
+        return animation;
     }
 
-    private void loadParticleAnimation(ParticleKey key) {
-        boolean flipped = key.direction == MovingObject.LEFT;
-        Animation<TextureRegion> animation = null;
-        switch (key.type) {
+    private static String getAtlasFile(Particle.ParticleType type) {
+        switch (type) {
             case DASH:
-                animation = AnimationLoader.load(Sprites.DASH_DUST, null, flipped, 0.05f);
-                break;
+                return Sprites.DASH_DUST;
             case WALLKICK:
-                animation = AnimationLoader.load(Sprites.WALL_KICK, null, flipped, 0.05f);
-                break;
+                return Sprites.WALL_KICK;
             case WALLSLIDE:
-                animation = AnimationLoader.load(Sprites.WALLSLIDE, null, flipped, 0.05f);
-                break;
-        }
-        if (animation != null) {
-            animationCache.put(key, animation);
+                return Sprites.WALLSLIDE;
+            default:
+                return null;
         }
     }
 
-    public int size() {
-        return particleQueue.size;
+    /**
+     * @return The slot for a new particle of the type, the oldest one if the type is at its budget
+     */
+    private Particle obtain(Particle.ParticleType type) {
+        int t = type.ordinal();
+        Particle[] ring = rings[t];
+        if (counts[t] == ring.length) {
+            Particle oldest = ring[heads[t]];
+            heads[t] = (heads[t] + 1) % ring.length;
+            return oldest;
+        }
+        counts[t]++;
+        return ring[(heads[t] + counts[t] - 1) % ring.length];
     }
 
-    public Particle get(int index) {
-        return particleQueue.get(index);
+    private Particle last(Particle.ParticleType type) {
+        int t = type.ordinal();
+        if (counts[t] == 0) {
+            return null;
+        }
+        return rings[t][(heads[t] + counts[t] - 1) % rings[t].length];
     }
 
-    public void update(float deltaTime) {
-        for (int i = 0; i < particleQueue.size; i++) {
-            Particle p = particleQueue.get(i);
-            p.update(deltaTime);
-        }
-        // Remove the last element if the animation runs out
-        // Try to only remove one at a time, removing a bunch of elements is dangerous
-        if (particleQueue.size > 0) {
-            Particle first = particleQueue.first();
-            if (first.stateTime >= first.animation.getAnimationDuration()) {
-                particleQueue.removeFirst();
-            }
-        }
+    /**
+     * @return The number of slots of the type in use, from the oldest particle to the newest.
+     * Slots in between may hold particles that have expired already, skip the ones that are not alive.
+     */
+    public int count(Particle.ParticleType type) {
+        return counts[type.ordinal()];
     }
 
-    protected class ParticleKey {
-        public Particle.ParticleType type;
-        public int direction;
+    /**
+     * @param index From 0 for the oldest particle of the type to count(type) - 1 for the newest
+     */
+    public Particle get(Particle.ParticleType type, int index) {
+        int t = type.ordinal();
+        return rings[t][(heads[t] + index) % rings[t].length];
+    }
 
-        protected ParticleKey(Particle.ParticleType type, int direction) {
-            this.type = type;
-            this.direction = direction;
+    /**
+     * @return The number of particles alive
+     */
+    public int size() {
+        int size = 0;
+        for (Particle.ParticleType type : TYPES) {
+            for (int i = 0; i < count(type); i++) {
+                if (get(type, i).alive) {
+                    size++;
+                }
+            }
         }
+        return size;
+    }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-
-            ParticleKey that = (ParticleKey) o;
-
-            if (direction != that.direction) return false;
-            return type == that.type;
+    public void update(float deltaTime) {
+        for (int t = 0; t < TYPES.length; t++) {
+            Particle[] ring = rings[t];
+            for (int i = 0; i < counts[t]; i++) {
+                Particle p = ring[(heads[t] + i) % ring.length];
+                if (p.alive) {
+                    p.update(deltaTime, gravity, maxFallspeed);
+                }
+            }
+            // Retire the expired particles at the front
+            while (counts[t] > 0 && !ring[heads[t]].alive) {
+                heads[t] = (heads[t] + 1) % ring.length;
+                counts[t]--;
+            }
         }
+    }
 
-        @Override
-        public int hashCode() {
-            int result = type.hashCode();
-            result = 31 * result + direction;
-            return result;
+    @Override
+    public void dispose() {
+        for (Particle.ParticleType type : TYPES) {
+            if (animations[type.ordinal()] != null) {
+                AnimationLoader.release(getAtlasFile(type));
+                animations[type.ordinal()] = null;
+            }
+            heads[type.ordinal()] = 0;
+            counts[type.ordinal()] = 0;
         }
     }
 }
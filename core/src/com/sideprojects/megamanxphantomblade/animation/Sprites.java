@@ -51,6 +51,18 @@ public class Sprites {
     // GUI elements
     public static final String GUI_ELEMENTS = "sprites/ingame_gui.txt";
 
+    // Groups to build the manifests of stages from
+    public static final String[] PLAYER_X = {
+            X_IDLE, X_RUN, X_JUMP, X_DASH, X_WALL_SLIDE, X_DASH_ROCKET, X_UP_DASH, X_UP_DASH_ROCKET, X_DAMAGED_NORMAL,
+            X_IDLE_LOW_HEALTH, X_IDLE_SHOOT, X_IDLE_SHOOT_CHARGED, X_RUN_SHOOT_LIGHT, X_RUN_SHOOT_NO_LIGHT,
+            X_JUMP_SHOOT_LIGHT, X_JUMP_SHOOT_NO_LIGHT, X_DASH_SHOOT_LIGHT, X_DASH_SHOOT_NO_LIGHT,
+            X_WALLSLIDE_SHOOT_LIGHT, X_WALLSLIDE_SHOOT_NO_LIGHT, X_SHOOT_MUZZLE, X_SHOOT_MEDIUM_MUZZLE,
+            X_SHOOT_HEAVY_MUZZLE, X_BULLET_SMALL, X_BULLET_HEAVY, X_BULLET_MEDIUM, X_BULLET_SMALL_EXPLODE,
+            X_BULLET_HEAVY_EXPLODE, X_CHARGE_PARTICLES
+    };
+    public static final String[] COMMON = {
+            BULLET_NO_DAMAGE_EXPLODE, WALLSLIDE, WALL_KICK, DASH_DUST, ENEMY_EXPLODE, GUI_ELEMENTS
+    };
 
     private Sprites() {}
 }
@@ -0,0 +1,13 @@
+package com.sideprojects.megamanxphantomblade.animation;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ * Creates the textures of sprite atlases and maps.
+ * By default textures are uploaded to the GPU, a different source can be used to run without one.
+ */
+public interface TextureSource {
+    Texture load(FileHandle file);
+}
@@ -0,0 +1,39 @@
+package com.sideprojects.megamanxphantomblade.assets;
+
+import com.badlogic.gdx.assets.AssetManager;
+
+/**
+ * Created by buivuhoang on 25/10/17.
+ * Gives the loaders access to the assets preloaded by the AssetManager of the stage.
+ * Without a manager, or for assets that weren't preloaded, the loaders fall back to loading the files themselves.
+ */
+public class Assets {
+    private static AssetManager manager;
+
+    private Assets() {}
+
+    public static void setManager(AssetManager assetManager) {
+        manager = assetManager;
+    }
+
+    public static AssetManager getManager() {
+        return manager;
+    }
+
+    /**
+     * @return The preloaded asset, or null if it isn't loaded
+     */
+    public static <T> T getLoaded(String fileName, Class<T> type) {
+        if (manager == null || !manager.isLoaded(fileName, type)) {
+            return null;
+        }
+        return manager.get(fileName, type);
+    }
+
+    /**
+     * Whether the asset belongs to the manager, in which case it is disposed by the manager and not by its users
+     */
+    public static boolean isManaged(Object asset) {
+        return manager != null && asset != null && manager.containsAsset(asset);
+    }
+}
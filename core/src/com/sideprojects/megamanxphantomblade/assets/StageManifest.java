@@ -0,0 +1,69 @@
+package com.sideprojects.megamanxphantomblade.assets;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.utils.Array;
+import com.sideprojects.megamanxphantomblade.animation.PackedSprites;
+
+/**
+ * Created by buivuhoang on 25/10/17.
+ * Lists the files a stage uses, so they can all be loaded before the stage starts.
+ */
+public class StageManifest {
+    public final String mapFile;
+    private Array<String> atlases;
+    private Array<String> sounds;
+
+    public StageManifest(String mapFile) {
+        this.mapFile = mapFile;
+        atlases = new Array<>();
+        sounds = new Array<>();
+    }
+
+    /**
+     * Sprite sheets that were packed are loaded from the packed atlas instead
+     */
+    public StageManifest addAtlases(String... files) {
+        for (String file : files) {
+            addAll(atlases, PackedSprites.getAtlasFile(file));
+        }
+        return this;
+    }
+
+    public StageManifest addSounds(String... files) {
+        addAll(sounds, files);
+        return this;
+    }
+
+    public Array<String> getAtlases() {
+        return atlases;
+    }
+
+    public Array<String> getSounds() {
+        return sounds;
+    }
+
+    /**
+     * Queues every file of the stage. The manager loads them in the background while update is called.
+     * The map needs a TiledMap loader to be set on the manager.
+     */
+    public void queue(AssetManager manager) {
+        manager.load(mapFile, TiledMap.class);
+        for (String atlas : atlases) {
+            manager.load(atlas, TextureAtlas.class);
+        }
+        for (String sound : sounds) {
+            manager.load(sound, Sound.class);
+        }
+    }
+
+    private static void addAll(Array<String> files, String... newFiles) {
+        for (String file : newFiles) {
+            if (!files.contains(file, false)) {
+                files.add(file);
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.sideprojects.megamanxphantomblade.enemies;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Disposable;
 import com.sideprojects.megamanxphantomblade.MovingObject;
 import com.sideprojects.megamanxphantomblade.animation.AnimationCache;
 import com.sideprojects.megamanxphantomblade.animation.Sprites;
@@ -10,19 +11,19 @@ import com.sideprojects.megamanxphantomblade.animation.Sprites;
 import java.util.List;
 
 /**
- * Loads player animations depending on the player state and direction
+ * Loads enemy animations depending on the enemy state.
+ * One instance is shared by all enemies of a type, see EnemyAnimationSets. It loads every animation up front
+ * in warmUp, and doesn't change afterwards.
  * Created by buivuhoang on 05/02/17.
  */
-public abstract class EnemyAnimationBase {
+public abstract class EnemyAnimationBase implements Disposable {
     protected class AnimationKey {
         private Type type;
-        private int direction;
         private String texture;
         private List<Integer> animationIndex;
 
-        public AnimationKey(Type type, int direction, String texture, List<Integer> animationIndex) {
+        public AnimationKey(Type type, String texture, List<Integer> animationIndex) {
             this.type = type;
-            this.direction = direction;
             this.texture = texture;
             this.animationIndex = animationIndex;
         }
@@ -34,7 +35,6 @@ public abstract class EnemyAnimationBase {
 
             AnimationKey that = (AnimationKey) o;
 
-            if (direction != that.direction) return false;
             if (type != that.type) return false;
             if (texture != null ? !texture.equals(that.texture) : that.texture != null) return false;
             return animationIndex != null ? animationIndex.equals(that.animationIndex) : that.animationIndex == null;
@@ -43,7 +43,6 @@ public abstract class EnemyAnimationBase {
         @Override
         public int hashCode() {
             int result = type != null ? type.hashCode() : 0;
-            result = 31 * result + direction;
             result = 31 * result + (texture != null ? texture.hashCode() : 0);
             result = 31 * result + (animationIndex != null ? animationIndex.hashCode() : 0);
             return result;
@@ -51,27 +50,73 @@ public abstract class EnemyAnimationBase {
     }
 
     private AnimationCache<AnimationKey> animationCache;
+    private boolean warmedUp;
 
     public EnemyAnimationBase() {
         animationCache = new AnimationCache<>();
     }
 
-    public Animation<TextureRegion> get(Type type, int direction) {
+    public Animation<TextureRegion> get(Type type) {
         String texture = getTextureAtlas(type);
         List<Integer> index = getAnimationIndex(type);
         float frameDuration = getFrameDuration(type);
 
-        return retrieveFromCache(type, direction, texture, index, frameDuration);
+        return retrieveFromCache(type, texture, index, frameDuration);
     }
 
-    public Animation<TextureRegion> get(Type type) {
-        return get(type, MovingObject.RIGHT);
+    public Animation<TextureRegion> retrieveFromCache(Type type, String texture, List<Integer> animationIndex, float frameDuration) {
+        AnimationKey key = new AnimationKey(type, texture, animationIndex);
+        if (warmedUp && !animationCache.contains(key)) {
+            throw new IllegalStateException("Animation " + type + " of " + texture + " was not loaded in warmUp");
+        }
+        return animationCache.retrieveFromCache(key, texture, animationIndex, frameDuration);
+    }
+
+    /**
+     * Loads the animation of every type the enemy has, so no atlas is loaded during the game.
+     * Afterwards the set is read only, getting any other type throws.
+     */
+    public void warmUp() {
+        if (warmedUp) {
+            return;
+        }
+        for (Type type : Type.values()) {
+            if (hasAnimation(type)) {
+                get(type);
+            }
+        }
+        warmedUp = true;
+    }
+
+    /**
+     * Subclasses return their atlas for every type, only the types with frames or that use the whole atlas
+     * are animations of the enemy.
+     */
+    private boolean hasAnimation(Type type) {
+        return getTextureAtlas(type) != null && (getAnimationIndex(type) != null || isWholeAtlas(type));
+    }
+
+    /**
+     * @return Whether every region of the type's atlas is a frame, like the explosion's
+     */
+    protected boolean isWholeAtlas(Type type) {
+        return type == Type.DIE;
+    }
+
+    public int size() {
+        return animationCache.size();
+    }
+
+    /**
+     * The sprites face left, so they are mirrored when drawn facing the other way
+     */
+    public static boolean isMirrored(int direction) {
+        return direction == MovingObject.RIGHT;
     }
 
-    public Animation<TextureRegion> retrieveFromCache(Type type, int direction, String texture, List<Integer> animationIndex, float frameDuration) {
-        AnimationKey key = new AnimationKey(type, direction, texture, animationIndex);
-        boolean flipped = direction == MovingObject.RIGHT;
-        return animationCache.retrieveFromCache(key, flipped, texture, animationIndex, frameDuration);
+    @Override
+    public void dispose() {
+        animationCache.dispose();
     }
 
     protected abstract List<Integer> getAnimationIndex(Type type);
@@ -113,6 +158,7 @@ public abstract class EnemyAnimationBase {
         FINISH_ATTACK,
         DAMAGED,
         DIE,
-        EXPLODE_FRAGMENT
+        EXPLODE_FRAGMENT,
+        BULLET
     }
 }
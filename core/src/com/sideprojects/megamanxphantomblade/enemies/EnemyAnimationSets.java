@@ -0,0 +1,46 @@
+package com.sideprojects.megamanxphantomblade.enemies;
+
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Created by buivuhoang on 24/10/17.
+ * Holds one animation set per enemy type for a stage, so all enemies of a type share the same animations.
+ * A set is warmed up when the first enemy of its type is created, which happens while the stage loads.
+ */
+public class EnemyAnimationSets implements Disposable {
+    private Map<Class<? extends EnemyAnimationBase>, EnemyAnimationBase> sets;
+
+    public EnemyAnimationSets() {
+        sets = new HashMap<>();
+    }
+
+    /**
+     * Returns the shared set of the type, creating and warming it up the first time
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends EnemyAnimationBase> T get(Class<T> type, Supplier<T> factory) {
+        EnemyAnimationBase set = sets.get(type);
+        if (set == null) {
+            set = factory.get();
+            set.warmUp();
+            sets.put(type, set);
+        }
+        return (T)set;
+    }
+
+    public int size() {
+        return sets.size();
+    }
+
+    @Override
+    public void dispose() {
+        for (EnemyAnimationBase set : sets.values()) {
+            set.dispose();
+        }
+        sets.clear();
+    }
+}
@@ -6,20 +6,24 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.sideprojects.megamanxphantomblade.Attack;
 import com.sideprojects.megamanxphantomblade.Damage;
+import com.sideprojects.megamanxphantomblade.entities.components.EnemyAttackComponent;
 
 /**
  * Created by buivuhoang on 17/09/17.
  */
 public abstract class EnemyAttack extends Attack {
-    private final Rectangle enemy;
-    private final Rectangle target;
-    private final float speed;
+    private Rectangle enemy;
+    private Rectangle target;
+    private float speed;
     protected Animation<TextureRegion> animation;
     protected Animation<TextureRegion> explodeAnimation;
-    public TextureRegion currentFrame;
 
-    public EnemyAttack(Rectangle enemy, Rectangle target, float speed, Damage damage, int direction) {
-        super(damage, direction);
+    public EnemyAttack() {
+        entity.add(new EnemyAttackComponent(this));
+    }
+
+    protected void init(Rectangle enemy, Rectangle target, float speed, Damage damage, int direction) {
+        super.init(damage, direction);
         this.enemy = enemy;
         this.target = target;
         this.speed = speed;
@@ -27,7 +31,6 @@ public abstract class EnemyAttack extends Attack {
 
     public void onInitialise() {
         Vector2 posPadding = getPosPadding();
-        pos = new Vector2();
         updatePos(enemy.x + posPadding.x, enemy.y + posPadding.y);
         calculateVelocity(target.x, target.y, speed);
     }
@@ -37,7 +40,7 @@ public abstract class EnemyAttack extends Attack {
         float targetVectorY = targetY - mapCollisionBounds.y;
         float targetVectorLength = (float)Math.sqrt(targetVectorX * targetVectorX + targetVectorY * targetVectorY);
         float vectorRatio = speed / targetVectorLength;
-        vel = new Vector2(targetVectorX * vectorRatio, targetVectorY * vectorRatio);
+        vel.set(targetVectorX * vectorRatio, targetVectorY * vectorRatio);
         direction = targetVectorX > 0 ? 1 : -1;
     }
 
@@ -55,15 +58,25 @@ public abstract class EnemyAttack extends Attack {
                 shouldBeRemoved = true;
                 return;
             }
-            currentFrame = explodeAnimation.getKeyFrame(stateTime, false);
+            sprite.play(explodeAnimation, stateTime, false);
             if (explodeAnimation.isAnimationFinished(stateTime)) {
                 shouldBeRemoved = true;
             }
         } else {
-            currentFrame = animation.getKeyFrame(stateTime, isAnimationLooping());
+            sprite.play(animation, stateTime, isAnimationLooping());
         }
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        enemy = null;
+        target = null;
+        sprite.stop();
+        pos.setZero();
+        vel.setZero();
+    }
+
     protected abstract Vector2 getPosPadding();
 
     protected abstract boolean isAnimationLooping();
@@ -2,10 +2,13 @@ package com.sideprojects.megamanxphantomblade.enemies;
 
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
 import com.sideprojects.megamanxphantomblade.Damage;
 import com.sideprojects.megamanxphantomblade.MovingObject;
+import com.sideprojects.megamanxphantomblade.entities.components.EnemyComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.GravityComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.ScriptComponent;
 import com.sideprojects.megamanxphantomblade.map.MapBase;
 
 import java.util.*;
@@ -21,14 +24,21 @@ public abstract class EnemyBase<T> extends MovingObject {
     public boolean spawned;
     public boolean canSpawn;
 
+    // Properties for the map's EnemySystem, see EnemySpawnIndex
+    public int spawnIndex;
+    public boolean active;
+
     public EnemyAnimationBase animations;
     protected Map<EnemyAnimationBase.Type, TextureRegion> auxiliaryFrames;
-    public List<ExplodeFragment> explodeFragments;
 
-    public TextureRegion currentFrame;
     public Vector2 animationPadding;
 
     public EnemySound sounds;
+    // Randomness of the enemy's behaviour, seeded from the map's enemySeeds on spawn.
+    // Enemies don't share a generator, so the order in which they are updated doesn't change their choices.
+    public final RandomXS128 random = new RandomXS128();
+    // What the enemy did to the map in its last update, the map's EnemySystem applies it after updating the enemies
+    public final EnemySideEffects sideEffects = new EnemySideEffects();
 
     public T state;
     public Damage damage;
@@ -39,19 +49,22 @@ public abstract class EnemyBase<T> extends MovingObject {
     private float takeDamageStateTime;
 
     protected final MapBase map;
-    protected EnemyScript script;
+    private ScriptComponent scriptComponent;
 
     private float deathExplosionStateTime;
+    private boolean fragmentsSpawned;
 
     public EnemyBase(float x, float y, MapBase map) {
         this.map = map;
-        pos = new Vector2(x, y);
+        pos.set(x, y);
         spawnPos = new Vector2(x, y);
-        vel = new Vector2(0, 0);
+        entity.add(new EnemyComponent(this));
+        if (isAffectedByGravity()) {
+            entity.add(new GravityComponent());
+        }
         isTakingDamage = false;
         canTakeDamage = true;
         canSpawn = true;
-        explodeFragments = new ArrayList<>();
         takeDamageStateTime = 0;
         stateTime = 0;
         direction = MovingObject.LEFT;
@@ -63,38 +76,37 @@ public abstract class EnemyBase<T> extends MovingObject {
         mapCollisionBounds.y = spawnPos.y;
         pos.x = mapCollisionBounds.x;
         pos.y = mapCollisionBounds.y;
-        explodeFragments.clear();
+        if (spatialHash != null) {
+            spatialHash.update(this);
+        }
+        resetPreviousPos();
         this.canSpawn = canSpawn;
     }
 
     public void spawn() {
         spawned = true;
+        random.setSeed(map.enemySeeds.nextLong());
         deathExplosionStateTime = 0;
+        fragmentsSpawned = false;
         initialiseHealthPoints(getMaxHealthPoints());
     }
 
     public void update(float delta) {
         if (isDead()) {
             if (deathExplosionStateTime == 0) {
-                sounds.playDie(delta);
+                sideEffects.playDie(sounds, pos.x, pos.y);
             }
             if (deathExplosionStateTime < deathExplosionTime()) {
                 deathExplosionStateTime += delta;
                 stateTime = deathExplosionStateTime;
 
-                if (hasExplodingFragments()) {
-                    // Add explosion fragments
-                    Animation<TextureRegion> explodeFragmentAnimation = animations.get(EnemyAnimationBase.Type.EXPLODE_FRAGMENT, direction);
-                    List<TextureRegion> fragmentFrames = Arrays.asList(explodeFragmentAnimation.getKeyFrames());
-                    if (explodeFragments.isEmpty()) {
-                        for (TextureRegion fragmentFrame : fragmentFrames) {
-                            explodeFragments.add(new ExplodeFragment(fragmentFrame, pos.x - mapCollisionBounds.getWidth() / 3f, pos.y - mapCollisionBounds.getHeight() / 3f, MathUtils.random(2f), 5f));
-                        }
-                    } else {
-                        for (ExplodeFragment fragment : explodeFragments) {
-                            script.applyGravity(fragment, map.GRAVITY, map.MAX_FALLSPEED, delta);
-                            fragment.update(delta);
-                        }
+                if (hasExplodingFragments() && !fragmentsSpawned) {
+                    // Add explosion fragments, the map's particles move them until the explosion is over
+                    fragmentsSpawned = true;
+                    Animation<TextureRegion> explodeFragmentAnimation = animations.get(EnemyAnimationBase.Type.EXPLODE_FRAGMENT);
+                    float lifetime = deathExplosionTime() - deathExplosionStateTime;
+                    for (TextureRegion fragmentFrame : explodeFragmentAnimation.getKeyFrames()) {
+                        sideEffects.addFragment(fragmentFrame, pos.x - mapCollisionBounds.getWidth() / 3f, pos.y - mapCollisionBounds.getHeight() / 3f, random.nextFloat() * 2f, 5f, direction, lifetime);
                     }
                 }
             } else {
@@ -110,13 +122,22 @@ public abstract class EnemyBase<T> extends MovingObject {
                 }
             }
 
-            script.update(this, delta, map);
+            // The map has already moved the enemy, see ScriptBase
+            scriptComponent.script.act(scriptComponent.collisions, delta);
         }
 
         updateAnimation(delta);
         updateTakeDamageBounds();
     }
 
+    /**
+     * Sets the script that drives the enemy, call it once from the constructor
+     */
+    protected final void setScript(EnemyScript<T> script) {
+        scriptComponent = new ScriptComponent(this, script);
+        entity.add(scriptComponent);
+    }
+
     protected abstract float deathExplosionTime();
 
     protected abstract boolean hasExplodingFragments();
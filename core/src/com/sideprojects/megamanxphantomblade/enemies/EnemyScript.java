@@ -1,7 +1,6 @@
 package com.sideprojects.megamanxphantomblade.enemies;
 
 import com.sideprojects.megamanxphantomblade.enemies.actions.*;
-import com.sideprojects.megamanxphantomblade.map.MapBase;
 import com.sideprojects.megamanxphantomblade.physics.ScriptBase;
 import com.sideprojects.megamanxphantomblade.physics.actions.FlyTowardsMovingObject;
 import com.sideprojects.megamanxphantomblade.player.PlayerBase;
@@ -21,6 +20,20 @@ public abstract class EnemyScript<T> extends ScriptBase {
         this.player = player;
     }
 
+    /**
+     * @return A random number between 0 and range inclusive, from the enemy's generator
+     */
+    protected int random(int range) {
+        return enemy.random.nextInt(range + 1);
+    }
+
+    /**
+     * @return A random number between start inclusive and end exclusive, from the enemy's generator
+     */
+    protected float random(float start, float end) {
+        return start + enemy.random.nextFloat() * (end - start);
+    }
+
     protected void setCanTakeDamage(boolean canTakeDamage) {
         addToQueue(new SetCanTakeDamage(enemy, canTakeDamage));
     }
@@ -41,8 +54,8 @@ public abstract class EnemyScript<T> extends ScriptBase {
         addToQueue(new ResetAnimation(enemy));
     }
 
-    protected void spawnEnemyAttack(EnemyAttack attack, MapBase map) {
-        addToQueue(new SpawnEnemyAttackToMap(attack, map));
+    protected void spawnEnemyAttack(SpawnEnemyAttackToMap.Spawner spawner) {
+        addToQueue(new SpawnEnemyAttackToMap(spawner, enemy.sideEffects));
     }
 
     protected void setEnemyStateIfAtEdge(T state) {
@@ -0,0 +1,88 @@
+package com.sideprojects.megamanxphantomblade.enemies;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.sideprojects.megamanxphantomblade.enemies.actions.SpawnEnemyAttackToMap;
+import com.sideprojects.megamanxphantomblade.map.MapBase;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * What an enemy's update does to the rest of the map, kept until apply is called.
+ * Enemies don't touch the map's queues, particles or sounds while they are updated, so they can be updated
+ * on several threads. Applying the buffers in the order of the enemies gives the same map as updating them
+ * one after the other.
+ */
+public class EnemySideEffects {
+    private static final int FRAGMENT_FLOATS = 5;
+
+    private final Array<EnemySound> dieSounds;
+    // x and y of each die sound
+    private final FloatArray dieSoundPositions;
+    private final Array<TextureRegion> fragmentFrames;
+    // x, y, velX, velY and lifetime of each fragment
+    private final FloatArray fragmentValues;
+    private final IntArray fragmentDirections;
+    private final Array<SpawnEnemyAttackToMap.Spawner> attacks;
+
+    public EnemySideEffects() {
+        dieSounds = new Array<>(1);
+        dieSoundPositions = new FloatArray(2);
+        fragmentFrames = new Array<>(8);
+        fragmentValues = new FloatArray(8 * FRAGMENT_FLOATS);
+        fragmentDirections = new IntArray(8);
+        attacks = new Array<>(1);
+    }
+
+    public void playDie(EnemySound sounds, float x, float y) {
+        dieSounds.add(sounds);
+        dieSoundPositions.add(x, y);
+    }
+
+    public void addFragment(TextureRegion frame, float x, float y, float velX, float velY, int direction, float lifetime) {
+        fragmentFrames.add(frame);
+        fragmentValues.add(x, y, velX, velY);
+        fragmentValues.add(lifetime);
+        fragmentDirections.add(direction);
+    }
+
+    public void addEnemyAttack(SpawnEnemyAttackToMap.Spawner spawner) {
+        attacks.add(spawner);
+    }
+
+    public boolean isEmpty() {
+        return dieSounds.size == 0 && fragmentFrames.size == 0 && attacks.size == 0;
+    }
+
+    /**
+     * Plays the sounds, adds the particles and spawns the attacks to the map in the order they were recorded,
+     * then clears the buffer.
+     * An enemy dies and attacks in different updates, so the kinds don't need to be ordered between each other.
+     */
+    public void apply(MapBase map) {
+        for (int i = 0; i < dieSounds.size; i++) {
+            dieSounds.get(i).playDie(dieSoundPositions.get(i * 2), dieSoundPositions.get(i * 2 + 1));
+        }
+        for (int i = 0; i < fragmentFrames.size; i++) {
+            int v = i * FRAGMENT_FLOATS;
+            map.particles.addFragment(fragmentFrames.get(i), fragmentValues.get(v), fragmentValues.get(v + 1),
+                    fragmentValues.get(v + 2), fragmentValues.get(v + 3), fragmentDirections.get(i), fragmentValues.get(v + 4));
+        }
+        for (int i = 0; i < attacks.size; i++) {
+            EnemyAttack enemyAttack = attacks.get(i).obtain(map);
+            enemyAttack.onInitialise();
+            map.addEnemyAttack(enemyAttack);
+        }
+        clear();
+    }
+
+    public void clear() {
+        dieSounds.clear();
+        dieSoundPositions.clear();
+        fragmentFrames.clear();
+        fragmentValues.clear();
+        fragmentDirections.clear();
+        attacks.clear();
+    }
+}
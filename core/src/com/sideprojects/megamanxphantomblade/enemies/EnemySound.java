@@ -13,9 +13,12 @@ public abstract class EnemySound {
         this.soundPlayer = soundPlayer;
     }
 
-    public void playDie(float delta) {
-        soundPlayer.playInParallel(Sounds.EnvironmentEnemyExplode);
+    /**
+     * Plays the explosion if the enemy is within hearing range of the player
+     */
+    public void playDie(float x, float y) {
+        soundPlayer.playInParallel(Sounds.EnvironmentEnemyExplode, x, y);
     }
 
-    public abstract void playAttack();
+    public abstract void playAttack(float x, float y);
 }
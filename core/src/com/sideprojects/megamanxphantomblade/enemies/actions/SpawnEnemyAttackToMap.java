@@ -1,28 +1,37 @@
 package com.sideprojects.megamanxphantomblade.enemies.actions;
 
 import com.sideprojects.megamanxphantomblade.enemies.EnemyAttack;
+import com.sideprojects.megamanxphantomblade.enemies.EnemySideEffects;
 import com.sideprojects.megamanxphantomblade.map.MapBase;
 import com.sideprojects.megamanxphantomblade.physics.ActionBase;
 import com.sideprojects.megamanxphantomblade.physics.collision.CollisionList;
 
 /**
  * Created by buivuhoang on 17/09/17.
+ * The attack is only obtained from the map's pools when the enemy's side effects are applied, so a script that
+ * is cut short does not hold on to an attack, and the pools are only used by one thread.
  */
 public class SpawnEnemyAttackToMap extends ActionBase {
-    private final EnemyAttack enemyAttack;
-    private final MapBase map;
+    public interface Spawner {
+        /**
+         * @return An attack obtained from the map with MapBase.obtainAttack and initialised
+         */
+        EnemyAttack obtain(MapBase map);
+    }
+
+    private final Spawner spawner;
+    private final EnemySideEffects sideEffects;
     private boolean executed;
 
-    public SpawnEnemyAttackToMap(EnemyAttack enemyAttack, MapBase map) {
-        this.enemyAttack = enemyAttack;
-        this.map = map;
+    public SpawnEnemyAttackToMap(Spawner spawner, EnemySideEffects sideEffects) {
+        this.spawner = spawner;
+        this.sideEffects = sideEffects;
         executed = false;
     }
 
     @Override
     public void execute(CollisionList collisions, float delta) {
-        enemyAttack.onInitialise();
-        map.addEnemyAttack(enemyAttack);
+        sideEffects.addEnemyAttack(spawner);
         executed = true;
     }
 
@@ -23,9 +23,9 @@ public class Mettool extends EnemyBase<Mettool.State> {
         takeDamageBounds.setPosition(x, y);
         setDealDamageBoundsSize(0.3f, 0.4f);
         damage = new Damage(Damage.Type.NORMAL, Damage.Side.NONE, -difficulty);
-        script = new MettoolScript(this, map.player);
+        setScript(new MettoolScript(this, map.player));
         auxiliaryFrames = new EnumMap<>(EnemyAnimationBase.Type.class);
-        animations = new MettoolAnimation();
+        animations = map.enemyAnimations.get(MettoolAnimation.class, MettoolAnimation::new);
         sounds = new MettoolSound(soundPlayer);
         state = State.WALK;
     }
@@ -85,13 +85,13 @@ public class Mettool extends EnemyBase<Mettool.State> {
             }
         }
         if (type != null) {
-            Animation<TextureRegion> animation = animations.get(type, direction);
+            Animation<TextureRegion> animation = animations.get(type);
             TextureRegion frame = animation.getKeyFrame(stateTime, animations.isLooping(type));
             if (isDead()) {
                 auxiliaryFrames.put(EnemyAnimationBase.Type.DIE, frame);
-                currentFrame = null;
+                sprite.stop();
             } else {
-                currentFrame = animation.getKeyFrame(stateTime, animations.isLooping(type));
+                sprite.play(animation, stateTime, animations.isLooping(type));
                 animationPadding = animations.getAnimationPaddingX(type, direction);
             }
         }
@@ -1,6 +1,5 @@
 package com.sideprojects.megamanxphantomblade.enemies.types.mettool;
 
-import com.badlogic.gdx.math.MathUtils;
 import com.sideprojects.megamanxphantomblade.MovingObject;
 import com.sideprojects.megamanxphantomblade.enemies.EnemyBase;
 import com.sideprojects.megamanxphantomblade.enemies.EnemyScript;
@@ -24,7 +23,7 @@ public class MettoolScript extends EnemyScript<Mettool.State> {
 
     @Override
     public void describe() {
-        int rand = MathUtils.random(1);
+        int rand = random(1);
         if (rand == 0) {
             isStupidAi = true;
         } else {
@@ -40,7 +39,7 @@ public class MettoolScript extends EnemyScript<Mettool.State> {
     private void stupidAi() {
         setEnemyState(Mettool.State.WALK);
         moveTillEdge(MovingObject.LEFT, velocity, walkTime);
-        int rand = MathUtils.random(2);
+        int rand = random(2);
         if (rand == 0) {
             setEnemyStateIfAtEdge(Mettool.State.JUMP);
             jumpIfAtEdge(velocity, jumpVelocity, waitTimeBeforeJump);
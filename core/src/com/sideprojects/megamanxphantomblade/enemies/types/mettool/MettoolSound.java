@@ -12,7 +12,7 @@ public class MettoolSound extends EnemySound {
     }
 
     @Override
-    public void playAttack() {
+    public void playAttack(float x, float y) {
         // TODO: Implement METTOOL's attack
     }
 }
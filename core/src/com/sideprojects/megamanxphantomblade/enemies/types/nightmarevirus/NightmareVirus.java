@@ -25,9 +25,9 @@ public class NightmareVirus extends EnemyBase<NightmareVirus.State> {
         takeDamageBounds.setPosition(x, y);
         setDealDamageBoundsSize(0.4f, 0.5f);
         damage = new Damage(Damage.Type.NORMAL, Damage.Side.NONE, -difficulty);
-        animations = new NightmareVirusAnimation();
+        animations = map.enemyAnimations.get(NightmareVirusAnimation.class, NightmareVirusAnimation::new);
         auxiliaryFrames = new EnumMap<>(EnemyAnimationBase.Type.class);
-        script = new NightmareVirusScript(this, map.player, map);
+        setScript(new NightmareVirusScript(this, map.player));
         sounds = new NightmareVirusSound(soundPlayer);
         state = State.IDLE;
     }
@@ -81,13 +81,13 @@ public class NightmareVirus extends EnemyBase<NightmareVirus.State> {
             }
         }
         if (type != null) {
-            Animation<TextureRegion> animation = animations.get(type, direction);
+            Animation<TextureRegion> animation = animations.get(type);
             TextureRegion frame = animation.getKeyFrame(stateTime, animations.isLooping(type));
             if (isDead()) {
                 auxiliaryFrames.put(EnemyAnimationBase.Type.DIE, frame);
-                currentFrame = null;
+                sprite.stop();
             } else {
-                currentFrame = animation.getKeyFrame(stateTime, animations.isLooping(type));
+                sprite.play(animation, stateTime, animations.isLooping(type));
                 animationPadding = animations.getAnimationPaddingX(type, direction);
             }
         }
@@ -36,6 +36,8 @@ public class NightmareVirusAnimation extends EnemyAnimationBase {
                 return Collections.singletonList(7);
             case ATTACK:
                 return Arrays.asList(8, 9, 10, 9, 8);
+            case BULLET:
+                return Arrays.asList(11, 12, 13, 14, 15);
             case DIE:
                 return null;
             default:
@@ -49,6 +51,8 @@ public class NightmareVirusAnimation extends EnemyAnimationBase {
             case RUN:
             case IDLE:
                 return 0.2f;
+            case BULLET:
+                return 0.05f;
             default:
                 return super.getFrameDuration(type);
         }
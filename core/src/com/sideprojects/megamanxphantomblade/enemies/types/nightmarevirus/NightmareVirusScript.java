@@ -1,9 +1,8 @@
 package com.sideprojects.megamanxphantomblade.enemies.types.nightmarevirus;
 
-import com.badlogic.gdx.math.MathUtils;
 import com.sideprojects.megamanxphantomblade.enemies.EnemyBase;
 import com.sideprojects.megamanxphantomblade.enemies.EnemyScript;
-import com.sideprojects.megamanxphantomblade.map.MapBase;
+import com.sideprojects.megamanxphantomblade.enemies.actions.SpawnEnemyAttackToMap;
 import com.sideprojects.megamanxphantomblade.player.PlayerBase;
 
 import java.util.stream.IntStream;
@@ -12,7 +11,6 @@ import java.util.stream.IntStream;
  * Created by buivuhoang on 17/09/17.
  */
 public class NightmareVirusScript extends EnemyScript<NightmareVirus.State> {
-    private final MapBase map;
     private static float velocity = 1f;
     private static float waitTimeIdle = 3f;
     private static float flyTowardsPlayerTime = 2.5f;
@@ -23,27 +21,31 @@ public class NightmareVirusScript extends EnemyScript<NightmareVirus.State> {
     private static float waitTimeShotDelay = 0.2f;
     private static float waitTimeShoot = 1f;
 
-    public NightmareVirusScript(EnemyBase<NightmareVirus.State> enemy, PlayerBase player, MapBase map) {
+    private final SpawnEnemyAttackToMap.Spawner bullet = map ->
+            map.obtainAttack(NightmareVirusBullet.class, NightmareVirusBullet::new).init(
+                    enemy.mapCollisionBounds, player.takeDamageBounds,
+                    10f, enemy.damage, enemy.direction, enemy.animations, enemy.sounds);
+
+    public NightmareVirusScript(EnemyBase<NightmareVirus.State> enemy, PlayerBase player) {
         super(enemy, player);
-        this.map = map;
     }
 
     @Override
     public void describe() {
         setEnemyState(NightmareVirus.State.IDLE);
         doWait();
-        int rand = 1;//MathUtils.random(2);
+        int rand = 1;//random(2);
         if (rand == 1) {
             doShootAttack();
             setEnemyState(NightmareVirus.State.IDLE);
             doWait();
         }
         setEnemyState(NightmareVirus.State.FLY);
-        flyTowardsPlayer(velocity, MathUtils.random(flyTowardsPlayerTime - randomThreshold, flyTowardsPlayerTime + randomThreshold));
+        flyTowardsPlayer(velocity, random(flyTowardsPlayerTime - randomThreshold, flyTowardsPlayerTime + randomThreshold));
     }
 
     private void doWait() {
-        wait(MathUtils.random(waitTimeIdle - randomThreshold, waitTimeIdle + randomThreshold));
+        wait(random(waitTimeIdle - randomThreshold, waitTimeIdle + randomThreshold));
     }
 
     private void doShootAttack() {
@@ -53,8 +55,7 @@ public class NightmareVirusScript extends EnemyScript<NightmareVirus.State> {
             resetAnimation();
             setEnemyState(NightmareVirus.State.SHOOT);
             wait(waitTimeShotDelay);
-            spawnEnemyAttack(new NightmareVirusBullet(enemy.mapCollisionBounds, player.takeDamageBounds,
-                    10f, enemy.damage, enemy.direction, enemy.animations, enemy.sounds), map);
+            spawnEnemyAttack(bullet);
             wait(waitTimeShoot);
         });
         setEnemyState(NightmareVirus.State.FINISH_SHOOTING);
@@ -13,7 +13,7 @@ public class NightmareVirusSound extends EnemySound {
     }
 
     @Override
-    public void playAttack() {
-        soundPlayer.playInParallel(Sounds.NightmareVirusShoot);
+    public void playAttack(float x, float y) {
+        soundPlayer.playInParallel(Sounds.NightmareVirusShoot, x, y);
     }
 }
@@ -0,0 +1,32 @@
+package com.sideprojects.megamanxphantomblade.entities;
+
+import com.badlogic.ashley.core.Family;
+import com.sideprojects.megamanxphantomblade.entities.components.ActiveComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.AnimationComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.EnemyAttackComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.EnemyComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.GravityComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.HealthComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.PlayerAttackComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.PositionComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.ScriptComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.VelocityComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.WallHitComponent;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ */
+public final class Families {
+    public static final Family POSITIONS = Family.all(PositionComponent.class).get();
+    public static final Family ENEMIES = Family.all(EnemyComponent.class).get();
+    public static final Family PLAYER_ATTACKS = Family.all(PlayerAttackComponent.class).get();
+    public static final Family ENEMY_ATTACKS = Family.all(EnemyAttackComponent.class).get();
+    public static final Family ANIMATED = Family.all(AnimationComponent.class).get();
+    public static final Family HITTING_WALLS = Family.all(WallHitComponent.class).get();
+    // Active objects that fall
+    public static final Family FALLING = Family.all(ActiveComponent.class, GravityComponent.class, VelocityComponent.class, HealthComponent.class).get();
+    // Active objects moved for their script
+    public static final Family SCRIPTED = Family.all(ActiveComponent.class, ScriptComponent.class, HealthComponent.class).get();
+
+    private Families() {}
+}
@@ -0,0 +1,33 @@
+package com.sideprojects.megamanxphantomblade.entities;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.sideprojects.megamanxphantomblade.entities.components.AnimationComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.BoundsComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.DamageComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.EnemyAttackComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.EnemyComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.HealthComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.PlayerAttackComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.PositionComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.ScriptComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.VelocityComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.WallHitComponent;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ */
+public final class Mappers {
+    public static final ComponentMapper<PositionComponent> POSITION = ComponentMapper.getFor(PositionComponent.class);
+    public static final ComponentMapper<VelocityComponent> VELOCITY = ComponentMapper.getFor(VelocityComponent.class);
+    public static final ComponentMapper<BoundsComponent> BOUNDS = ComponentMapper.getFor(BoundsComponent.class);
+    public static final ComponentMapper<HealthComponent> HEALTH = ComponentMapper.getFor(HealthComponent.class);
+    public static final ComponentMapper<AnimationComponent> ANIMATION = ComponentMapper.getFor(AnimationComponent.class);
+    public static final ComponentMapper<DamageComponent> DAMAGE = ComponentMapper.getFor(DamageComponent.class);
+    public static final ComponentMapper<ScriptComponent> SCRIPT = ComponentMapper.getFor(ScriptComponent.class);
+    public static final ComponentMapper<WallHitComponent> WALL_HIT = ComponentMapper.getFor(WallHitComponent.class);
+    public static final ComponentMapper<EnemyComponent> ENEMY = ComponentMapper.getFor(EnemyComponent.class);
+    public static final ComponentMapper<PlayerAttackComponent> PLAYER_ATTACK = ComponentMapper.getFor(PlayerAttackComponent.class);
+    public static final ComponentMapper<EnemyAttackComponent> ENEMY_ATTACK = ComponentMapper.getFor(EnemyAttackComponent.class);
+
+    private Mappers() {}
+}
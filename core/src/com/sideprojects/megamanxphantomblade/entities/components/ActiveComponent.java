@@ -0,0 +1,10 @@
+package com.sideprojects.megamanxphantomblade.entities.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * An enemy spawned near the player. Enemies out of the player's range keep their entity but aren't moved.
+ */
+public class ActiveComponent implements Component {
+}
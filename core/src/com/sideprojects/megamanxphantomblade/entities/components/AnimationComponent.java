@@ -0,0 +1,33 @@
+package com.sideprojects.megamanxphantomblade.entities.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * The animation an object is drawn with. The object picks the animation and its time when it updates,
+ * AnimationSystem then looks up the frame to draw at the end of the step.
+ */
+public class AnimationComponent implements Component {
+    // Null to draw nothing
+    public Animation<TextureRegion> animation;
+    public float time;
+    public boolean looping;
+    // The frame to draw
+    public TextureRegion frame;
+
+    public void play(Animation<TextureRegion> animation, float time, boolean looping) {
+        this.animation = animation;
+        this.time = time;
+        this.looping = looping;
+    }
+
+    /**
+     * Draws nothing until another animation is played
+     */
+    public void stop() {
+        animation = null;
+        frame = null;
+    }
+}
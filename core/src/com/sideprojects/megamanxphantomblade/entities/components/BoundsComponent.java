@@ -0,0 +1,14 @@
+package com.sideprojects.megamanxphantomblade.entities.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * The boxes an object collides with the map, takes damage and deals damage with.
+ */
+public class BoundsComponent implements Component {
+    public final Rectangle collision = new Rectangle();
+    public final Rectangle takeDamage = new Rectangle();
+    public final Rectangle dealDamage = new Rectangle();
+}
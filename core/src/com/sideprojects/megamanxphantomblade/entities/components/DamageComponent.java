@@ -0,0 +1,16 @@
+package com.sideprojects.megamanxphantomblade.entities.components;
+
+import com.badlogic.ashley.core.Component;
+import com.sideprojects.megamanxphantomblade.Damage;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * The damage an object deals to what it hits.
+ */
+public class DamageComponent implements Component {
+    public final Damage damage;
+
+    public DamageComponent(Damage damage) {
+        this.damage = damage;
+    }
+}
@@ -0,0 +1,16 @@
+package com.sideprojects.megamanxphantomblade.entities.components;
+
+import com.badlogic.ashley.core.Component;
+import com.sideprojects.megamanxphantomblade.enemies.EnemyAttack;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * An attack that damages the player.
+ */
+public class EnemyAttackComponent implements Component {
+    public final EnemyAttack attack;
+
+    public EnemyAttackComponent(EnemyAttack attack) {
+        this.attack = attack;
+    }
+}
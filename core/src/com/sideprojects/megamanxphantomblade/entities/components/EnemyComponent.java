@@ -0,0 +1,16 @@
+package com.sideprojects.megamanxphantomblade.entities.components;
+
+import com.badlogic.ashley.core.Component;
+import com.sideprojects.megamanxphantomblade.enemies.EnemyBase;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * An enemy driven by its script, spawned and despawned around the player.
+ */
+public class EnemyComponent implements Component {
+    public final EnemyBase<?> enemy;
+
+    public EnemyComponent(EnemyBase<?> enemy) {
+        this.enemy = enemy;
+    }
+}
@@ -0,0 +1,10 @@
+package com.sideprojects.megamanxphantomblade.entities.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * An object that falls until it reaches the map's fall speed.
+ */
+public class GravityComponent implements Component {
+}
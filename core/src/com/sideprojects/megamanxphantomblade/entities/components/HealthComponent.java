@@ -0,0 +1,12 @@
+package com.sideprojects.megamanxphantomblade.entities.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * An object is dead once its points are down to 0.
+ */
+public class HealthComponent implements Component {
+    public int points;
+    public int max;
+}
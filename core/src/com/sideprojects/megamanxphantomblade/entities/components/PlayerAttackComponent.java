@@ -0,0 +1,16 @@
+package com.sideprojects.megamanxphantomblade.entities.components;
+
+import com.badlogic.ashley.core.Component;
+import com.sideprojects.megamanxphantomblade.player.PlayerAttack;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * An attack that damages enemies.
+ */
+public class PlayerAttackComponent implements Component {
+    public final PlayerAttack attack;
+
+    public PlayerAttackComponent(PlayerAttack attack) {
+        this.attack = attack;
+    }
+}
@@ -0,0 +1,15 @@
+package com.sideprojects.megamanxphantomblade.entities.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Where an object is, and where it was at the start of the current simulation step so it can be drawn in between.
+ */
+public class PositionComponent implements Component {
+    public final Vector2 pos = new Vector2();
+    public final Vector2 previous = new Vector2();
+    // False for objects placed since the start of the step, which are drawn where they are
+    public boolean hasPrevious;
+}
@@ -0,0 +1,23 @@
+package com.sideprojects.megamanxphantomblade.entities.components;
+
+import com.badlogic.ashley.core.Component;
+import com.sideprojects.megamanxphantomblade.MovingObject;
+import com.sideprojects.megamanxphantomblade.physics.ScriptBase;
+import com.sideprojects.megamanxphantomblade.physics.collision.CollisionList;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * An object driven by a script. The map moves the object, then the object's update runs the script's
+ * actions with what it collided with.
+ */
+public class ScriptComponent implements Component {
+    public final MovingObject object;
+    public final ScriptBase script;
+    // What the object collided with in its last move, owned by the script
+    public CollisionList collisions = CollisionList.Empty;
+
+    public ScriptComponent(MovingObject object, ScriptBase script) {
+        this.object = object;
+        this.script = script;
+    }
+}
@@ -0,0 +1,12 @@
+package com.sideprojects.megamanxphantomblade.entities.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * How fast an object moves, in tiles per second.
+ */
+public class VelocityComponent implements Component {
+    public final Vector2 vel = new Vector2();
+}
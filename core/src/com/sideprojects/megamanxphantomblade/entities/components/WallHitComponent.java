@@ -0,0 +1,16 @@
+package com.sideprojects.megamanxphantomblade.entities.components;
+
+import com.badlogic.ashley.core.Component;
+import com.sideprojects.megamanxphantomblade.Attack;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * An attack that dies when it hits a wall of the map.
+ */
+public class WallHitComponent implements Component {
+    public final Attack attack;
+
+    public WallHitComponent(Attack attack) {
+        this.attack = attack;
+    }
+}
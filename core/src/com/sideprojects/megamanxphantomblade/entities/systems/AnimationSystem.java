@@ -0,0 +1,25 @@
+package com.sideprojects.megamanxphantomblade.entities.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.sideprojects.megamanxphantomblade.entities.Families;
+import com.sideprojects.megamanxphantomblade.entities.Mappers;
+import com.sideprojects.megamanxphantomblade.entities.components.AnimationComponent;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Looks up the frame every animated object is drawn with, once everything has been updated.
+ * Animations are shared between objects and looking up a frame changes their play mode for a moment, so
+ * frames are looked up here rather than in the enemies' chunked updates.
+ */
+public class AnimationSystem extends IteratingSystem {
+    public AnimationSystem(int priority) {
+        super(Families.ANIMATED, priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        AnimationComponent sprite = Mappers.ANIMATION.get(entity);
+        sprite.frame = sprite.animation == null ? null : sprite.animation.getKeyFrame(sprite.time, sprite.looping);
+    }
+}
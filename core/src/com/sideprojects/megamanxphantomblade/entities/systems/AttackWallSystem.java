@@ -0,0 +1,33 @@
+package com.sideprojects.megamanxphantomblade.entities.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.sideprojects.megamanxphantomblade.Attack;
+import com.sideprojects.megamanxphantomblade.entities.Families;
+import com.sideprojects.megamanxphantomblade.entities.Mappers;
+import com.sideprojects.megamanxphantomblade.map.MapBase;
+import com.sideprojects.megamanxphantomblade.physics.collision.CollisionList;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Kills the attacks of the player and the enemies that hit a wall of the map, once they have moved.
+ */
+public class AttackWallSystem extends IteratingSystem {
+    private final MapBase map;
+    // Reused for every attack's wall check
+    private final CollisionList collisions;
+
+    public AttackWallSystem(MapBase map, int priority) {
+        super(Families.HITTING_WALLS, priority);
+        this.map = map;
+        collisions = new CollisionList();
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        Attack attack = Mappers.WALL_HIT.get(entity).attack;
+        if (map.playerPhysics.getMapCollision(attack, deltaTime, map, true, collisions).isColliding()) {
+            attack.die(true);
+        }
+    }
+}
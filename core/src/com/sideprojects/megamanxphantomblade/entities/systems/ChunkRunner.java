@@ -0,0 +1,35 @@
+package com.sideprojects.megamanxphantomblade.entities.systems;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Runs chunks of work that don't depend on each other, possibly at the same time.
+ * The game runs them one after the other, the html backend has no threads. Launchers that can use more
+ * than one core can give the map a runner that uses a thread pool, see MapBase.setChunkRunner.
+ */
+public interface ChunkRunner {
+    ChunkRunner SERIAL = new ChunkRunner() {
+        @Override
+        public int getParallelism() {
+            return 1;
+        }
+
+        @Override
+        public void run(int chunkCount, IntConsumer chunk) {
+            for (int i = 0; i < chunkCount; i++) {
+                chunk.accept(i);
+            }
+        }
+    };
+
+    /**
+     * @return How many chunks can run at the same time
+     */
+    int getParallelism();
+
+    /**
+     * Calls chunk with every index from 0 to chunkCount - 1, and returns once all of them are done
+     */
+    void run(int chunkCount, IntConsumer chunk);
+}
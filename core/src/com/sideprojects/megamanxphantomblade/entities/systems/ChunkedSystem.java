@@ -0,0 +1,59 @@
+package com.sideprojects.megamanxphantomblade.entities.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * A system whose items don't depend on each other, so they can be processed in chunks of consecutive items
+ * on several threads.
+ */
+public abstract class ChunkedSystem extends EntitySystem {
+    // Fewer items are not worth handing to another thread
+    private static final int MIN_CHUNK_SIZE = 4;
+
+    private ChunkRunner runner;
+    private final IntConsumer processChunk;
+    // Parameters of the chunks being run
+    private int count;
+    private int chunkSize;
+
+    public ChunkedSystem(int priority) {
+        super(priority);
+        runner = ChunkRunner.SERIAL;
+        processChunk = this::processChunk;
+    }
+
+    /**
+     * @param runner Runs the chunks, ChunkRunner.SERIAL to process them on the calling thread
+     */
+    public void setRunner(ChunkRunner runner) {
+        this.runner = runner;
+    }
+
+    /**
+     * Calls process with every index from 0 to count - 1, and returns once all of them are done
+     */
+    protected final void processInChunks(int count) {
+        int chunkCount = Math.min(runner.getParallelism(), (count + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE);
+        if (chunkCount == 0) {
+            return;
+        }
+        this.count = count;
+        chunkSize = (count + chunkCount - 1) / chunkCount;
+        runner.run(chunkCount, processChunk);
+    }
+
+    private void processChunk(int chunk) {
+        int end = Math.min(count, (chunk + 1) * chunkSize);
+        for (int i = chunk * chunkSize; i < end; i++) {
+            process(i);
+        }
+    }
+
+    /**
+     * Processes one item, possibly at the same time as items of other chunks
+     */
+    protected abstract void process(int index);
+}
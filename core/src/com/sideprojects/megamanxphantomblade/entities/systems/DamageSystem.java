@@ -0,0 +1,68 @@
+package com.sideprojects.megamanxphantomblade.entities.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.sideprojects.megamanxphantomblade.Damage;
+import com.sideprojects.megamanxphantomblade.enemies.EnemyBase;
+import com.sideprojects.megamanxphantomblade.entities.Families;
+import com.sideprojects.megamanxphantomblade.entities.Mappers;
+import com.sideprojects.megamanxphantomblade.map.MapBase;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Deals the damage of the player's living attacks to the enemy they hit, after the attacks have moved and
+ * hit the walls. Attacks die on the enemy they hit, heavy attacks go through the enemies they kill.
+ * The player picks up the damage of the enemies and their attacks in its own physics.
+ */
+public class DamageSystem extends IteratingSystem {
+    private final MapBase map;
+    // Reused for the broadphase results of each attack
+    private final Array<EnemyBase<?>> candidates;
+
+    public DamageSystem(MapBase map, int priority) {
+        super(Families.PLAYER_ATTACKS, priority);
+        this.map = map;
+        candidates = new Array<>(false, 8);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        if (Mappers.HEALTH.get(entity).points <= 0) {
+            return;
+        }
+        EnemyBase<?> enemy = getHitEnemy(Mappers.BOUNDS.get(entity).dealDamage);
+        if (enemy == null) {
+            return;
+        }
+        Damage damage = Mappers.DAMAGE.get(entity).damage;
+        boolean enemyTookDamage = enemy.takeDamage(damage);
+        if (!enemy.isDead() || damage.getType() != Damage.Type.HEAVY) {
+            Mappers.PLAYER_ATTACK.get(entity).attack.die(enemyTookDamage);
+        }
+    }
+
+    /**
+     * @return The living enemy whose damage box overlaps with the area, the first in the map's list if several do
+     */
+    private EnemyBase<?> getHitEnemy(Rectangle area) {
+        candidates.clear();
+        map.enemyHash.query(area, candidates);
+        EnemyBase<?> hitEnemy = null;
+        for (int i = 0; i < candidates.size; i++) {
+            EnemyBase<?> enemy = candidates.get(i);
+            if (enemy.isDead() || !enemy.spawned) {
+                continue;
+            }
+            if (hitEnemy != null && hitEnemy.spatialHashOrder < enemy.spatialHashOrder) {
+                continue;
+            }
+            if (area.overlaps(enemy.takeDamageBounds)) {
+                hitEnemy = enemy;
+            }
+        }
+        candidates.clear();
+        return hitEnemy;
+    }
+}
@@ -0,0 +1,34 @@
+package com.sideprojects.megamanxphantomblade.entities.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.sideprojects.megamanxphantomblade.enemies.EnemyAttack;
+import com.sideprojects.megamanxphantomblade.entities.Families;
+import com.sideprojects.megamanxphantomblade.entities.Mappers;
+import com.sideprojects.megamanxphantomblade.map.MapBase;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Moves the enemies' attacks, AttackWallSystem then kills the ones that hit a wall.
+ * The player picks up their damage in its own physics.
+ */
+public class EnemyAttackSystem extends IteratingSystem {
+    private final MapBase map;
+
+    public EnemyAttackSystem(MapBase map, int priority) {
+        super(Families.ENEMY_ATTACKS, priority);
+        this.map = map;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        EnemyAttack attack = Mappers.ENEMY_ATTACK.get(entity).attack;
+        attack.update(deltaTime);
+        if (!map.isPointInPlayerRange(attack.mapCollisionBounds.x, attack.mapCollisionBounds.y)) {
+            attack.setShouldBeRemoved(true);
+        }
+        if (attack.isShouldBeRemoved()) {
+            getEngine().removeEntity(entity);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.sideprojects.megamanxphantomblade.entities.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.utils.Array;
+import com.sideprojects.megamanxphantomblade.enemies.EnemyBase;
+import com.sideprojects.megamanxphantomblade.entities.components.ActiveComponent;
+import com.sideprojects.megamanxphantomblade.map.EnemySpawnIndex;
+import com.sideprojects.megamanxphantomblade.map.MapBase;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Spawns the enemies near the player and despawns the ones that are too far away.
+ * Only the spawn points around the player are looked up, so a step costs the same however long the stage is.
+ * Spawned enemies are active: their entity has an ActiveComponent, so the other systems go through them, and
+ * they are kept in the order of their spawn points.
+ */
+public class EnemySpawnSystem extends EntitySystem {
+    private final MapBase map;
+    // Enemies that are spawned
+    private final Array<EnemyBase<?>> active;
+    // Enemies that may not spawn again until their spawn point is out of the player's range
+    private final Array<EnemyBase<?>> waiting;
+
+    public EnemySpawnSystem(MapBase map, int priority) {
+        super(priority);
+        this.map = map;
+        active = new Array<>();
+        waiting = new Array<>();
+    }
+
+    /**
+     * @return The active enemies, in the order of their spawn points
+     */
+    public Array<EnemyBase<?>> getActive() {
+        return active;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        allowSpawningAgain();
+        spawnEnemiesNearPlayer();
+
+        for (int i = 0; i < active.size; i++) {
+            EnemyBase<?> enemy = active.get(i);
+            // If the enemy is outside of player's range, kill it
+            if (!map.isPointInPlayerRange(enemy.mapCollisionBounds.x, enemy.mapCollisionBounds.y)) {
+                enemy.despawn(!map.isPointInPlayerRange(enemy.spawnPos.x, enemy.spawnPos.y));
+            }
+        }
+        deactivateDespawned();
+    }
+
+    /**
+     * Removes the enemies that are no longer spawned from the active ones
+     */
+    public void deactivateDespawned() {
+        int kept = 0;
+        for (int i = 0; i < active.size; i++) {
+            EnemyBase<?> enemy = active.get(i);
+            if (enemy.spawned) {
+                active.set(kept++, enemy);
+            } else {
+                enemy.active = false;
+                enemy.entity.remove(ActiveComponent.class);
+                if (!enemy.canSpawn) {
+                    waiting.add(enemy);
+                }
+            }
+        }
+        active.truncate(kept);
+    }
+
+    private void allowSpawningAgain() {
+        for (int i = waiting.size - 1; i >= 0; i--) {
+            EnemyBase<?> enemy = waiting.get(i);
+            if (!map.isPointInPlayerRange(enemy.spawnPos.x, enemy.spawnPos.y)) {
+                enemy.canSpawn = true;
+                waiting.removeIndex(i);
+            }
+        }
+    }
+
+    private void spawnEnemiesNearPlayer() {
+        EnemySpawnIndex spawns = map.enemySpawns;
+        float playerX = map.player.mapCollisionBounds.x;
+        float range = map.getSpawnRangeX();
+        for (int i = spawns.first(playerX - range); i < spawns.size(); i++) {
+            EnemyBase<?> enemy = spawns.get(i);
+            if (enemy.spawnPos.x >= playerX + range) {
+                break;
+            }
+            if (enemy.active) {
+                continue;
+            }
+            if (!enemy.spawned) {
+                if (!enemy.canSpawn || !map.isPointInSpawnRange(enemy.spawnPos.x, enemy.spawnPos.y)) {
+                    continue;
+                }
+                enemy.spawn();
+            }
+            activate(enemy);
+        }
+    }
+
+    /**
+     * Adds the enemy to the active ones, keeping them in the order of their spawn points
+     */
+    private void activate(EnemyBase<?> enemy) {
+        int index = active.size;
+        while (index > 0 && active.get(index - 1).spawnIndex > enemy.spawnIndex) {
+            index--;
+        }
+        active.insert(index, enemy);
+        enemy.active = true;
+        enemy.entity.add(new ActiveComponent());
+    }
+}
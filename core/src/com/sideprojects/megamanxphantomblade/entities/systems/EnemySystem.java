@@ -0,0 +1,63 @@
+package com.sideprojects.megamanxphantomblade.entities.systems;
+
+import com.badlogic.gdx.utils.Array;
+import com.sideprojects.megamanxphantomblade.enemies.EnemyBase;
+import com.sideprojects.megamanxphantomblade.map.MapBase;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Runs the scripts' actions of the active enemies, once they have fallen and moved through the map, in the
+ * order of their spawn points.
+ * The scripts only change their own enemy, what they do to the map is kept in the enemy's side effects and
+ * applied once every enemy is updated. So the enemies can be updated in chunks on several threads, and the
+ * map ends up the same as when they are updated one by one.
+ * This relies on an enemy's update writing only to the enemy and its side effects, and reading nothing else
+ * than the player, the frozen enemy hash and the warmed up animations. Sounds, particles, attacks and the
+ * map's queues must go through EnemySideEffects, calling the sound player or map.particles from a script
+ * races with the other chunks.
+ */
+public class EnemySystem extends ChunkedSystem {
+    private final MapBase map;
+    private final EnemySpawnSystem spawns;
+    private Array<EnemyBase<?>> active;
+    private float deltaTime;
+
+    /**
+     * @param spawns Gives the active enemies, its update runs before this one
+     */
+    public EnemySystem(MapBase map, EnemySpawnSystem spawns, int priority) {
+        super(priority);
+        this.map = map;
+        this.spawns = spawns;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        this.deltaTime = deltaTime;
+        active = spawns.getActive();
+        // Enemies that die are despawned, they are moved in the hash after the chunks are done
+        map.enemyHash.freeze();
+        try {
+            processInChunks(active.size);
+        } finally {
+            map.enemyHash.thaw();
+        }
+
+        for (int i = 0; i < active.size; i++) {
+            EnemyBase<?> enemy = active.get(i);
+            if (enemy.spatialHash != null) {
+                enemy.spatialHash.update(enemy);
+            }
+            enemy.sideEffects.apply(map);
+        }
+        spawns.deactivateDespawned();
+    }
+
+    @Override
+    protected void process(int index) {
+        EnemyBase<?> enemy = active.get(index);
+        if (enemy.spawned) {
+            enemy.update(deltaTime);
+        }
+    }
+}
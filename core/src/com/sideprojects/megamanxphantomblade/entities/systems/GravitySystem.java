@@ -0,0 +1,35 @@
+package com.sideprojects.megamanxphantomblade.entities.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector2;
+import com.sideprojects.megamanxphantomblade.entities.Families;
+import com.sideprojects.megamanxphantomblade.entities.Mappers;
+import com.sideprojects.megamanxphantomblade.map.MapBase;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Pulls the living active objects down until they reach the map's fall speed.
+ * The player falls in its own physics, which also slows it down on walls.
+ */
+public class GravitySystem extends IteratingSystem {
+    private final MapBase map;
+
+    public GravitySystem(MapBase map, int priority) {
+        super(Families.FALLING, priority);
+        this.map = map;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        if (Mappers.HEALTH.get(entity).points <= 0) {
+            return;
+        }
+        Vector2 vel = Mappers.VELOCITY.get(entity).vel;
+        if (vel.y > map.MAX_FALLSPEED) {
+            vel.y -= map.GRAVITY * deltaTime;
+        } else {
+            vel.y = map.MAX_FALLSPEED;
+        }
+    }
+}
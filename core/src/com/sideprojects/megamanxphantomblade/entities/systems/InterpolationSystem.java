@@ -0,0 +1,25 @@
+package com.sideprojects.megamanxphantomblade.entities.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.sideprojects.megamanxphantomblade.entities.Families;
+import com.sideprojects.megamanxphantomblade.entities.Mappers;
+import com.sideprojects.megamanxphantomblade.entities.components.PositionComponent;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Remembers where everything was before this step, so rendering can interpolate between steps.
+ * Only goes through the positions, not the objects they belong to.
+ */
+public class InterpolationSystem extends IteratingSystem {
+    public InterpolationSystem(int priority) {
+        super(Families.POSITIONS, priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        PositionComponent position = Mappers.POSITION.get(entity);
+        position.previous.set(position.pos);
+        position.hasPrevious = true;
+    }
+}
@@ -0,0 +1,60 @@
+package com.sideprojects.megamanxphantomblade.entities.systems;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.sideprojects.megamanxphantomblade.MovingObject;
+import com.sideprojects.megamanxphantomblade.entities.Families;
+import com.sideprojects.megamanxphantomblade.entities.Mappers;
+import com.sideprojects.megamanxphantomblade.entities.components.ScriptComponent;
+import com.sideprojects.megamanxphantomblade.map.MapBase;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Moves the living active scripted objects by their velocity, stopping them at the walls of the map, and keeps
+ * what they collided with for their script.
+ * Each move only reads the map and writes its own object and script, so they are run in chunks. The enemies'
+ * hash is frozen meanwhile, the objects are moved in it after the chunks are done.
+ */
+public class MapCollisionSystem extends ChunkedSystem {
+    private final MapBase map;
+    private ImmutableArray<Entity> entities;
+    private float deltaTime;
+
+    public MapCollisionSystem(MapBase map, int priority) {
+        super(priority);
+        this.map = map;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        entities = engine.getEntitiesFor(Families.SCRIPTED);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        this.deltaTime = deltaTime;
+        map.enemyHash.freeze();
+        try {
+            processInChunks(entities.size());
+        } finally {
+            map.enemyHash.thaw();
+        }
+        for (int i = 0; i < entities.size(); i++) {
+            MovingObject object = Mappers.SCRIPT.get(entities.get(i)).object;
+            if (object.spatialHash != null) {
+                object.spatialHash.update(object);
+            }
+        }
+    }
+
+    @Override
+    protected void process(int index) {
+        Entity entity = entities.get(index);
+        if (Mappers.HEALTH.get(entity).points <= 0) {
+            return;
+        }
+        ScriptComponent script = Mappers.SCRIPT.get(entity);
+        script.collisions = script.script.moveObject(deltaTime, map);
+    }
+}
@@ -0,0 +1,22 @@
+package com.sideprojects.megamanxphantomblade.entities.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.sideprojects.megamanxphantomblade.animation.Particles;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Particles are kept in their own rings rather than as entities, see Particles.
+ */
+public class ParticleSystem extends EntitySystem {
+    private final Particles particles;
+
+    public ParticleSystem(Particles particles, int priority) {
+        super(priority);
+        this.particles = particles;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        particles.update(deltaTime);
+    }
+}
@@ -0,0 +1,36 @@
+package com.sideprojects.megamanxphantomblade.entities.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.sideprojects.megamanxphantomblade.entities.Families;
+import com.sideprojects.megamanxphantomblade.entities.Mappers;
+import com.sideprojects.megamanxphantomblade.map.MapBase;
+import com.sideprojects.megamanxphantomblade.player.PlayerAttack;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Moves the player's attacks, AttackWallSystem and DamageSystem then resolve what they hit.
+ * Attacks that are done are removed from the engine, the map returns them to their pool.
+ */
+public class PlayerAttackSystem extends IteratingSystem {
+    private final MapBase map;
+
+    public PlayerAttackSystem(MapBase map, int priority) {
+        super(Families.PLAYER_ATTACKS, priority);
+        this.map = map;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        PlayerAttack attack = Mappers.PLAYER_ATTACK.get(entity).attack;
+        // The player has moved already this step, but the muzzle hasn't followed yet
+        attack.savePreviousMuzzlePos();
+        attack.update(deltaTime);
+        if (!map.isPointInPlayerRange(attack.mapCollisionBounds.x, attack.mapCollisionBounds.y)) {
+            attack.setShouldBeRemoved(true);
+        }
+        if (attack.isShouldBeRemoved()) {
+            getEngine().removeEntity(entity);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.sideprojects.megamanxphantomblade.entities.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.sideprojects.megamanxphantomblade.map.MapBase;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Moves the player from the input, before anything else reacts to where the player is.
+ */
+public class PlayerSystem extends EntitySystem {
+    private final MapBase map;
+
+    public PlayerSystem(MapBase map, int priority) {
+        super(priority);
+        this.map = map;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        map.playerPhysics.update(map.player, deltaTime, map);
+        map.player.update(map, deltaTime);
+    }
+}
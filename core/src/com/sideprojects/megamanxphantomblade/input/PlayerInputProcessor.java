@@ -1,55 +1,71 @@
 package com.sideprojects.megamanxphantomblade.input;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputAdapter;
 import com.sideprojects.megamanxphantomblade.KeyMap;
 
 /**
  * Created by buivuhoang on 22/02/17.
+ * Presses are kept from the key down event until the end of the next simulation step, so each press is seen
+ * by exactly one step however many steps a frame runs. Set it as Gdx's input processor to receive the events.
  */
-public class PlayerInputProcessor implements InputProcessor {
+public class PlayerInputProcessor extends InputAdapter implements InputProcessor {
+    private static final Command[] COMMANDS = Command.values();
+
     private KeyMap keyMap;
+    // Commands pressed since the end of the last step, by Command ordinal
+    private final boolean[] justPressed;
 
     public PlayerInputProcessor(KeyMap keyMap) {
         this.keyMap = keyMap;
+        justPressed = new boolean[COMMANDS.length];
     }
 
     @Override
     public boolean isCommandPressed(Command command) {
-        switch (command) {
-            case LEFT:
-                return Gdx.input.isKeyPressed(keyMap.left);
-            case RIGHT:
-                return Gdx.input.isKeyPressed(keyMap.right);
-            case UP:
-                return Gdx.input.isKeyPressed(keyMap.up);
-            case JUMP:
-                return Gdx.input.isKeyPressed(keyMap.jump);
-            case DASH:
-                return Gdx.input.isKeyPressed(keyMap.dash);
-            case ATTACK:
-                return Gdx.input.isKeyPressed(keyMap.attack);
-            default:
-                return false;
-        }
+        return Gdx.input.isKeyPressed(getKey(command));
     }
 
     @Override
     public boolean isCommandJustPressed(Command command) {
+        return justPressed[command.ordinal()];
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        for (Command command : COMMANDS) {
+            if (getKey(command) == keycode) {
+                justPressed[command.ordinal()] = true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Forgets the presses, call at the end of every simulation step
+     */
+    public void endStep() {
+        for (int i = 0; i < justPressed.length; i++) {
+            justPressed[i] = false;
+        }
+    }
+
+    private int getKey(Command command) {
         switch (command) {
             case LEFT:
-                return Gdx.input.isKeyJustPressed(keyMap.left);
+                return keyMap.left;
             case RIGHT:
-                return Gdx.input.isKeyJustPressed(keyMap.right);
+                return keyMap.right;
             case UP:
-                return Gdx.input.isKeyJustPressed(keyMap.up);
+                return keyMap.up;
             case JUMP:
-                return Gdx.input.isKeyJustPressed(keyMap.jump);
+                return keyMap.jump;
             case DASH:
-                return Gdx.input.isKeyJustPressed(keyMap.dash);
+                return keyMap.dash;
             case ATTACK:
-                return Gdx.input.isKeyJustPressed(keyMap.attack);
+                return keyMap.attack;
             default:
-                return false;
+                return -1;
         }
     }
 }
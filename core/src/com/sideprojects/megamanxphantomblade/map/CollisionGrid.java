@@ -0,0 +1,164 @@
+package com.sideprojects.megamanxphantomblade.map;
+
+import com.sideprojects.megamanxphantomblade.physics.TileBase;
+import com.sideprojects.megamanxphantomblade.physics.TileNeighbours;
+import com.sideprojects.megamanxphantomblade.physics.tiles.SquareTriangleTile;
+import com.sideprojects.megamanxphantomblade.physics.tiles.TilePool;
+import com.sideprojects.megamanxphantomblade.physics.tiles.TileShape;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by buivuhoang on 21/10/17.
+ * Compact storage of the collidable map cells.
+ * Each cell only stores the id of its shape, and the shapes are shared between all cells that look the same.
+ * Tiles are placed into a TilePool when they are looked up.
+ */
+public class CollisionGrid {
+    private static final short EMPTY = 0;
+    // Shared by every cell outside of the map's edges
+    private static final TileShape WALL = TileShape.wall();
+
+    private final int width;
+    private final int height;
+    // Shape id per cell, row by row. Id 0 means there is no tile.
+    private final short[] cells;
+    private final List<TileShape> shapes;
+    // Neighbour mask per cell, see TileNeighbours. Rebuilt on the next lookup after the grid changes.
+    private final short[] neighbours;
+    private boolean neighboursDirty;
+    // Only used while building the grid
+    private final Map<Integer, Short> shapeIds;
+
+    public CollisionGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        cells = new short[width * height];
+        shapes = new ArrayList<>();
+        shapes.add(null);
+        shapeIds = new HashMap<>();
+        neighbours = new short[width * height];
+        neighboursDirty = true;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public void setSolid(int x, int y) {
+        setShape(x, y, TileShape.solid());
+    }
+
+    public void setHalf(int x, int y) {
+        setShape(x, y, TileShape.half());
+    }
+
+    public void setSquareTriangle(int x, int y, SquareTriangleTile.SquareAngle angle, int index, int total) {
+        setShape(x, y, TileShape.squareTriangle(angle, index, total));
+    }
+
+    private void setShape(int x, int y, TileShape shape) {
+        Short id = shapeIds.get(shape.key());
+        if (id == null) {
+            id = (short)shapes.size();
+            shapes.add(shape);
+            shapeIds.put(shape.key(), id);
+        }
+        cells[x + y * width] = id;
+        neighboursDirty = true;
+    }
+
+    /**
+     * @return Whether there is a tile at (x, y). Cells outside of the grid are empty.
+     */
+    public boolean isSolid(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height && cells[x + y * width] != EMPTY;
+    }
+
+    /**
+     * @return The shape of the tile at (x, y), or null if the cell is empty or outside of the grid
+     */
+    public TileShape getShape(int x, int y) {
+        if (!isSolid(x, y)) {
+            return null;
+        }
+        return shapes.get(cells[x + y * width]);
+    }
+
+    /**
+     * Finds the shape to collide with at (x, y), including the cells outside of the grid.
+     * Columns outside of the map are walls, and the space above a tile on the top row is also blocked.
+     * @return The shape, or null if there is nothing to collide with
+     */
+    public TileShape getCollidableShape(int x, int y) {
+        if (x < 0 || x >= width) {
+            return WALL;
+        }
+        if (y >= height) {
+            return isSolid(x, height - 1) ? WALL : null;
+        }
+        if (y < 0) {
+            return null;
+        }
+        return shapes.get(cells[x + y * width]);
+    }
+
+    /**
+     * Places the tile at (x, y) using the pool.
+     * @return The tile, or null if the cell is empty or outside of the grid
+     */
+    public TileBase getTile(int x, int y, TilePool pool) {
+        TileShape shape = getShape(x, y);
+        if (shape == null) {
+            return null;
+        }
+        return shape.place(x, y, pool);
+    }
+
+    /**
+     * @return The mask of collidable and square triangle neighbours of (x, y)
+     */
+    public int getNeighbours(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return calculateNeighbours(x, y);
+        }
+        updateNeighbours();
+        return neighbours[x + y * width] & 0xFFFF;
+    }
+
+    /**
+     * Precomputes the neighbour masks of all cells, if the grid has changed since the last time.
+     */
+    public void updateNeighbours() {
+        if (!neighboursDirty) {
+            return;
+        }
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                neighbours[x + y * width] = (short)calculateNeighbours(x, y);
+            }
+        }
+        neighboursDirty = false;
+    }
+
+    private int calculateNeighbours(int x, int y) {
+        int mask = 0;
+        for (int direction = 0; direction < TileNeighbours.COUNT; direction++) {
+            TileShape shape = getCollidableShape(x + TileNeighbours.offsetX(direction), y + TileNeighbours.offsetY(direction));
+            if (shape != null) {
+                mask |= 1 << direction;
+                if (shape.isSquareTriangle()) {
+                    mask |= 1 << (direction + TileNeighbours.SQUARE_TRIANGLE_SHIFT);
+                }
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,54 @@
+package com.sideprojects.megamanxphantomblade.map;
+
+import com.badlogic.gdx.utils.Array;
+import com.sideprojects.megamanxphantomblade.enemies.EnemyBase;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * The enemies of a map sorted by the x of their spawn point, so the enemies that can spawn near the player
+ * are found without looking at the rest of the stage.
+ * Enemies with the same spawn x stay in the order they were added.
+ */
+public class EnemySpawnIndex {
+    private final Array<EnemyBase<?>> enemies;
+
+    public EnemySpawnIndex() {
+        enemies = new Array<>();
+    }
+
+    public void add(EnemyBase<?> enemy) {
+        int index = first(enemy.spawnPos.x);
+        while (index < enemies.size && enemies.get(index).spawnPos.x == enemy.spawnPos.x) {
+            index++;
+        }
+        enemies.insert(index, enemy);
+        for (int i = index; i < enemies.size; i++) {
+            enemies.get(i).spawnIndex = i;
+        }
+    }
+
+    /**
+     * @return The index of the first enemy whose spawn x is at least x, or size() if there is none
+     */
+    public int first(float x) {
+        int low = 0;
+        int high = enemies.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (enemies.get(mid).spawnPos.x < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public EnemyBase<?> get(int index) {
+        return enemies.get(index);
+    }
+
+    public int size() {
+        return enemies.size;
+    }
+}
@@ -1,33 +1,47 @@
 package com.sideprojects.megamanxphantomblade.map;
 
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
 import com.badlogic.gdx.maps.MapObjects;
 import com.badlogic.gdx.maps.MapProperties;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.Queue;
 import com.rahul.libgdx.parallax.ParallaxBackground;
+import com.sideprojects.megamanxphantomblade.Attack;
+import com.sideprojects.megamanxphantomblade.AttackPool;
 import com.sideprojects.megamanxphantomblade.MovingObject;
 import com.sideprojects.megamanxphantomblade.animation.Particle;
 import com.sideprojects.megamanxphantomblade.animation.Particles;
+import com.sideprojects.megamanxphantomblade.assets.Assets;
+import com.sideprojects.megamanxphantomblade.enemies.EnemyAnimationSets;
 import com.sideprojects.megamanxphantomblade.enemies.EnemyAttack;
 import com.sideprojects.megamanxphantomblade.enemies.EnemyBase;
 import com.sideprojects.megamanxphantomblade.enemies.types.mettool.Mettool;
 import com.sideprojects.megamanxphantomblade.enemies.types.nightmarevirus.NightmareVirus;
+import com.sideprojects.megamanxphantomblade.entities.Families;
+import com.sideprojects.megamanxphantomblade.entities.Mappers;
+import com.sideprojects.megamanxphantomblade.entities.systems.*;
 import com.sideprojects.megamanxphantomblade.physics.TileBase;
 import com.sideprojects.megamanxphantomblade.physics.player.PlayerPhysics;
 import com.sideprojects.megamanxphantomblade.physics.player.PlayerPhysicsFactory;
-import com.sideprojects.megamanxphantomblade.physics.tiles.RectangleTile;
 import com.sideprojects.megamanxphantomblade.physics.tiles.SquareTriangleTile;
+import com.sideprojects.megamanxphantomblade.physics.tiles.TilePool;
+import com.sideprojects.megamanxphantomblade.physics.tiles.TileShape;
 import com.sideprojects.megamanxphantomblade.player.PlayerAttack;
 import com.sideprojects.megamanxphantomblade.player.PlayerBase;
 import com.sideprojects.megamanxphantomblade.player.PlayerFactory;
 import com.sideprojects.megamanxphantomblade.sound.SoundPlayer;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Created by buivuhoang on 04/02/17.
@@ -57,6 +71,12 @@ public abstract class MapBase implements Disposable {
     public float WALLSLIDE_FALLSPEED = -2f;
     private static int MAX_PLAYERATTACK = 20;
     private static int MAX_ENEMYATTACK = 20;
+    // How far from the player things are kept, in multiples of half of the viewport.
+    // Enemies spawn closer than they despawn, so one moving around the edge does not flicker in and out.
+    private static float SPAWN_RANGE = 1.25f;
+    private static float DESPAWN_RANGE = 1.5f;
+    // Sounds played further than this from the player are not heard, same as where enemies spawn
+    private static float AUDIBLE_RANGE = 1.25f;
 
     public TiledMap tiledMap;
     private TiledMapTileLayer mapLayer;
@@ -65,13 +85,36 @@ public abstract class MapBase implements Disposable {
     private PlayerPhysicsFactory playerPhysicsFactory;
     public PlayerBase player;
     public PlayerPhysics playerPhysics;
-    public TileBase[][] bounds;
+    public CollisionGrid bounds;
 
+    // Everything that is simulated, updated by systems in the order of their priority.
+    // Objects bring their own entities, which they keep while they are off the map, so nothing is pooled here
+    public Engine engine;
+
+    // Enemies and attacks in the order they were added, which is also the order they are drawn in
     public List<EnemyBase> enemyList;
     public Queue<PlayerAttack> playerAttackQueue;
     public Queue<EnemyAttack> enemyAttackQueue;
+    // One pool per attack type, attacks go back to their pool when they leave the queues
+    private ObjectMap<Class<? extends Attack>, AttackPool<? extends Attack>> attackPools;
+
+    // Broadphase for damage queries
+    public SpatialHash<EnemyBase<?>> enemyHash;
+    public SpatialHash<EnemyAttack> enemyAttackHash;
+
+    // Enemies by spawn point, for spawning the ones near the player
+    public EnemySpawnIndex enemySpawns;
+    // Seeds of the enemies' generators, drawn when they spawn.
+    // Apart from its first number MathUtils.random is also used by collections, so it can't be relied on for replays.
+    public RandomXS128 enemySeeds;
+
+    // Half of the size of the camera's view, in tiles
+    private float viewportHalfWidth;
+    private float viewportHalfHeight;
 
     public Particles particles;
+    // One animation set per enemy type, shared by all enemies of the type
+    public EnemyAnimationSets enemyAnimations;
 
     // This is DI to inject into enemies
     private SoundPlayer soundPlayer;
@@ -80,13 +123,73 @@ public abstract class MapBase implements Disposable {
         this.playerFactory = playerFactory;
         this.playerPhysicsFactory = playerPhysicsFactory;
         this.soundPlayer = soundPlayer;
-        particles = new Particles(20);
+        enemySeeds = new RandomXS128(MathUtils.random.nextLong());
+        particles = new Particles(GRAVITY, MAX_FALLSPEED);
+        enemyAnimations = new EnemyAnimationSets();
         enemyList = new ArrayList<>();
         playerAttackQueue = new Queue<>(MAX_PLAYERATTACK);
         enemyAttackQueue = new Queue<>(MAX_ENEMYATTACK);
+        attackPools = new ObjectMap<>();
+        enemyHash = new SpatialHash<>();
+        enemyAttackHash = new SpatialHash<>();
+        enemySpawns = new EnemySpawnIndex();
+        setViewportSize(16, 9);
+        createEngine();
         loadMap(difficulty);
     }
 
+    private void createEngine() {
+        engine = new Engine();
+        engine.addSystem(new InterpolationSystem(0));
+        engine.addSystem(new PlayerSystem(this, 1));
+        engine.addSystem(new ParticleSystem(particles, 2));
+        engine.addSystem(new PlayerAttackSystem(this, 3));
+        engine.addSystem(new EnemyAttackSystem(this, 4));
+        engine.addSystem(new AttackWallSystem(this, 5));
+        engine.addSystem(new DamageSystem(this, 6));
+        EnemySpawnSystem enemySpawnSystem = new EnemySpawnSystem(this, 7);
+        engine.addSystem(enemySpawnSystem);
+        engine.addSystem(new GravitySystem(this, 8));
+        engine.addSystem(new MapCollisionSystem(this, 9));
+        engine.addSystem(new EnemySystem(this, enemySpawnSystem, 10));
+        engine.addSystem(new AnimationSystem(11));
+
+        // Attacks leave the map once their entity has been removed, at the end of the system that removed it
+        engine.addEntityListener(Families.PLAYER_ATTACKS, new EntityListener() {
+            @Override
+            public void entityAdded(Entity entity) {
+            }
+
+            @Override
+            public void entityRemoved(Entity entity) {
+                PlayerAttack attack = Mappers.PLAYER_ATTACK.get(entity).attack;
+                playerAttackQueue.removeValue(attack, true);
+                attack.free();
+            }
+        });
+        engine.addEntityListener(Families.ENEMY_ATTACKS, new EntityListener() {
+            @Override
+            public void entityAdded(Entity entity) {
+            }
+
+            @Override
+            public void entityRemoved(Entity entity) {
+                EnemyAttack attack = Mappers.ENEMY_ATTACK.get(entity).attack;
+                enemyAttackQueue.removeValue(attack, true);
+                enemyAttackHash.remove(attack);
+                attack.free();
+            }
+        });
+    }
+
+    /**
+     * @param runner Runs the chunks of enemy moves and updates, ChunkRunner.SERIAL to run them on the calling thread
+     */
+    public void setChunkRunner(ChunkRunner runner) {
+        engine.getSystem(MapCollisionSystem.class).setRunner(runner);
+        engine.getSystem(EnemySystem.class).setRunner(runner);
+    }
+
     public float getTileWidth() {
         return mapLayer.getTileWidth();
     }
@@ -116,7 +219,7 @@ public abstract class MapBase implements Disposable {
         if (mapLayer == null) {
             return;
         }
-        bounds = new TileBase[mapLayer.getWidth()][mapLayer.getHeight()];
+        bounds = new CollisionGrid(mapLayer.getWidth(), mapLayer.getHeight());
 
         // Spawn player and enemies
         MapObjects objects = tiledMap.getLayers().get(ObjectLayer).getObjects();
@@ -126,12 +229,14 @@ public abstract class MapBase implements Disposable {
             float y = object.getRectangle().y / getTileHeight();
             if (XSpawn.equals(object.getName())) {
                 player = playerFactory.createPlayer(x, y, difficulty);
+                player.animations.warmUp();
                 playerPhysics = playerPhysicsFactory.create(player);
+                engine.addEntity(player.entity);
             }
             if (MettoolSpawn.equals(object.getName())) {
-                enemyList.add(new Mettool(x, y, this, soundPlayer, difficulty));
+                addEnemy(new Mettool(x, y, this, soundPlayer, difficulty));
             } else if (NightmareVirusSpawn.equals(object.getName())) {
-                enemyList.add(new NightmareVirus(x, y, this, soundPlayer, difficulty));
+                addEnemy(new NightmareVirus(x, y, this, soundPlayer, difficulty));
             }
         }
 
@@ -142,60 +247,76 @@ public abstract class MapBase implements Disposable {
                 if (cell != null) {
                     MapProperties properties = cell.getTile().getProperties();
                     if (properties.containsKey(TileSize) && HalfTileSize.equals(properties.get(TileSize, String.class))) {
-                        bounds[x][y] = new RectangleTile(x, y, 1, 45/62f);
+                        bounds.setHalf(x, y);
                     } else if (properties.containsKey(TileType) && SquareTriangle.equals(properties.get(TileType, String.class))) {
                         String orientation = properties.get(Orientation, String.class);
                         int totalTiles = properties.get(TotalNumOfTiles, Integer.class);
                         int tileIndex = properties.get(TileIndex, Integer.class);
-                        float startY = y + tileIndex / (float)totalTiles;
-                        float endY = y + (tileIndex + 1) / (float)totalTiles;
                         if (BottomLeft.equals(orientation)) {
-                            bounds[x][y] = new SquareTriangleTile(x, startY, x, startY, x, endY, x + 1, startY, tileIndex, totalTiles);
+                            bounds.setSquareTriangle(x, y, SquareTriangleTile.SquareAngle.BottomLeft, tileIndex, totalTiles);
                         } else if (BottomRight.equals(orientation)) {
-                            bounds[x][y] = new SquareTriangleTile(x, startY, x + 1, startY, x + 1, endY, x, startY, tileIndex, totalTiles);
+                            bounds.setSquareTriangle(x, y, SquareTriangleTile.SquareAngle.BottomRight, tileIndex, totalTiles);
                         } else if (TopRight.equals(orientation)) {
-                            bounds[x][y] = new SquareTriangleTile(x, startY, x, endY, x, startY, x + 1, endY, tileIndex, totalTiles);
+                            bounds.setSquareTriangle(x, y, SquareTriangleTile.SquareAngle.TopRight, tileIndex, totalTiles);
                         } else if (TopLeft.equals(orientation)) {
-                            bounds[x][y] = new SquareTriangleTile(x, startY, x + 1, endY, x + 1, startY, x, endY, tileIndex, totalTiles);
+                            bounds.setSquareTriangle(x, y, SquareTriangleTile.SquareAngle.TopLeft, tileIndex, totalTiles);
                         }
                     } else {
-                        bounds[x][y] = new RectangleTile(x, y, 1, 1);
+                        bounds.setSolid(x, y);
                     }
                 }
             }
         }
+
+        // Precompute the neighbourhood of every cell for collision detection
+        bounds.updateNeighbours();
+    }
+
+    /**
+     * Sets the size of the camera's view, which decides how far from the player enemies spawn and things are removed.
+     * Called by the renderer, maps without one use a view of 16 by 9 tiles.
+     */
+    public void setViewportSize(float widthInTiles, float heightInTiles) {
+        viewportHalfWidth = widthInTiles / 2;
+        viewportHalfHeight = heightInTiles / 2;
     }
 
     /**
-     * This determines whether the point is potentially visible to the player
-     * The viewport height and width are 9 and 16. Half of those are 4.5 and 8.
-     * We allow a bit of leeway by giving another 1/4th of the values here.
+     * This determines whether the point is potentially visible to the player.
+     * Enemies and attacks are removed once they are out of this range.
      */
-    private boolean isPointInPlayerRange(float x, float y) {
-        return Math.abs((int)x - (int)player.mapCollisionBounds.x) < 12 && Math.abs((int)y - (int)player.mapCollisionBounds.y) < 7;
+    public boolean isPointInPlayerRange(float x, float y) {
+        return isPointInRange(x, y, DESPAWN_RANGE);
+    }
+
+    /**
+     * Enemies spawn once their spawn point is within this range, which is smaller than isPointInPlayerRange
+     */
+    public boolean isPointInSpawnRange(float x, float y) {
+        return isPointInRange(x, y, SPAWN_RANGE);
+    }
+
+    /**
+     * @return How far from the player on the x axis enemies spawn
+     */
+    public float getSpawnRangeX() {
+        return viewportHalfWidth * SPAWN_RANGE;
+    }
+
+    private boolean isPointInRange(float x, float y, float range) {
+        return Math.abs(x - player.mapCollisionBounds.x) < viewportHalfWidth * range
+                && Math.abs(y - player.mapCollisionBounds.y) < viewportHalfHeight * range;
     }
 
     public void update(float deltaTime) {
-        playerPhysics.update(player, deltaTime, this);
-        player.update(this, deltaTime);
-        particles.update(deltaTime);
-        updatePlayerAttack(deltaTime);
-        updateEnemyAttack(deltaTime);
-
-        for (EnemyBase enemy : enemyList) {
-            // If the enemy is outside of player's range, kill it
-            if (!isPointInPlayerRange(enemy.mapCollisionBounds.x, enemy.mapCollisionBounds.y)) {
-                if (isPointInPlayerRange(enemy.spawnPos.x, enemy.spawnPos.y)) {
-                    enemy.despawn(false);
-                } else {
-                    enemy.despawn(true);
-                }
-            } else if (!enemy.spawned && enemy.canSpawn) {
-                enemy.spawn();
-            }
-            if (enemy.spawned) {
-                enemy.update(deltaTime);
-            }
+        if (soundPlayer != null) {
+            soundPlayer.setListener(player.mapCollisionBounds.x, player.mapCollisionBounds.y,
+                    viewportHalfWidth * AUDIBLE_RANGE, viewportHalfHeight * AUDIBLE_RANGE);
+        }
+        engine.update(deltaTime);
+        // Everything requested a sound by now, so each of them is played at most once per tick
+        if (soundPlayer != null) {
+            soundPlayer.update(deltaTime);
         }
 
         // If player dies, respawn for now
@@ -204,77 +325,61 @@ public abstract class MapBase implements Disposable {
         }
     }
 
-    private void updatePlayerAttack(float deltaTime) {
-        Iterator<PlayerAttack> i = playerAttackQueue.iterator();
-        while (i.hasNext()) {
-            PlayerAttack attack = i.next();
-            attack.update(deltaTime);
-            if (!isPointInPlayerRange(attack.mapCollisionBounds.x, attack.mapCollisionBounds.y)) {
-                attack.setShouldBeRemoved(true);
-            }
-            if (attack.isShouldBeRemoved()) {
-                i.remove();
-            } else {
-                if (attack.canCollideWithWall()) {
-                    playerPhysics.stopAttackIfHitWall(attack, deltaTime, this);
-                }
-                playerPhysics.dealDamageIfPlayerAttackHitsEnemy(attack, this);
-            }
-        }
+    public boolean isOutOfBounds(MovingObject object) {
+        return object.mapCollisionBounds.y + object.mapCollisionBounds.getHeight() < 0;
     }
 
-    private void updateEnemyAttack(float deltaTime) {
-        Iterator<EnemyAttack> i = enemyAttackQueue.iterator();
-        while (i.hasNext()) {
-            EnemyAttack attack = i.next();
-            attack.update(deltaTime);
-            if (!isPointInPlayerRange(attack.mapCollisionBounds.x, attack.mapCollisionBounds.y)) {
-                attack.setShouldBeRemoved(true);
-            }
-            if (attack.isShouldBeRemoved()) {
-                i.remove();
-            } else {
-                if (attack.canCollideWithWall()) {
-                    playerPhysics.stopAttackIfHitWall(attack, deltaTime, this);
-                }
-            }
+    /**
+     * @param type The class of the attack, attacks of the same class share a pool
+     * @param newAttack Creates an attack when the pool is empty
+     * @return An attack to init and pass to addPlayerAttack or addEnemyAttack, which return it to the pool
+     * once it is removed from the map
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Attack> T obtainAttack(Class<T> type, Supplier<T> newAttack) {
+        AttackPool<T> pool = (AttackPool<T>) attackPools.get(type);
+        if (pool == null) {
+            pool = new AttackPool<>(newAttack, Math.max(MAX_PLAYERATTACK, MAX_ENEMYATTACK));
+            attackPools.put(type, pool);
         }
-    }
-
-    public boolean isOutOfBounds(MovingObject object) {
-        return object.mapCollisionBounds.y + object.mapCollisionBounds.getHeight() < 0;
+        return pool.obtain();
     }
 
     public void addPlayerAttack(PlayerAttack attack) {
+        engine.addEntity(attack.entity);
         playerAttackQueue.addLast(attack);
         if (playerAttackQueue.size >= MAX_PLAYERATTACK) {
-            playerAttackQueue.removeFirst();
+            engine.removeEntity(playerAttackQueue.removeFirst().entity);
         }
     }
 
     public void addEnemyAttack(EnemyAttack attack) {
+        engine.addEntity(attack.entity);
         enemyAttackQueue.addLast(attack);
+        enemyAttackHash.add(attack);
         if (enemyAttackQueue.size >= MAX_ENEMYATTACK) {
-            enemyAttackQueue.removeFirst();
+            engine.removeEntity(enemyAttackQueue.removeFirst().entity);
         }
     }
 
-    public TileBase getCollidableBox(int x, int y) {
-        if (x < 0 || x >= bounds.length) {
-            return new RectangleTile(x, y, 1, 1, true);
-        }
-        if (y >= bounds[0].length) {
-            if (x >= 0 && x < bounds.length ) {
-                if (bounds[x][bounds[0].length - 1] != null) {
-                    return new RectangleTile(x, y, 1, 1, true);
-                }
-            }
-            return null;
-        }
-        if (y < 0) {
+    public void addEnemy(EnemyBase enemy) {
+        engine.addEntity(enemy.entity);
+        enemyList.add(enemy);
+        enemyHash.add(enemy);
+        enemySpawns.add(enemy);
+    }
+
+    /**
+     * Places the tile at (x, y) into a tile from the pool.
+     * Columns outside of the map are walls, and the space above a tile on the top row is also blocked.
+     * @return The tile, or null if there is nothing to collide with
+     */
+    public TileBase getCollidableBox(int x, int y, TilePool pool) {
+        TileShape shape = bounds.getCollidableShape(x, y);
+        if (shape == null) {
             return null;
         }
-        return bounds[x][y];
+        return shape.place(x, y, pool);
     }
 
     public void addParticle(Particle.ParticleType type, float x, float y, boolean isSingletonParticle) {
@@ -283,6 +388,15 @@ public abstract class MapBase implements Disposable {
 
     @Override
     public void dispose() {
-        tiledMap.dispose();
+        // A preloaded map is disposed with the rest of the stage's assets
+        if (!Assets.isManaged(tiledMap)) {
+            tiledMap.dispose();
+        }
+        particles.dispose();
+        if (player != null) {
+            player.animations.dispose();
+        }
+        enemyAnimations.dispose();
+        engine.removeAllEntities();
     }
 }
\ No newline at end of file
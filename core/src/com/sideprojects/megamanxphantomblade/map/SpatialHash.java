@@ -0,0 +1,146 @@
+package com.sideprojects.megamanxphantomblade.map;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.sideprojects.megamanxphantomblade.MovingObject;
+
+/**
+ * Created by buivuhoang on 22/10/17.
+ * Broadphase for damage queries between moving objects.
+ * Objects are kept in buckets by the map cell of their position, and are moved when their position is updated.
+ * A query only returns the objects whose cell is near the queried area, the caller still needs to check the overlap.
+ */
+public class SpatialHash<T extends MovingObject> {
+    // Must be a power of 2
+    private static final int BUCKET_COUNT = 256;
+
+    private final Array<T>[] buckets;
+    private int nextOrder;
+    // How far in cells the damage bounds of an object can reach from its position
+    private int reach;
+    // While frozen the buckets are not changed, so objects can move on several threads
+    private boolean frozen;
+
+    @SuppressWarnings("unchecked")
+    public SpatialHash() {
+        buckets = (Array<T>[]) new Array<?>[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new Array<>(false, 4);
+        }
+        reach = 1;
+    }
+
+    /**
+     * Adds an object. Objects added earlier come first in the query order.
+     */
+    public void add(T object) {
+        if (object.spatialHash != null) {
+            object.spatialHash.remove(object);
+        }
+        object.spatialHash = this;
+        object.spatialHashOrder = nextOrder++;
+        object.spatialHashCellX = cell(object.mapCollisionBounds.x);
+        object.spatialHashCellY = cell(object.mapCollisionBounds.y);
+        bucket(object.spatialHashCellX, object.spatialHashCellY).add(object);
+        updateReach(object);
+    }
+
+    public void remove(MovingObject object) {
+        if (object.spatialHash != this) {
+            return;
+        }
+        bucket(object.spatialHashCellX, object.spatialHashCellY).removeValue(typed(object), true);
+        object.spatialHash = null;
+    }
+
+    /**
+     * Moves the object to the bucket of its current position.
+     * Does nothing while the hash is frozen.
+     */
+    public void update(MovingObject object) {
+        if (frozen) {
+            return;
+        }
+        int cellX = cell(object.mapCollisionBounds.x);
+        int cellY = cell(object.mapCollisionBounds.y);
+        if (cellX != object.spatialHashCellX || cellY != object.spatialHashCellY) {
+            T typed = typed(object);
+            bucket(object.spatialHashCellX, object.spatialHashCellY).removeValue(typed, true);
+            object.spatialHashCellX = cellX;
+            object.spatialHashCellY = cellY;
+            bucket(cellX, cellY).add(typed);
+        }
+        updateReach(object);
+    }
+
+    /**
+     * Stops moving objects between buckets until thaw is called. Queries return the objects where they were
+     * when the hash was frozen.
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Lets objects move between buckets again. Call update for every object that moved while the hash was frozen.
+     */
+    public void thaw() {
+        frozen = false;
+    }
+
+    public void clear() {
+        for (Array<T> bucket : buckets) {
+            for (T object : bucket) {
+                object.spatialHash = null;
+            }
+            bucket.clear();
+        }
+        nextOrder = 0;
+    }
+
+    /**
+     * Adds the objects that might overlap with the area to out, in no particular order.
+     * Use MovingObject.spatialHashOrder to pick between multiple overlapping objects.
+     */
+    public void query(Rectangle area, Array<T> out) {
+        int startX = cell(area.x) - reach;
+        int endX = cell(area.x + area.width) + reach;
+        int startY = cell(area.y) - reach;
+        int endY = cell(area.y + area.height) + reach;
+        for (int y = startY; y <= endY; y++) {
+            for (int x = startX; x <= endX; x++) {
+                Array<T> bucket = bucket(x, y);
+                for (int i = 0; i < bucket.size; i++) {
+                    T object = bucket.get(i);
+                    // Different cells can share a bucket
+                    if (object.spatialHashCellX == x && object.spatialHashCellY == y) {
+                        out.add(object);
+                    }
+                }
+            }
+        }
+    }
+
+    private void updateReach(MovingObject object) {
+        float objectReach = object.getDamageBoundsReach();
+        if (objectReach > reach) {
+            reach = (int)Math.ceil(objectReach);
+        }
+    }
+
+    private static int cell(float position) {
+        return (int)Math.floor(position);
+    }
+
+    /**
+     * Objects only know their hash as SpatialHash<? extends MovingObject>, the objects in this hash were all added as T
+     */
+    @SuppressWarnings("unchecked")
+    private T typed(MovingObject object) {
+        return (T)object;
+    }
+
+    private Array<T> bucket(int cellX, int cellY) {
+        return buckets[(cellX * 73856093 ^ cellY * 19349663) & (BUCKET_COUNT - 1)];
+    }
+}
@@ -0,0 +1,45 @@
+package com.sideprojects.megamanxphantomblade.map;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.sideprojects.megamanxphantomblade.animation.AnimationLoader;
+import com.sideprojects.megamanxphantomblade.animation.TextureSource;
+import com.sideprojects.megamanxphantomblade.assets.Assets;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ * Loads tmx maps, taking the tileset textures from the same TextureSource as the sprites.
+ * A map preloaded by the AssetManager is used as is.
+ */
+public class StageMapLoader extends TmxMapLoader {
+    @Override
+    public TiledMap load(String fileName) {
+        TiledMap preloaded = Assets.getLoaded(fileName, TiledMap.class);
+        if (preloaded != null) {
+            return preloaded;
+        }
+
+        TextureSource textureSource = AnimationLoader.getTextureSource();
+        if (textureSource == null) {
+            return super.load(fileName);
+        }
+
+        FileHandle tmxFile = resolve(fileName);
+        root = xml.parse(tmxFile);
+        ObjectMap<String, Texture> textures = new ObjectMap<>();
+        TiledMap map = loadTilemap(root, tmxFile, path -> {
+            Texture texture = textures.get(path);
+            if (texture == null) {
+                texture = textureSource.load(resolve(path));
+                textures.put(path, texture);
+            }
+            return new TextureRegion(texture);
+        });
+        map.setOwnedResources(textures.values().toArray());
+        return map;
+    }
+}
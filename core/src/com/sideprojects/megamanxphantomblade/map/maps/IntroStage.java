@@ -4,28 +4,49 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.math.Vector2;
 import com.rahul.libgdx.parallax.AnimationParallaxLayer;
 import com.rahul.libgdx.parallax.ParallaxBackground;
 import com.rahul.libgdx.parallax.Utils;
 import com.sideprojects.megamanxphantomblade.animation.AnimationLoader;
+import com.sideprojects.megamanxphantomblade.animation.Sprites;
+import com.sideprojects.megamanxphantomblade.assets.StageManifest;
 import com.sideprojects.megamanxphantomblade.map.MapBase;
+import com.sideprojects.megamanxphantomblade.map.StageMapLoader;
 import com.sideprojects.megamanxphantomblade.physics.player.PlayerPhysicsFactory;
 import com.sideprojects.megamanxphantomblade.player.PlayerFactory;
 import com.sideprojects.megamanxphantomblade.sound.SoundPlayer;
+import com.sideprojects.megamanxphantomblade.sound.Sounds;
 
 /**
  * Created by buivuhoang on 04/02/17.
  */
 public class IntroStage extends MapBase {
+    private static final String MAP = "maps/IntroStage.tmx";
+    private static final String BACKGROUND = "maps/background.txt";
+    // Each background holds on to the atlas
+    private int backgroundsLoaded;
+
     public IntroStage(PlayerFactory playerFactory, PlayerPhysicsFactory playerPhysicsFactory, SoundPlayer soundPlayer, int difficulty) {
         super(playerFactory, playerPhysicsFactory, soundPlayer, difficulty);
     }
 
+    /**
+     * Everything the stage loads, to preload before it starts
+     */
+    public static StageManifest getManifest() {
+        return new StageManifest(MAP)
+                .addAtlases(BACKGROUND, Sprites.METTOOL, Sprites.NIGHTMARE_VIRUS)
+                .addAtlases(Sprites.PLAYER_X)
+                .addAtlases(Sprites.COMMON)
+                .addSounds(Sounds.NightmareVirusShoot)
+                .addSounds(Sounds.PLAYER_X)
+                .addSounds(Sounds.COMMON);
+    }
+
     @Override
     protected TiledMap getMapResource() {
-        return new TmxMapLoader().load("maps/IntroStage.tmx");
+        return new StageMapLoader().load(MAP);
     }
 
     @Override
@@ -33,12 +54,22 @@ public class IntroStage extends MapBase {
         float worldWidth = Gdx.graphics.getWidth();
         float worldHeight = Utils.calculateOtherDimension(Utils.WH.width, worldWidth, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 
-        Animation<TextureRegion> background = AnimationLoader.load("maps/background.txt", null, false, 0.05f);
+        Animation<TextureRegion> background = AnimationLoader.load(BACKGROUND, null, 0.05f);
+        backgroundsLoaded++;
         background.setPlayMode(Animation.PlayMode.LOOP_PINGPONG);
         AnimationParallaxLayer backgroundLayer = new AnimationParallaxLayer(background, worldHeight, new Vector2(0.7f,0.7f), Utils.WH.width);
+        backgroundLayer.setRepeatingTexture(true);
 
         ParallaxBackground parallaxBackground = new ParallaxBackground();
         parallaxBackground.addLayers(backgroundLayer);
         return parallaxBackground;
     }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        for (; backgroundsLoaded > 0; backgroundsLoaded--) {
+            AnimationLoader.release(BACKGROUND);
+        }
+    }
 }
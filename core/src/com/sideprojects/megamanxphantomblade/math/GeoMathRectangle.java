@@ -7,6 +7,8 @@ import static com.sideprojects.megamanxphantomblade.math.NumberMath.numberIsBetw
 
 /**
  * Created by buivuhoang on 10/02/17.
+ * The find* methods return a new vector, or null if there is no intersection.
+ * The intersect* methods take raw coordinates and write the intersection into out instead, so they don't allocate.
  */
 public class GeoMathRectangle {
 
@@ -14,99 +16,131 @@ public class GeoMathRectangle {
      *  Finds intersection of the extended sides of a tile with a vector.
      */
     public static Vector2 findIntersectionLeft(TileBase tile, Vector2 start, Vector2 end) {
-        float x = tile.x();
+        Vector2 intersection = new Vector2();
+        return intersectLeft(tile.x(), tile.y(), tile.getHeight(), start.x, start.y, end.x, end.y, intersection) ? intersection : null;
+    }
+
+    public static Vector2 findIntersectionRight(TileBase tile, Vector2 start, Vector2 end) {
+        Vector2 intersection = new Vector2();
+        return intersectRight(tile.x(), tile.y(), tile.getWidth(), tile.getHeight(), start.x, start.y, end.x, end.y, intersection) ? intersection : null;
+    }
+
+    public static Vector2 findIntersectionDown(TileBase tile, Vector2 start, Vector2 end) {
+        Vector2 intersection = new Vector2();
+        return intersectDown(tile.x(), tile.y(), tile.getWidth(), start.x, start.y, end.x, end.y, intersection) ? intersection : null;
+    }
+
+    public static Vector2 findIntersectionUp(TileBase tile, Vector2 start, Vector2 end) {
+        Vector2 intersection = new Vector2();
+        return intersectUp(tile.x(), tile.y(), tile.getWidth(), tile.getHeight(), start.x, start.y, end.x, end.y, intersection) ? intersection : null;
+    }
+
+    /**
+     * Finds the intersection of the left side of a tile with the line from start to end.
+     * @param out Receives the intersection, left untouched if there is none
+     * @return Whether there is an intersection
+     */
+    public static boolean intersectLeft(float tileX, float tileY, float tileHeight,
+                                        float startX, float startY, float endX, float endY, Vector2 out) {
+        float x = tileX;
 
         // Quickly fail if x is outside of range
-        if (!numberIsBetween(x, start.x, end.x)) {
-            return null;
+        if (!numberIsBetween(x, startX, endX)) {
+            return false;
         }
         // Ignore if the collision is on top, and the player is also on top
-        if (start.x > x) {
-            return null;
+        if (startX > x) {
+            return false;
         }
 
         // Find the y of the intersection
-        float ratio = (end.x - x) / (end.x - start.x);
-        float y = (start.y - end.y) * ratio + end.y;
+        float ratio = (endX - x) / (endX - startX);
+        float y = (startY - endY) * ratio + endY;
 
         // Check if y is outside of the tile
-        if (!numberIsBetween(y, tile.y(), tile.y() + tile.getHeight())) {
-            return null;
+        if (!numberIsBetween(y, tileY, tileY + tileHeight)) {
+            return false;
         }
 
-        return new Vector2(x, y);
+        out.set(x, y);
+        return true;
     }
 
-    public static Vector2 findIntersectionRight(TileBase tile, Vector2 start, Vector2 end) {
-        float x = tile.x() + tile.getWidth();
+    public static boolean intersectRight(float tileX, float tileY, float tileWidth, float tileHeight,
+                                         float startX, float startY, float endX, float endY, Vector2 out) {
+        float x = tileX + tileWidth;
 
         // Quickly fail if x is outside of range
-        if (!numberIsBetween(x, start.x, end.x)) {
-            return null;
+        if (!numberIsBetween(x, startX, endX)) {
+            return false;
         }
         // Ignore if the collision is on top, and the player is also on top
-        if (start.x < x) {
-            return null;
+        if (startX < x) {
+            return false;
         }
 
         // Find the y of the intersection
-        float ratio = (end.x - x) / (end.x - start.x);
-        float y = (start.y - end.y) * ratio + end.y;
+        float ratio = (endX - x) / (endX - startX);
+        float y = (startY - endY) * ratio + endY;
 
         // Check if y is outside of the tile
-        if (!numberIsBetween(y, tile.y(), tile.y() + tile.getHeight())) {
-            return null;
+        if (!numberIsBetween(y, tileY, tileY + tileHeight)) {
+            return false;
         }
 
-        return new Vector2(x, y);
+        out.set(x, y);
+        return true;
     }
 
-    public static Vector2 findIntersectionDown(TileBase tile, Vector2 start, Vector2 end) {
-        float y = tile.y();
+    public static boolean intersectDown(float tileX, float tileY, float tileWidth,
+                                        float startX, float startY, float endX, float endY, Vector2 out) {
+        float y = tileY;
 
         // Quickly fail if x is outside of range
-        if (!numberIsBetween(y, start.y, end.y)) {
-            return null;
+        if (!numberIsBetween(y, startY, endY)) {
+            return false;
         }
         // Ignore if the collision is from outside of the tile's x range
-        if (start.y > y) {
-            return null;
+        if (startY > y) {
+            return false;
         }
 
         // Find the y of the intersection
-        float ratio = (end.y - y) / (end.y - start.y);
-        float x = (start.x - end.x) * ratio + end.x;
+        float ratio = (endY - y) / (endY - startY);
+        float x = (startX - endX) * ratio + endX;
 
         // Check if y is outside of the tile
-        if (!numberIsBetween(x, tile.x(), tile.x() + tile.getWidth())) {
-            return null;
+        if (!numberIsBetween(x, tileX, tileX + tileWidth)) {
+            return false;
         }
 
-        return new Vector2(x, y);
+        out.set(x, y);
+        return true;
     }
 
-    public static Vector2 findIntersectionUp(TileBase tile, Vector2 start, Vector2 end) {
-        float y = tile.y() + tile.getHeight();
+    public static boolean intersectUp(float tileX, float tileY, float tileWidth, float tileHeight,
+                                      float startX, float startY, float endX, float endY, Vector2 out) {
+        float y = tileY + tileHeight;
 
         // Quickly fail if y is outside of range
-        if (!numberIsBetween(y, start.y, end.y)) {
-            return null;
+        if (!numberIsBetween(y, startY, endY)) {
+            return false;
         }
         // Ignore if the collision is from outside of the tile's y range
-        if (start.y < y) {
-            return null;
+        if (startY < y) {
+            return false;
         }
 
         // Find the y of the intersection
-        float ratio = (end.y - y) / (end.y - start.y);
-        float x = (start.x - end.x) * ratio + end.x;
+        float ratio = (endY - y) / (endY - startY);
+        float x = (startX - endX) * ratio + endX;
 
         // Check if y is outside of the tile
-        if (!numberIsBetween(x, tile.x(), tile.x() + tile.getWidth())) {
-            return null;
+        if (!numberIsBetween(x, tileX, tileX + tileWidth)) {
+            return false;
         }
 
-        return new Vector2(x, y);
+        out.set(x, y);
+        return true;
     }
-
 }
@@ -8,65 +8,77 @@ import static com.sideprojects.megamanxphantomblade.math.NumberMath.numberIsBetw
 
 /**
  * Created by buivuhoang on 15/04/17.
+ * The find* methods return a new vector, or null if there is no intersection.
+ * The intersect* methods take the raw coordinates of the line and write the intersection into out instead,
+ * so they don't allocate.
  */
 public class GeoMathTriangle {
     public static Vector2 findIntersectionDown(SquareTriangleTile tile, Vector2 start, Vector2 end) {
+        Vector2 intersection = new Vector2();
+        return intersectDown(tile, start.x, start.y, end.x, end.y, intersection) ? intersection : null;
+    }
+
+    public static Vector2 findVertexIntersectionUp(SquareTriangleTile tile, Vector2 start, Vector2 end) {
+        Vector2 intersection = new Vector2();
+        return intersectVertexUp(tile, start.x, start.y, end.x, end.y, intersection) ? intersection : null;
+    }
+
+    public static Vector2 findLineIntersectionUp(SquareTriangleTile tile, Vector2 start, Vector2 end) {
+        Vector2 intersection = new Vector2();
+        return intersectLineUp(tile, start.x, start.y, end.x, end.y, intersection) ? intersection : null;
+    }
+
+    /**
+     * Finds the intersection of the line from start to end with the bottom side of the tile.
+     * @param out Receives the intersection, may be changed even if there is none
+     * @return Whether there is an intersection
+     */
+    public static boolean intersectDown(SquareTriangleTile tile, float startX, float startY, float endX, float endY, Vector2 out) {
         // Ignore if the collision is from outside of the tile's x range
-        if (start.y > tile.yTopHigher) {
-            return null;
+        if (startY > tile.yTopHigher) {
+            return false;
         }
 
-        Vector2 intersect = new Vector2();
-        Intersector.intersectLines(tile.xBottomLower, tile.yBottomLower, tile.xBottomHigher, tile.yBottomHigher, start.x, start.y, end.x, end.y, intersect);
+        intersectLines(tile.xBottomLower, tile.yBottomLower, tile.xBottomHigher, tile.yBottomHigher, startX, startY, endX, endY, out);
 
         // Check if y is outside of the tile
-        if (!numberIsBetween(intersect.x, tile.xCorner, tile.xHorizontal)) {
-            return null;
-        }
-
-        if (!numberIsBetween(intersect.x, start.x, end.x) || !numberIsBetween(intersect.y, start.y, end.y)) {
-            return null;
+        if (!numberIsBetween(out.x, tile.xCorner, tile.xHorizontal)) {
+            return false;
         }
 
-        return intersect;
+        return numberIsBetween(out.x, startX, endX) && numberIsBetween(out.y, startY, endY);
     }
 
-    public static Vector2 findVertexIntersectionUp(SquareTriangleTile tile, Vector2 start, Vector2 end) {
-//        // Calculate the angle of the speed vector
-//        float angle = MathUtils.atan2(end.y - start.y, end.x - start.x);
-//        // Compare this angle to the tile's angle
-//        // If this angle is larger than the tile's angle, return null
-//        if (angle > tile.getAngle()) {
-//            return null;
-//        }
-
-        Vector2 intersect = findLineIntersectionUp(tile, start, end);
-
-        if (intersect == null) {
-            return null;
-        }
-
-        if (!numberIsBetween(intersect.x, start.x, end.x) || !numberIsBetween(intersect.y, start.y, end.y)) {
-            return null;
+    /**
+     * Finds the intersection of the line segment from start to end with the slope of the tile.
+     */
+    public static boolean intersectVertexUp(SquareTriangleTile tile, float startX, float startY, float endX, float endY, Vector2 out) {
+        if (!intersectLineUp(tile, startX, startY, endX, endY, out)) {
+            return false;
         }
 
-        return intersect;
+        return numberIsBetween(out.x, startX, endX) && numberIsBetween(out.y, startY, endY);
     }
 
-    public static Vector2 findLineIntersectionUp(SquareTriangleTile tile, Vector2 start, Vector2 end) {
+    /**
+     * Finds the intersection of the extended line through start and end with the slope of the tile.
+     */
+    public static boolean intersectLineUp(SquareTriangleTile tile, float startX, float startY, float endX, float endY, Vector2 out) {
         // Ignore if the collision is from outside of the tile's y range
-        if (start.y < tile.yBottomLower) {
-            return null;
+        if (startY < tile.yBottomLower) {
+            return false;
         }
 
-        Vector2 intersect = new Vector2();
-        Intersector.intersectLines(tile.xTopLower, tile.yTopLower, tile.xTopHigher, tile.yTopHigher, start.x, start.y, end.x, end.y, intersect);
+        intersectLines(tile.xTopLower, tile.yTopLower, tile.xTopHigher, tile.yTopHigher, startX, startY, endX, endY, out);
 
         // Check if y is outside of the tile
-        if (!numberIsBetween(intersect.x, tile.xCorner, tile.xHorizontal)) {
-            return null;
-        }
+        return numberIsBetween(out.x, tile.xCorner, tile.xHorizontal);
+    }
 
-        return intersect;
+    private static void intersectLines(float x1, float y1, float x2, float y2, float x3, float y3, float x4, float y4, Vector2 out) {
+        // Parallel lines leave the intersection at the origin, which the range checks then reject as usual
+        if (!Intersector.intersectLines(x1, y1, x2, y2, x3, y3, x4, y4, out)) {
+            out.setZero();
+        }
     }
 }
@@ -2,9 +2,6 @@ package com.sideprojects.megamanxphantomblade.math;
 
 import com.badlogic.gdx.math.Vector2;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * This class manages the creation of Vector2 objects.
  * If the vector is already created, this returns that instance instead of always
@@ -12,20 +9,121 @@ import java.util.Map;
  *
  * Notice: This is only meant to store frequently used immutable vectors
  *
+ * The vectors are kept in an open addressing table keyed on the bits of both coordinates packed into a long,
+ * so a lookup neither boxes nor allocates. The table has a fixed capacity, once it is full new vectors are
+ * created without being cached.
+ *
+ * Enemies can be updated on several threads. Entries are immutable once created, so finding a cached vector
+ * needs no lock, and only adding one is synchronized. Misses are counted under that lock. The shared cache
+ * does not count hits, a counter written by every lookup would have the threads contend on it.
+ *
  * Created by buivuhoang on 30/03/17.
  */
 public class VectorCache {
+    private static final int CAPACITY = 1024;
+    private static final VectorCache cache = new VectorCache(CAPACITY, false);
+
+    private static final class Entry {
+        private final long key;
+        private final Vector2 value;
+
+        private Entry(long key, Vector2 value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
 
-    private static Map<Float, Map<Float, Vector2>> vectorCache = new HashMap<>();
+    private final Entry[] entries;
+    private final int mask;
+    private final int maxSize;
+    private int size;
+    private final boolean countHits;
+    private long hits;
+    private long misses;
+
+    /**
+     * @param capacity The maximum number of cached vectors
+     */
+    VectorCache(int capacity) {
+        this(capacity, true);
+    }
+
+    /**
+     * @param countHits Whether to count the hits, only for caches used by a single thread
+     */
+    private VectorCache(int capacity, boolean countHits) {
+        this.countHits = countHits;
+        // Keep the table at most half full so probes stay short
+        int tableSize = Integer.highestOneBit(Math.max(capacity, 1) * 2 - 1) << 1;
+        entries = new Entry[tableSize];
+        mask = tableSize - 1;
+        maxSize = capacity;
+    }
 
     public static Vector2 get(float x, float y) {
-        if (!vectorCache.containsKey(x)) {
-            vectorCache.put(x, new HashMap<>());
+        return cache.obtain(x, y);
+    }
+
+    public static long getMisses() {
+        return cache.misses;
+    }
+
+    public static int size() {
+        return cache.size;
+    }
+
+    Vector2 obtain(float x, float y) {
+        long key = ((long)Float.floatToIntBits(x) << 32) | (Float.floatToIntBits(y) & 0xFFFFFFFFL);
+        int index = hash(key) & mask;
+        Entry entry;
+        while ((entry = entries[index]) != null) {
+            if (entry.key == key) {
+                if (countHits) {
+                    hits++;
+                }
+                return entry.value;
+            }
+            index = (index + 1) & mask;
         }
-        Map<Float, Vector2> innerCache = vectorCache.get(x);
-        if (!innerCache.containsKey(y)) {
-            innerCache.put(y, new Vector2(x, y));
+        return add(key, x, y);
+    }
+
+    private synchronized Vector2 add(long key, float x, float y) {
+        // Another thread may have added the vector since the lookup
+        int index = hash(key) & mask;
+        Entry entry;
+        while ((entry = entries[index]) != null) {
+            if (entry.key == key) {
+                if (countHits) {
+                    hits++;
+                }
+                return entry.value;
+            }
+            index = (index + 1) & mask;
+        }
+        misses++;
+        Vector2 vector = new Vector2(x, y);
+        if (size < maxSize) {
+            entries[index] = new Entry(key, vector);
+            size++;
         }
-        return innerCache.get(y);
+        return vector;
+    }
+
+    long hits() {
+        return hits;
+    }
+
+    long misses() {
+        return misses;
+    }
+
+    int cachedSize() {
+        return size;
+    }
+
+    private static int hash(long key) {
+        int hash = (int)(key ^ (key >>> 32)) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
     }
 }
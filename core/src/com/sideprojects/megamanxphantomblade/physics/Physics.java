@@ -26,15 +26,19 @@ public abstract class Physics extends PhysicsBase {
         postCollisionDetectionProcessing(collisions);
     }
 
-    private CollisionList calculateReaction(MovingObject object, float delta, MapBase map) {
+    /**
+     * Moves the object by its velocity, stopping it at the walls if it is stopped by walls
+     * @return What the object collided with, owned by this instance until the next call
+     */
+    protected final CollisionList calculateReaction(MovingObject object, float delta, MapBase map) {
         CollisionList collisionList = CollisionList.Empty;
 
         if (object.isStoppedByWalls()) {
             collisionList = getMapCollision(object, delta, map);
-            collisions = collisionList;
             // Apply collision-specific movement logic
             // Take current state into account if needed
-            for (Collision collision : collisionList.toList) {
+            for (int i = 0; i < collisionList.toList.size(); i++) {
+                Collision collision = collisionList.toList.get(i);
                 Vector2 preCollide = collision.getPostCollidePos();
                 switch (collision.side) {
                     case LeftSlippery:
@@ -2,6 +2,7 @@ package com.sideprojects.megamanxphantomblade.physics;
 
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.sideprojects.megamanxphantomblade.MovingObject;
 import com.sideprojects.megamanxphantomblade.enemies.EnemyAttack;
 import com.sideprojects.megamanxphantomblade.enemies.EnemyBase;
@@ -9,14 +10,10 @@ import com.sideprojects.megamanxphantomblade.Damage;
 import com.sideprojects.megamanxphantomblade.map.MapBase;
 import com.sideprojects.megamanxphantomblade.math.NumberMath;
 import com.sideprojects.megamanxphantomblade.physics.collision.Collision;
-import com.sideprojects.megamanxphantomblade.physics.collision.CollisionDetectionRay;
 import com.sideprojects.megamanxphantomblade.physics.collision.CollisionDetectionRay.Orientation;
 import com.sideprojects.megamanxphantomblade.physics.collision.CollisionDetectionRay.Side;
 import com.sideprojects.megamanxphantomblade.physics.collision.CollisionList;
-import com.sideprojects.megamanxphantomblade.Attack;
-
-import java.util.ArrayList;
-import java.util.List;
+import com.sideprojects.megamanxphantomblade.physics.tiles.TilePool;
 
 /**
  * Created by buivuhoang on 21/02/17.
@@ -32,22 +29,43 @@ public abstract class PhysicsBase {
     private int pushBackDirection;
     private boolean isBeingPushedBack;
 
+    private final TileNeighbours neighbours;
+    // Reused for the broadphase results of damage queries
+    private final Array<EnemyBase<?>> enemyCandidates;
+    private final Array<EnemyAttack> attackCandidates;
+
     public PhysicsBase() {
-        collisions = new CollisionList(new ArrayList<>());
+        collisions = new CollisionList();
+        neighbours = new TileNeighbours();
+        enemyCandidates = new Array<>(false, 8);
+        attackCandidates = new Array<>(false, 8);
         isBeingPushedBack = false;
     }
 
+    /**
+     * Finds the collisions between the object's movement and the map.
+     * The returned list is owned by this instance and is overwritten on the next call.
+     */
     public final CollisionList getMapCollision(MovingObject object, float deltaTime, MapBase map) {
         return getMapCollision(object, deltaTime, map, false);
     }
 
     public final CollisionList getMapCollision(MovingObject object, float deltaTime, MapBase map, boolean overlapMode) {
+        return getMapCollision(object, deltaTime, map, overlapMode, collisions);
+    }
+
+    /**
+     * Finds the collisions between the object's movement and the map, without allocating.
+     * @param result The list to clear and fill with the collisions. Its collision records and rays are reused.
+     * @return result
+     */
+    public final CollisionList getMapCollision(MovingObject object, float deltaTime, MapBase map, boolean overlapMode, CollisionList result) {
         Vector2 vel = object.vel;
         int direction = vel.x >= 0 ? MovingObject.RIGHT : MovingObject.LEFT;
         direction = vel.x == 0 ? object.direction : direction;
         Rectangle bounds = object.mapCollisionBounds;
 
-        collisions.toList.clear();
+        result.clear();
         // From inside out, find the first tile that collides with the player
         float stepX = vel.x * deltaTime;
         float stepY = vel.y * deltaTime;
@@ -60,27 +78,23 @@ public abstract class PhysicsBase {
         if (stepY > 0) {
             paddingY = bounds.height;
         }
-        Vector2 endPosX = new Vector2(bounds.x + stepX, bounds.y);
-        Vector2 endPosY = new Vector2(bounds.x, bounds.y + stepY);
-        Vector2 endPos = new Vector2(bounds.x + stepX, bounds.y + stepY);
+        float endPosX = bounds.x + stepX;
+        float endPosY = bounds.y + stepY;
 
         // Setup collision detection rays
-        List<CollisionDetectionRay> detectionRayList = new ArrayList<>();
         object.resetCollisionDetectionRays();
         if (vel.x != 0) {
-            object.horizontalRay = new CollisionDetectionRay(bounds, endPosX, paddingX, 0, Side.Front, Orientation.Horizontal);
-            detectionRayList.add(object.horizontalRay);
-            detectionRayList.add(new CollisionDetectionRay(bounds, endPosX, paddingX, bounds.height, Side.Front, Orientation.Horizontal));
+            object.horizontalRay = result.obtainRay().set(bounds, endPosX, bounds.y, paddingX, 0, Side.Front, Orientation.Horizontal);
+            result.obtainRay().set(bounds, endPosX, bounds.y, paddingX, bounds.height, Side.Front, Orientation.Horizontal);
         }
         if (vel.y != 0) {
             Side side1 = direction == MovingObject.LEFT ? Side.Front : Side.Back;
             Side side2 = direction == MovingObject.RIGHT ? Side.Front : Side.Back;
-            detectionRayList.add(new CollisionDetectionRay(bounds, endPosY, 0, paddingY, side1, Orientation.Vertical));
-            detectionRayList.add(new CollisionDetectionRay(bounds, endPosY, bounds.width, paddingY, side2, Orientation.Vertical));
+            result.obtainRay().set(bounds, bounds.x, endPosY, 0, paddingY, side1, Orientation.Vertical);
+            result.obtainRay().set(bounds, bounds.x, endPosY, bounds.width, paddingY, side2, Orientation.Vertical);
         }
         if (vel.x != 0 && vel.y != 0) {
-            object.diagonalRay = new CollisionDetectionRay(bounds, endPos, paddingX, paddingY, Side.Front, Orientation.Diagonal);
-            detectionRayList.add(object.diagonalRay);
+            object.diagonalRay = result.obtainRay().set(bounds, endPosX, endPosY, paddingX, paddingY, Side.Front, Orientation.Diagonal);
         }
 
         // Loop through map and use collision detection rays to detect...well..collisions.
@@ -101,56 +115,48 @@ public abstract class PhysicsBase {
         }
 
         // paddingX is 0 when vel X is 0
-        int xEnd = (int)(endPosX.x + paddingX);
+        int xEnd = (int)(endPosX + paddingX);
 
         if (direction == MovingObject.RIGHT) {
-            float newEndPosX = endPosX.x + bounds.width;
+            float newEndPosX = endPosX + bounds.width;
             if (newEndPosX != (int)newEndPosX)
                 xEnd += 1;
         }
 
-        int yEnd = (int)(endPosY.y + paddingY);
+        int yEnd = (int)(endPosY + paddingY);
 
         // Loop through the rectangular area that the speed vector occupies
         // Get a list of all collisions with map tiles in the area
         // Identify the collision nearest to the player
         // Player has at most 2 collisions with the map at the same time
-        List<Collision> collisionList = new ArrayList<>(2);
+        TilePool tilePool = result.getTilePool();
         for (int y = yStart; NumberMath.hasNotExceeded(y, yStart, yEnd); y = NumberMath.iteratorNext(y, yStart, yEnd)) {
             for (int x = xStart; NumberMath.hasNotExceeded(x, xStart, xEnd); x = NumberMath.iteratorNext(x, xStart, xEnd)) {
-                TileBase tile = map.getCollidableBox(x, y);
+                TileBase tile = map.getCollidableBox(x, y, tilePool);
                 if (tile == null) {
                     continue;
                 }
-                // Get the tiles surrounding this one
-                TileBase tileUp = map.getCollidableBox(x, y + 1);
-                TileBase tileDown = map.getCollidableBox(x, y - 1);
-                TileBase tileLeft = map.getCollidableBox(x - 1, y);
-                TileBase tileRight = map.getCollidableBox(x + 1, y);
-                TileBase tileTopLeft = map.getCollidableBox(x - 1, y + 1);
-                TileBase tileTopRight = map.getCollidableBox(x + 1, y + 1);
-                TileBase tileBottomLeft = map.getCollidableBox(x - 1, y - 1);
-                TileBase tileBottomRight = map.getCollidableBox(x + 1, y - 1);
-
-                for (CollisionDetectionRay ray: detectionRayList) {
-                    Collision collision = tile.getCollisionWithTile(object, ray,
-                            tileUp, tileDown, tileLeft, tileRight, tileTopLeft, tileTopRight, tileBottomLeft, tileBottomRight,
-                            overlapMode);
+                // The tiles surrounding this one are looked up from the precomputed neighbour mask
+                neighbours.set(map, tilePool, x, y);
+
+                for (int i = 0; i < result.rayCount(); i++) {
+                    Collision collision = tile.getCollisionWithTile(object, result.getRay(i),
+                            neighbours, overlapMode, result.obtain());
                     if (collision != null) {
-                        collisionList.add(collision);
-                        collisions.toList.add(collision);
+                        result.add(collision);
                     }
                 }
             }
         }
 
-        return new CollisionList(collisionList);
+        result.refresh();
+        return result;
     }
 
     public final Damage getDamageDoneToPlayer(MovingObject object, MapBase map) {
         Damage damage;
         float enemyX;
-        EnemyBase enemy = getCollidingEnemy(object, map, false);
+        EnemyBase<?> enemy = getCollidingEnemy(object, map);
         if (enemy == null) {
             EnemyAttack attack = getCollidingEnemyAttack(object, map);
             if (attack == null) {
@@ -172,54 +178,46 @@ public abstract class PhysicsBase {
         return damage;
     }
 
-    public final void dealDamageIfPlayerAttackHitsEnemy(Attack attack, MapBase map) {
-        if (attack.isDead()) {
-            return;
-        }
-        EnemyBase enemy = getCollidingEnemy(attack, map, true);
-        if (enemy == null) {
-            return;
-        }
-        boolean enemyTookDamage = enemy.takeDamage(attack.damage);
-        if (!enemy.isDead() || attack.damage.getType() != Damage.Type.HEAVY) {
-            attack.die(enemyTookDamage);
-        }
-    }
-
-    private EnemyBase getCollidingEnemy(MovingObject object, MapBase map, boolean isEnemyTakingDamage) {
-        for (EnemyBase enemy: map.enemyList) {
+    private EnemyBase<?> getCollidingEnemy(MovingObject object, MapBase map) {
+        Rectangle area = object.takeDamageBounds;
+        enemyCandidates.clear();
+        map.enemyHash.query(area, enemyCandidates);
+        // Pick the first enemy in the map's list, same as a linear scan would
+        EnemyBase<?> collidingEnemy = null;
+        for (int i = 0; i < enemyCandidates.size; i++) {
+            EnemyBase<?> enemy = enemyCandidates.get(i);
             if (enemy.isDead() || !enemy.spawned) {
                 continue;
             }
-            // Here we get the enemy that is receiving the player's attack
-            if (isEnemyTakingDamage) {
-                if (object.getDealDamageBounds().overlaps(enemy.takeDamageBounds)) {
-                    return enemy;
-                }
+            if (collidingEnemy != null && collidingEnemy.spatialHashOrder < enemy.spatialHashOrder) {
+                continue;
             }
             // Here we get the enemy that is doing damage to the player
-            else if (object.takeDamageBounds.overlaps(enemy.getDealDamageBounds())) {
-                return enemy;
+            if (area.overlaps(enemy.getDealDamageBounds())) {
+                collidingEnemy = enemy;
             }
         }
-        return null;
+        enemyCandidates.clear();
+        return collidingEnemy;
     }
 
     private EnemyAttack getCollidingEnemyAttack(MovingObject object, MapBase map) {
-        for (EnemyAttack attack: map.enemyAttackQueue) {
+        attackCandidates.clear();
+        map.enemyAttackHash.query(object.takeDamageBounds, attackCandidates);
+        // Pick the oldest attack in the map's queue, same as a linear scan would
+        EnemyAttack collidingAttack = null;
+        for (int i = 0; i < attackCandidates.size; i++) {
+            EnemyAttack attack = attackCandidates.get(i);
+            if (collidingAttack != null && collidingAttack.spatialHashOrder < attack.spatialHashOrder) {
+                continue;
+            }
             if (!attack.isDead() && object.takeDamageBounds.overlaps(attack.getDealDamageBounds())) {
                 // Here we get the enemy attack that is doing damage to the player
-                return attack;
+                collidingAttack = attack;
             }
         }
-        return null;
-    }
-
-    public final void stopAttackIfHitWall(Attack attack, float delta, MapBase map) {
-        CollisionList collisions = getMapCollision(attack, delta, map, true);
-        if (!collisions.toList.isEmpty()) {
-            attack.die(true);
-        }
+        attackCandidates.clear();
+        return collidingAttack;
     }
 
     public void pushBack(int direction) {
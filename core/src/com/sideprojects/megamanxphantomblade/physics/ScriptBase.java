@@ -11,6 +11,8 @@ import com.sideprojects.megamanxphantomblade.physics.collision.CollisionList;
 
 /**
  * This class defines the behaviour of moving objects such as enemies
+ * The map runs a script in steps: GravitySystem pulls the object down, MapCollisionSystem moves it with
+ * moveObject, then the object's update runs the actions with act.
  * Created by buivuhoang on 04/04/17.
  */
 public abstract class ScriptBase extends Physics {
@@ -49,10 +51,27 @@ public abstract class ScriptBase extends Physics {
         addToQueue(new Wait(object, time));
     }
 
+    /**
+     * Moves the object through the map by its velocity
+     * @return What the object collided with, owned by this script until the next move
+     */
+    public final CollisionList moveObject(float delta, MapBase map) {
+        return calculateReaction(object, delta, map);
+    }
+
+    /**
+     * Runs the current action, or describes the next ones once there are none left
+     * @param collisions What the object collided with in its last move
+     */
+    public final void act(CollisionList collisions, float delta) {
+        this.delta = delta;
+        postCollisionDetectionProcessing(collisions);
+    }
+
     @Override
     public final void inputProcessing(MovingObject object, float delta, MapBase map) {
+        // The object falls in GravitySystem
         this.delta = delta;
-        applyGravity(object, map.GRAVITY, map.MAX_FALLSPEED, delta);
     }
 
     @Override
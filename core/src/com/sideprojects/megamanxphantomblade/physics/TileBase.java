@@ -9,24 +9,41 @@ import com.sideprojects.megamanxphantomblade.physics.collision.CollisionDetectio
  * Created by buivuhoang on 15/04/17.
  */
 public abstract class TileBase {
+    // Storage for intersections with the sides of this tile while looking for a collision
+    protected final Vector2 intersection = new Vector2();
+
     public abstract float x();
     public abstract float y();
     public abstract float getHeight();
     public abstract float getWidth();
     public abstract float[] getVertices();
-    public abstract Vector2 getPostCollisionPos(Collision collision);
+    public abstract Vector2 getPostCollisionPos(Collision collision, Vector2 out);
     public abstract float getYPositionIfStandingOnTile(float x);
 
+    /**
+     * Finds the collision between the ray and this tile, nearest to the start of the ray.
+     * @param out The record to write the collision into
+     * @return out if there is a collision, null otherwise
+     */
     public abstract Collision getCollisionWithTile(MovingObject object, CollisionDetectionRay ray,
-                                          TileBase tileUp,
-                                          TileBase tileDown,
-                                          TileBase tileLeft,
-                                          TileBase tileRight,
-                                          TileBase tileTopLeft,
-                                          TileBase tileTopRight,
-                                          TileBase tileBottomLeft,
-                                          TileBase tileBottomRight,
-                                          boolean overlapMode);
+                                                   TileNeighbours neighbours,
+                                                   boolean overlapMode,
+                                                   Collision out);
+
+    /**
+     * Writes the intersection point into out if it is nearer to the start of the ray than the current nearest collision.
+     * @return The nearest collision so far
+     */
+    protected Collision keepNearest(Collision nearest, Collision out, MovingObject object, Vector2 point, Collision.Side side,
+                                    CollisionDetectionRay ray, TileBase tileLeft, TileBase tileRight) {
+        if (point == null) {
+            return nearest;
+        }
+        if (nearest != null && Vector2.dst(point.x, point.y, ray.startX(), ray.startY()) >= nearest.distanceToStart()) {
+            return nearest;
+        }
+        return out.set(object, point.x, point.y, side, ray, this, tileLeft, tileRight);
+    }
 
     protected float calculateFinalY(float finalX, TileBase nextTile) {
         float finalY;
@@ -0,0 +1,79 @@
+package com.sideprojects.megamanxphantomblade.physics;
+
+import com.sideprojects.megamanxphantomblade.map.MapBase;
+import com.sideprojects.megamanxphantomblade.physics.tiles.TilePool;
+
+/**
+ * Created by buivuhoang on 22/10/17.
+ * The 8 tiles surrounding a map cell, read from the mask precomputed by the map's collision grid.
+ * Neighbour tiles are only placed when they are asked for.
+ */
+public class TileNeighbours {
+    public static final int UP = 0;
+    public static final int DOWN = 1;
+    public static final int LEFT = 2;
+    public static final int RIGHT = 3;
+    public static final int TOP_LEFT = 4;
+    public static final int TOP_RIGHT = 5;
+    public static final int BOTTOM_LEFT = 6;
+    public static final int BOTTOM_RIGHT = 7;
+    public static final int COUNT = 8;
+
+    // The low byte of a mask marks which neighbours are collidable, the high byte which ones are square triangles
+    public static final int SQUARE_TRIANGLE_SHIFT = 8;
+
+    private static final int[] OFFSET_X = {0, 0, -1, 1, -1, 1, -1, 1};
+    private static final int[] OFFSET_Y = {1, -1, 0, 0, 1, 1, -1, -1};
+
+    private MapBase map;
+    private TilePool pool;
+    private int x;
+    private int y;
+    private int mask;
+    private int placed;
+    private final TileBase[] tiles;
+
+    public TileNeighbours() {
+        tiles = new TileBase[COUNT];
+    }
+
+    public TileNeighbours set(MapBase map, TilePool pool, int x, int y) {
+        this.map = map;
+        this.pool = pool;
+        this.x = x;
+        this.y = y;
+        mask = map.bounds.getNeighbours(x, y);
+        placed = 0;
+        return this;
+    }
+
+    public static int offsetX(int direction) {
+        return OFFSET_X[direction];
+    }
+
+    public static int offsetY(int direction) {
+        return OFFSET_Y[direction];
+    }
+
+    public boolean has(int direction) {
+        return (mask & 1 << direction) != 0;
+    }
+
+    public boolean isSquareTriangle(int direction) {
+        return (mask & 1 << (direction + SQUARE_TRIANGLE_SHIFT)) != 0;
+    }
+
+    /**
+     * @return The neighbour tile in the direction, or null if there is nothing to collide with
+     */
+    public TileBase get(int direction) {
+        if (!has(direction)) {
+            return null;
+        }
+        if ((placed & 1 << direction) == 0) {
+            tiles[direction] = map.getCollidableBox(x + OFFSET_X[direction], y + OFFSET_Y[direction], pool);
+            placed |= 1 << direction;
+        }
+        return tiles[direction];
+    }
+}
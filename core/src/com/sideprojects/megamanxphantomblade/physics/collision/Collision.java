@@ -4,28 +4,26 @@ import com.badlogic.gdx.math.Vector2;
 import com.sideprojects.megamanxphantomblade.MovingObject;
 import com.sideprojects.megamanxphantomblade.physics.TileBase;
 
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
-
 /**
  * Created by buivuhoang on 09/02/17.
+ * Collision records are pooled by their CollisionList and reused every frame,
+ * so they should not be kept around after the next collision detection pass.
  */
 public class Collision {
     /**
      * The tile on the left of the colliding tile
      */
-    protected final TileBase tileLeft;
+    protected TileBase tileLeft;
 
     /**
      * The tile on the right of the colliding tile
      */
-    protected final TileBase tileRight;
+    protected TileBase tileRight;
 
     /**
      * The point of the collision
       */
-    public Vector2 point;
+    public final Vector2 point;
 
     /**
      * The side that the collision happens on the tile
@@ -52,25 +50,34 @@ public class Collision {
      */
     public MovingObject object;
 
-    public Collision(MovingObject object, Vector2 collidePoint, Side collideSide, CollisionDetectionRay ray, TileBase tile, TileBase tileLeft, TileBase tileRight) {
+    /**
+     * Storage for the position of the object after the collision, to avoid allocating on every query
+     */
+    private final Vector2 postCollidePos;
+
+    public Collision() {
+        point = new Vector2();
+        postCollidePos = new Vector2();
+    }
+
+    public Collision set(MovingObject object, float pointX, float pointY, Side collideSide, CollisionDetectionRay ray, TileBase tile, TileBase tileLeft, TileBase tileRight) {
         this.object = object;
-        this.point = collidePoint;
+        this.point.set(pointX, pointY);
         this.side = collideSide;
-        if (collidePoint != null) {
-            dist = collidePoint.dst(ray.getStart());
-        }
+        this.dist = Vector2.dst(pointX, pointY, ray.startX(), ray.startY());
         this.tile = tile;
         this.ray = ray;
         this.tileLeft = tileLeft;
         this.tileRight = tileRight;
+        return this;
     }
 
-    public Collision(MovingObject object, Vector2 collidePoint, Side collideSide, CollisionDetectionRay ray, TileBase tile) {
-        this(object, collidePoint, collideSide, ray, tile, null, null);
+    public float distanceToStart() {
+        return dist;
     }
 
     public Vector2 getPostCollidePos() {
-        return tile.getPostCollisionPos(this);
+        return tile.getPostCollisionPos(this, postCollidePos);
     }
 
     public enum Side {
@@ -79,23 +86,4 @@ public class Collision {
         UpRamp, // Behave exactly like Up, but at an angle
         None
     }
-
-    public static Collision getCollisionNearestToStart(List<Collision> list) {
-        Collision[] collisionArray = new Collision[list.size()];
-        collisionArray = list.toArray(collisionArray);
-
-        Arrays.sort(collisionArray, getComparatorByDistanceToStart());
-
-        return collisionArray[0];
-    }
-
-    private static Comparator<Collision> getComparatorByDistanceToStart() {
-        return new Comparator<Collision>() {
-            @Override
-            public int compare(Collision a, Collision b) {
-                return Float.compare(a.dist, b.dist);
-            }
-        };
-    }
 }
-
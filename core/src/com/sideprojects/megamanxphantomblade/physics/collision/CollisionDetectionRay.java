@@ -5,6 +5,8 @@ import com.badlogic.gdx.math.Vector2;
 
 /**
  * Created by buivuhoang on 11/02/17.
+ * Rays are owned and reused by the physics engine, so they are mutable.
+ * The vectors returned by the getters belong to the ray and are overwritten on the next call.
  */
 public class CollisionDetectionRay {
     public enum Side {
@@ -16,30 +18,66 @@ public class CollisionDetectionRay {
     }
 
     private Rectangle start;
-    private Vector2 end;
+    private float endX;
+    private float endY;
     private float paddingX;
     private float paddingY;
     public Side side;
     public Orientation orientation;
 
+    private final Vector2 startVector = new Vector2();
+    private final Vector2 endVector = new Vector2();
+    private final Vector2 originVector = new Vector2();
+
+    public CollisionDetectionRay() {
+        this.side = Side.Front;
+        this.orientation = Orientation.Horizontal;
+    }
+
     public CollisionDetectionRay(Rectangle start, Vector2 end, float paddingX, float paddingY, Side side, Orientation orientation) {
+        set(start, end.x, end.y, paddingX, paddingY, side, orientation);
+    }
+
+    public CollisionDetectionRay set(Rectangle start, float endX, float endY, float paddingX, float paddingY, Side side, Orientation orientation) {
         this.orientation = orientation;
         this.side = side;
         this.start = start;
-        this.end = end;
+        this.endX = endX;
+        this.endY = endY;
         this.paddingX = paddingX;
         this.paddingY = paddingY;
+        return this;
+    }
+
+    public float startX() {
+        return start.x + paddingX;
+    }
+
+    public float startY() {
+        return start.y + paddingY;
+    }
+
+    public float endX() {
+        return endX + paddingX;
+    }
+
+    public float endY() {
+        return endY + paddingY;
     }
 
     public Vector2 getStart() {
-        return new Vector2(start.x + paddingX, start.y + paddingY);
+        return startVector.set(startX(), startY());
     }
 
     public Vector2 getEnd() {
-        return new Vector2(end.x + paddingX, end.y + paddingY);
+        return endVector.set(endX(), endY());
     }
 
     public Vector2 getOrigin(Vector2 collisionPoint) {
-        return new Vector2(collisionPoint.x - paddingX, collisionPoint.y - paddingY);
+        return getOrigin(collisionPoint, originVector);
+    }
+
+    public Vector2 getOrigin(Vector2 collisionPoint, Vector2 out) {
+        return out.set(collisionPoint.x - paddingX, collisionPoint.y - paddingY);
     }
 }
@@ -1,15 +1,23 @@
 package com.sideprojects.megamanxphantomblade.physics.collision;
 
+import com.sideprojects.megamanxphantomblade.physics.tiles.TilePool;
+
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Created by buivuhoang on 25/02/17.
+ * A list owns the collision records, detection rays and tiles it hands out, so it can be cleared and refilled
+ * every frame without allocating.
  */
 public class CollisionList {
     public static final CollisionList Empty = new CollisionList(new ArrayList<>());
     private static float edgeThreshold = 0.2f;
     public List<Collision> toList;
+    private List<Collision> recordPool;
+    private CollisionDetectionRay[] rayPool;
+    private int rayCount;
+    private TilePool tilePool;
     private boolean isCollidingSide;
     private float distanceToSideCollision;
     private Collision.Side collidingSide;
@@ -17,14 +25,85 @@ public class CollisionList {
     private boolean isAtEdgeRight;
     private boolean isColliding;
 
+    public CollisionList() {
+        this(new ArrayList<>());
+    }
+
     public CollisionList(List<Collision> collisionList) {
         this.toList = collisionList;
+        recordPool = new ArrayList<>();
+        rayPool = new CollisionDetectionRay[0];
+        tilePool = new TilePool();
+        refresh();
+    }
+
+    /**
+     * Removes all collisions. The records are kept to be handed out again by obtain().
+     */
+    public void clear() {
+        toList.clear();
+        rayCount = 0;
+        tilePool.reset();
+    }
+
+    /**
+     * The map tiles looked up while filling this list are placed here, so the collisions can keep referring to them.
+     */
+    public TilePool getTilePool() {
+        return tilePool;
+    }
+
+    /**
+     * Returns a free detection ray owned by this list, so the collisions keep pointing to valid rays
+     * until the list is cleared.
+     */
+    public CollisionDetectionRay obtainRay() {
+        if (rayCount == rayPool.length) {
+            CollisionDetectionRay[] newPool = new CollisionDetectionRay[rayCount + 1];
+            System.arraycopy(rayPool, 0, newPool, 0, rayCount);
+            newPool[rayCount] = new CollisionDetectionRay();
+            rayPool = newPool;
+        }
+        return rayPool[rayCount++];
+    }
+
+    public int rayCount() {
+        return rayCount;
+    }
+
+    public CollisionDetectionRay getRay(int index) {
+        return rayPool[index];
+    }
+
+    /**
+     * Returns a free collision record owned by this list.
+     * The same record is returned until it is added to the list.
+     */
+    public Collision obtain() {
+        int index = toList.size();
+        if (index == recordPool.size()) {
+            recordPool.add(new Collision());
+        }
+        return recordPool.get(index);
+    }
+
+    public void add(Collision collision) {
+        toList.add(collision);
+    }
+
+    /**
+     * Recalculates the collision summary. Needs to be called after the list has been filled.
+     */
+    public void refresh() {
         isCollidingSide = false;
         isAtEdgeLeft = false;
         isAtEdgeRight = false;
+        distanceToSideCollision = 0;
+        collidingSide = null;
         Collision up = null;
-        isColliding = !collisionList.isEmpty();
-        for (Collision collision: toList) {
+        isColliding = !toList.isEmpty();
+        for (int i = 0; i < toList.size(); i++) {
+            Collision collision = toList.get(i);
             if (collision.side == Collision.Side.Left ||
                     collision.side == Collision.Side.Right ||
                     collision.side == Collision.Side.Down) {
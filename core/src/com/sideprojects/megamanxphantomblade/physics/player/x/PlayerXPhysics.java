@@ -32,6 +32,8 @@ public class PlayerXPhysics extends PlayerPhysics {
     private PlayerState prevState;
 
     private PlayerXSound playerXSound;
+    // Copied by each bullet, so it is reused for every shot
+    private final Damage bulletDamage = new Damage(Damage.Type.LIGHT, Damage.Side.NONE, 0);
 
     public PlayerXPhysics(InputProcessor input, PlayerBase player, PlayerXSound playerSound) {
         super(input, player, playerSound);
@@ -148,8 +150,9 @@ public class PlayerXPhysics extends PlayerPhysics {
             bulletDirection = player.direction * -1;
         }
         Damage.Side side = bulletDirection == MovingObject.LEFT ? Damage.Side.RIGHT : Damage.Side.LEFT;
-        Damage damage = new Damage(player.attackType, side, player.difficulty);
-        map.addPlayerAttack(new XBuster(player, damage, bulletDirection, player.animations, playerSound));
+        bulletDamage.set(player.attackType, side, player.difficulty);
+        map.addPlayerAttack(map.obtainAttack(XBuster.class, XBuster::new)
+                .init(player, bulletDamage, bulletDirection, player.animations, playerSound));
     }
 
     private void resetAttackStatus() {
@@ -5,32 +5,53 @@ import com.badlogic.gdx.math.Vector2;
 import com.sideprojects.megamanxphantomblade.MovingObject;
 import com.sideprojects.megamanxphantomblade.math.GeoMathRectangle;
 import com.sideprojects.megamanxphantomblade.physics.TileBase;
+import com.sideprojects.megamanxphantomblade.physics.TileNeighbours;
 import com.sideprojects.megamanxphantomblade.physics.collision.Collision;
 import com.sideprojects.megamanxphantomblade.physics.collision.CollisionDetectionRay;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Created by buivuhoang on 15/04/17.
  */
 public class RectangleTile extends TileBase {
-    private Rectangle tile;
-    private float[] vertices;
+    private final Rectangle tile;
+    private final float[] vertices;
     private TileBase leftTile;
     private TileBase rightTile;
     private boolean slippery;
 
+    public RectangleTile() {
+        tile = new Rectangle();
+        vertices = new float[8];
+    }
+
     public RectangleTile(float x, float y, float width, float height, boolean slippery) {
-        tile = new Rectangle(x, y, width, height);
-        this.slippery = slippery;
-        vertices = new float[] {x, y, x + width, y, x + width, y + height, x, y + height};
+        this();
+        set(x, y, width, height, slippery);
     }
 
     public RectangleTile(float x, float y, float width, float height) {
         this(x, y, width, height, false);
     }
 
+    /**
+     * Moves this tile to a new position and shape, so map tiles can be placed from a pool instead of being kept per cell.
+     */
+    public RectangleTile set(float x, float y, float width, float height, boolean slippery) {
+        tile.set(x, y, width, height);
+        this.slippery = slippery;
+        vertices[0] = x;
+        vertices[1] = y;
+        vertices[2] = x + width;
+        vertices[3] = y;
+        vertices[4] = x + width;
+        vertices[5] = y + height;
+        vertices[6] = x;
+        vertices[7] = y + height;
+        leftTile = null;
+        rightTile = null;
+        return this;
+    }
+
     @Override
     public float x() {
         return tile.x;
@@ -58,77 +79,73 @@ public class RectangleTile extends TileBase {
 
     @Override
     public Collision getCollisionWithTile(MovingObject object, CollisionDetectionRay ray,
-                                                              TileBase tileUp,
-                                                              TileBase tileDown,
-                                                              TileBase tileLeft,
-                                                              TileBase tileRight,
-                                                              TileBase tileTopLeft,
-                                                              TileBase tileTopRight,
-                                                              TileBase tileBottomLeft,
-                                                              TileBase tileBottomRight,
-                                                              boolean overlapMode) {
-        if (tileTopLeft != null && tileTopLeft instanceof SquareTriangleTile) {
-            leftTile = tileTopLeft;
-        } else if (tileBottomLeft != null && tileBottomLeft instanceof SquareTriangleTile) {
-            leftTile = tileBottomLeft;
+                                          TileNeighbours neighbours,
+                                          boolean overlapMode,
+                                          Collision out) {
+        if (neighbours.isSquareTriangle(TileNeighbours.TOP_LEFT)) {
+            leftTile = neighbours.get(TileNeighbours.TOP_LEFT);
+        } else if (neighbours.isSquareTriangle(TileNeighbours.BOTTOM_LEFT)) {
+            leftTile = neighbours.get(TileNeighbours.BOTTOM_LEFT);
         } else {
-            leftTile = tileLeft;
+            leftTile = neighbours.get(TileNeighbours.LEFT);
         }
-        if (tileTopRight != null && tileTopRight instanceof SquareTriangleTile) {
-            rightTile = tileTopRight;
-        } else if (tileBottomRight != null && tileBottomRight instanceof SquareTriangleTile) {
-            rightTile = tileBottomRight;
+        if (neighbours.isSquareTriangle(TileNeighbours.TOP_RIGHT)) {
+            rightTile = neighbours.get(TileNeighbours.TOP_RIGHT);
+        } else if (neighbours.isSquareTriangle(TileNeighbours.BOTTOM_RIGHT)) {
+            rightTile = neighbours.get(TileNeighbours.BOTTOM_RIGHT);
         } else {
-            rightTile = tileRight;
+            rightTile = neighbours.get(TileNeighbours.RIGHT);
         }
 
-
-
-        Vector2 start = ray.getStart();
-        Vector2 end = ray.getEnd();
-
         // If we just wants to check collision from overlapping
         if (overlapMode) {
-            if (tile.contains(start)) {
-                return new Collision(object, start, Collision.Side.None, ray, this);
+            if (tile.contains(ray.startX(), ray.startY())) {
+                return out.set(object, ray.startX(), ray.startY(), Collision.Side.None, ray, this, null, null);
             } else {
                 return null;
             }
         }
 
-        // Put non-null ones in an array, then sort by distance to start
+        float startX = ray.startX();
+        float startY = ray.startY();
+        float endX = ray.endX();
+        float endY = ray.endY();
+        float x = tile.x;
+        float y = tile.y;
+        float width = tile.width;
+        float height = tile.height;
+        TileBase tileLeft = neighbours.get(TileNeighbours.LEFT);
+        TileBase tileRight = neighbours.get(TileNeighbours.RIGHT);
+
+        // Keep the intersection nearest to start
         // A line can only have at most 2 intersections with a rectangle
-        List<Collision> collisionList = new ArrayList<>(2);
+        Collision nearest = null;
 
         // Find intersection on each side of the tile
-        if (shouldThereBeCollisionWithSideTile(this, tileLeft)) {
-            Collision left = new Collision(object, GeoMathRectangle.findIntersectionLeft(this, start, end), slippery ? Collision.Side.LeftSlippery : Collision.Side.Left, ray, this);
-            if (left.point != null) collisionList.add(left);
-        }
-        if (shouldThereBeCollisionWithSideTile(this, tileRight)) {
-            Collision right = new Collision(object, GeoMathRectangle.findIntersectionRight(this, start, end), slippery ? Collision.Side.RightSlippery : Collision.Side.Right, ray, this);
-            if (right.point != null) collisionList.add(right);
+        if (shouldThereBeCollisionWithSideTile(this, tileLeft) &&
+                GeoMathRectangle.intersectLeft(x, y, height, startX, startY, endX, endY, intersection)) {
+            nearest = keepNearest(nearest, out, object, intersection, slippery ? Collision.Side.LeftSlippery : Collision.Side.Left, ray, null, null);
         }
-        if (tileUp == null) {
-            Collision up = new Collision(object, GeoMathRectangle.findIntersectionUp(this, start, end), Collision.Side.Up, ray, this, tileLeft, tileRight);
-            if (up.point != null) collisionList.add(up);
+        if (shouldThereBeCollisionWithSideTile(this, tileRight) &&
+                GeoMathRectangle.intersectRight(x, y, width, height, startX, startY, endX, endY, intersection)) {
+            nearest = keepNearest(nearest, out, object, intersection, slippery ? Collision.Side.RightSlippery : Collision.Side.Right, ray, null, null);
         }
-        if (tileDown == null) {
-            Collision down = new Collision(object, GeoMathRectangle.findIntersectionDown(this, start, end), Collision.Side.Down, ray, this);
-            if (down.point != null) collisionList.add(down);
+        if (!neighbours.has(TileNeighbours.UP) &&
+                GeoMathRectangle.intersectUp(x, y, width, height, startX, startY, endX, endY, intersection)) {
+            nearest = keepNearest(nearest, out, object, intersection, Collision.Side.Up, ray, tileLeft, tileRight);
         }
-
-        if (collisionList.isEmpty()) {
-            return null;
+        if (!neighbours.has(TileNeighbours.DOWN) &&
+                GeoMathRectangle.intersectDown(x, y, width, startX, startY, endX, endY, intersection)) {
+            nearest = keepNearest(nearest, out, object, intersection, Collision.Side.Down, ray, null, null);
         }
 
-        return Collision.getCollisionNearestToStart(collisionList);
+        return nearest;
     }
 
     @Override
-    public Vector2 getPostCollisionPos(Collision collision) {
+    public Vector2 getPostCollisionPos(Collision collision, Vector2 out) {
         if (collision.side == Collision.Side.Up) {
-            Vector2 finalPos = collision.ray.getOrigin(collision.point);
+            Vector2 finalPos = collision.ray.getOrigin(collision.point, out);
             MovingObject object = collision.object;
             if (object.horizontalRay != null) {
                 TileBase nextTile = object.direction == MovingObject.LEFT ? leftTile : rightTile;
@@ -143,7 +160,7 @@ public class RectangleTile extends TileBase {
             }
             return finalPos;
         }
-        return collision.ray.getOrigin(collision.point);
+        return collision.ray.getOrigin(collision.point, out);
     }
 
     @Override
@@ -6,12 +6,10 @@ import com.sideprojects.megamanxphantomblade.MovingObject;
 import com.sideprojects.megamanxphantomblade.math.GeoMathRectangle;
 import com.sideprojects.megamanxphantomblade.math.GeoMathTriangle;
 import com.sideprojects.megamanxphantomblade.physics.TileBase;
+import com.sideprojects.megamanxphantomblade.physics.TileNeighbours;
 import com.sideprojects.megamanxphantomblade.physics.collision.Collision;
 import com.sideprojects.megamanxphantomblade.physics.collision.CollisionDetectionRay;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Created by buivuhoang on 15/04/17.
  */
@@ -20,7 +18,8 @@ public class SquareTriangleTile extends TileBase {
         BottomLeft, BottomRight, TopLeft, TopRight
     }
 
-    private Polygon tile;
+    private final Polygon tile;
+    private final float[] vertices;
     private float x;
     private float y;
     private float height;
@@ -56,7 +55,20 @@ public class SquareTriangleTile extends TileBase {
     private int index;
     private int total;
 
+    public SquareTriangleTile() {
+        vertices = new float[6];
+        tile = new Polygon(vertices);
+    }
+
     public SquareTriangleTile(float x, float y, float xCorner, float yCorner, float xVertical, float yVertical, float xHorizontal, float yHorizontal, int index, int total) {
+        this();
+        set(x, y, xCorner, yCorner, xVertical, yVertical, xHorizontal, yHorizontal, index, total);
+    }
+
+    /**
+     * Moves this tile to a new position and shape, so map tiles can be placed from a pool instead of being kept per cell.
+     */
+    public SquareTriangleTile set(float x, float y, float xCorner, float yCorner, float xVertical, float yVertical, float xHorizontal, float yHorizontal, int index, int total) {
         this.x = x;
         this.y = y;
         this.xCorner = xCorner;
@@ -118,10 +130,16 @@ public class SquareTriangleTile extends TileBase {
             upDirection = MovingObject.NONEDIRECTION;
         }
 
-        float[] vertices = new float[] {
-                xCorner, yCorner, xHorizontal, yHorizontal, xVertical, yVertical
-        };
-        tile = new Polygon(vertices);
+        vertices[0] = xCorner;
+        vertices[1] = yCorner;
+        vertices[2] = xHorizontal;
+        vertices[3] = yHorizontal;
+        vertices[4] = xVertical;
+        vertices[5] = yVertical;
+        tile.dirty();
+        leftTile = null;
+        rightTile = null;
+        return this;
     }
 
     @Override
@@ -151,88 +169,79 @@ public class SquareTriangleTile extends TileBase {
 
     @Override
     public Collision getCollisionWithTile(MovingObject object, CollisionDetectionRay ray,
-                                          TileBase tileUp,
-                                          TileBase tileDown,
-                                          TileBase tileLeft,
-                                          TileBase tileRight,
-                                          TileBase tileTopLeft,
-                                          TileBase tileTopRight,
-                                          TileBase tileBottomLeft,
-                                          TileBase tileBottomRight,
-                                          boolean overlapMode) {
+                                          TileNeighbours neighbours,
+                                          boolean overlapMode,
+                                          Collision out) {
         if (squareAngle == SquareAngle.BottomRight) {
             if (index > 0) {
-                leftTile = tileLeft;
+                leftTile = neighbours.get(TileNeighbours.LEFT);
             } else {
-                leftTile = tileBottomLeft;
+                leftTile = neighbours.get(TileNeighbours.BOTTOM_LEFT);
             }
-            if (index < total - 1 || !(tileTopRight instanceof SquareTriangleTile)) {
-                rightTile = tileRight;
+            if (index < total - 1 || !neighbours.isSquareTriangle(TileNeighbours.TOP_RIGHT)) {
+                rightTile = neighbours.get(TileNeighbours.RIGHT);
             } else {
-                rightTile = tileTopRight;
+                rightTile = neighbours.get(TileNeighbours.TOP_RIGHT);
             }
         } else if (squareAngle == SquareAngle.BottomLeft) {
             if (index > 0) {
-                rightTile = tileRight;
+                rightTile = neighbours.get(TileNeighbours.RIGHT);
             } else {
-                rightTile = tileBottomRight;
+                rightTile = neighbours.get(TileNeighbours.BOTTOM_RIGHT);
             }
-            if (index < total - 1 || !(tileTopLeft instanceof SquareTriangleTile)) {
-                leftTile = tileLeft;
+            if (index < total - 1 || !neighbours.isSquareTriangle(TileNeighbours.TOP_LEFT)) {
+                leftTile = neighbours.get(TileNeighbours.LEFT);
             } else {
-                leftTile = tileTopLeft;
+                leftTile = neighbours.get(TileNeighbours.TOP_LEFT);
             }
         }
 
-        Vector2 start = ray.getStart();
-        Vector2 end = ray.getEnd();
         int direction = object.movingDirection();
 
         // If we just wants to check collision from overlapping
         if (overlapMode) {
-            if (tile.contains(start)) {
-                return new Collision(object, start, Collision.Side.None, ray, this);
+            if (tile.contains(ray.startX(), ray.startY())) {
+                return out.set(object, ray.startX(), ray.startY(), Collision.Side.None, ray, this, null, null);
             } else {
                 return null;
             }
         }
 
-        // Put non-null ones in an array, then sort by distance to start
+        float startX = ray.startX();
+        float startY = ray.startY();
+        float endX = ray.endX();
+        float endY = ray.endY();
+
+        // Keep the intersection nearest to start
         // A line can only have at most 2 intersections with a rectangle
-        List<Collision> collisionList = new ArrayList<>(2);
+        Collision nearest = null;
 
         // Find intersection on each side of the tile
         if (squareAngle != SquareAngle.BottomRight && squareAngle != SquareAngle.TopRight &&
-                shouldThereBeCollisionWithSideTile(this, tileLeft)) {
-            Collision left = new Collision(object, GeoMathRectangle.findIntersectionLeft(this, start, end), Collision.Side.Left, ray, this);
-            if (left.point != null) collisionList.add(left);
+                shouldThereBeCollisionWithSideTile(this, neighbours.get(TileNeighbours.LEFT)) &&
+                GeoMathRectangle.intersectLeft(x(), y(), getHeight(), startX, startY, endX, endY, intersection)) {
+            nearest = keepNearest(nearest, out, object, intersection, Collision.Side.Left, ray, null, null);
         }
         if (squareAngle != SquareAngle.BottomLeft && squareAngle != SquareAngle.TopLeft &&
-                shouldThereBeCollisionWithSideTile(this, tileRight)) {
-            Collision right = new Collision(object, GeoMathRectangle.findIntersectionRight(this, start, end), Collision.Side.Right, ray, this);
-            if (right.point != null) collisionList.add(right);
+                shouldThereBeCollisionWithSideTile(this, neighbours.get(TileNeighbours.RIGHT)) &&
+                GeoMathRectangle.intersectRight(x(), y(), getWidth(), getHeight(), startX, startY, endX, endY, intersection)) {
+            nearest = keepNearest(nearest, out, object, intersection, Collision.Side.Right, ray, null, null);
         }
-        if ((squareAngle == SquareAngle.BottomLeft || squareAngle == SquareAngle.BottomRight) && tileUp == null &&
+        if ((squareAngle == SquareAngle.BottomLeft || squareAngle == SquareAngle.BottomRight) && !neighbours.has(TileNeighbours.UP) &&
                 ((direction == upDirection && ray.side == CollisionDetectionRay.Side.Front && (ray.orientation == CollisionDetectionRay.Orientation.Diagonal || object.diagonalRay == null)) ||
                         (direction != upDirection && ray.side == CollisionDetectionRay.Side.Back)
-                )
+                ) &&
+                GeoMathTriangle.intersectVertexUp(this, startX, startY, endX, endY, intersection)
             ) {
-            Collision up = new Collision(object, GeoMathTriangle.findVertexIntersectionUp(this, start, end), Collision.Side.UpRamp, ray, this, leftTile, rightTile);
-            if (up.point != null) collisionList.add(up);
+            nearest = keepNearest(nearest, out, object, intersection, Collision.Side.UpRamp, ray, leftTile, rightTile);
         }
-        if ((squareAngle == SquareAngle.TopLeft || squareAngle == SquareAngle.TopRight) && tileDown == null &&
-                object.vel.y >= 0) {
-            Collision down = new Collision(object, GeoMathTriangle.findIntersectionDown(this, start, end), Collision.Side.Down, ray, this);
-            if (down.point != null) {
-                collisionList.add(down);
-            }
-        }
-
-        if (collisionList.isEmpty()) {
-            return null;
+        if ((squareAngle == SquareAngle.TopLeft || squareAngle == SquareAngle.TopRight) && !neighbours.has(TileNeighbours.DOWN) &&
+                object.vel.y >= 0 &&
+                GeoMathTriangle.intersectDown(this, startX, startY, endX, endY, intersection)) {
+            nearest = keepNearest(nearest, out, object, intersection, Collision.Side.Down, ray, null, null);
         }
 
-        return Collision.getCollisionNearestToStart(collisionList);
+        return nearest;
     }
 
     private boolean shouldThereBeCollisionWithSideTile(TileBase thisTile, TileBase otherTile) {
@@ -240,9 +249,9 @@ public class SquareTriangleTile extends TileBase {
     }
 
     @Override
-    public Vector2 getPostCollisionPos(Collision collision) {
+    public Vector2 getPostCollisionPos(Collision collision, Vector2 out) {
         CollisionDetectionRay ray = collision.ray;
-        Vector2 finalPos = ray.getOrigin(collision.point);
+        Vector2 finalPos = ray.getOrigin(collision.point, out);
         MovingObject object = collision.object;
 
         if (collision.side == Collision.Side.UpRamp && object.vel.x != 0) {
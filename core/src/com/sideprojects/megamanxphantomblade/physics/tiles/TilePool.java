@@ -0,0 +1,40 @@
+package com.sideprojects.megamanxphantomblade.physics.tiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by buivuhoang on 21/10/17.
+ * Reusable tile objects that map cells are placed into when they are looked up.
+ * Tiles handed out stay valid until the pool is reset.
+ */
+public class TilePool {
+    private final List<RectangleTile> rectangles;
+    private final List<SquareTriangleTile> squareTriangles;
+    private int rectangleCount;
+    private int squareTriangleCount;
+
+    public TilePool() {
+        rectangles = new ArrayList<>();
+        squareTriangles = new ArrayList<>();
+    }
+
+    public RectangleTile obtainRectangle() {
+        if (rectangleCount == rectangles.size()) {
+            rectangles.add(new RectangleTile());
+        }
+        return rectangles.get(rectangleCount++);
+    }
+
+    public SquareTriangleTile obtainSquareTriangle() {
+        if (squareTriangleCount == squareTriangles.size()) {
+            squareTriangles.add(new SquareTriangleTile());
+        }
+        return squareTriangles.get(squareTriangleCount++);
+    }
+
+    public void reset() {
+        rectangleCount = 0;
+        squareTriangleCount = 0;
+    }
+}
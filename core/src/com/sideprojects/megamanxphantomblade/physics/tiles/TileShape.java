@@ -0,0 +1,92 @@
+package com.sideprojects.megamanxphantomblade.physics.tiles;
+
+import com.sideprojects.megamanxphantomblade.physics.TileBase;
+
+/**
+ * Created by buivuhoang on 21/10/17.
+ * Immutable description of a tile's shape, shared by every map cell that has the same kind, slope index and total.
+ */
+public final class TileShape {
+    public static final byte SOLID = 1;
+    public static final byte HALF = 2;
+    // Slippery solid tile used outside of the map's edges
+    public static final byte WALL = 3;
+    // Square triangles take one kind per SquareAngle, starting from here
+    public static final byte SQUARE_TRIANGLE = 4;
+
+    private static final float HALF_TILE_HEIGHT = 45/62f;
+
+    public final byte kind;
+    public final int index;
+    public final int total;
+    private final SquareTriangleTile.SquareAngle angle;
+    private final float startOffsetY;
+    private final float endOffsetY;
+
+    private TileShape(byte kind, SquareTriangleTile.SquareAngle angle, int index, int total) {
+        this.kind = kind;
+        this.angle = angle;
+        this.index = index;
+        this.total = total;
+        startOffsetY = total > 0 ? index / (float)total : 0;
+        endOffsetY = total > 0 ? (index + 1) / (float)total : 0;
+    }
+
+    public static TileShape solid() {
+        return new TileShape(SOLID, null, 0, 0);
+    }
+
+    public static TileShape wall() {
+        return new TileShape(WALL, null, 0, 0);
+    }
+
+    public static TileShape half() {
+        return new TileShape(HALF, null, 0, 0);
+    }
+
+    public static TileShape squareTriangle(SquareTriangleTile.SquareAngle angle, int index, int total) {
+        return new TileShape((byte)(SQUARE_TRIANGLE + angle.ordinal()), angle, index, total);
+    }
+
+    public boolean isSquareTriangle() {
+        return kind >= SQUARE_TRIANGLE;
+    }
+
+    /**
+     * Packs the kind, index and total into a key identifying this shape.
+     */
+    public static int key(byte kind, int index, int total) {
+        return (kind & 0xFF) | (index & 0xFFF) << 8 | (total & 0xFFF) << 20;
+    }
+
+    public int key() {
+        return key(kind, index, total);
+    }
+
+    /**
+     * Places this shape at the map cell (x, y), using a tile from the pool.
+     */
+    public TileBase place(int x, int y, TilePool pool) {
+        switch (kind) {
+            case SOLID:
+                return pool.obtainRectangle().set(x, y, 1, 1, false);
+            case HALF:
+                return pool.obtainRectangle().set(x, y, 1, HALF_TILE_HEIGHT, false);
+            case WALL:
+                return pool.obtainRectangle().set(x, y, 1, 1, true);
+        }
+        float startY = y + startOffsetY;
+        float endY = y + endOffsetY;
+        SquareTriangleTile tile = pool.obtainSquareTriangle();
+        switch (angle) {
+            case BottomLeft:
+                return tile.set(x, startY, x, startY, x, endY, x + 1, startY, index, total);
+            case BottomRight:
+                return tile.set(x, startY, x + 1, startY, x + 1, endY, x, startY, index, total);
+            case TopRight:
+                return tile.set(x, startY, x, endY, x, startY, x + 1, endY, index, total);
+            default:
+                return tile.set(x, startY, x + 1, endY, x + 1, startY, x, endY, index, total);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.sideprojects.megamanxphantomblade.player;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Disposable;
 import com.sideprojects.megamanxphantomblade.Damage;
 import com.sideprojects.megamanxphantomblade.MovingObject;
 import com.sideprojects.megamanxphantomblade.animation.AnimationCache;
@@ -10,19 +11,19 @@ import com.sideprojects.megamanxphantomblade.animation.AnimationCache;
 import java.util.List;
 
 /**
- * Loads player animations depending on the player state and direction
+ * Loads player animations depending on the player state.
+ * The answers of get and getAnimationPadding are kept in tables indexed by their discrete inputs,
+ * so looking up the animation of a frame doesn't allocate or hash. warmUp fills the tables up front.
  * Created by buivuhoang on 05/02/17.
  */
-public abstract class PlayerAnimationBase {
+public abstract class PlayerAnimationBase implements Disposable {
     protected class AnimationKey {
         private Type type;
-        private int direction;
         private String texture;
         private List<Integer> animationIndex;
 
-        public AnimationKey(Type type, int direction, String texture, List<Integer> animationIndex) {
+        public AnimationKey(Type type, String texture, List<Integer> animationIndex) {
             this.type = type;
-            this.direction = direction;
             this.texture = texture;
             this.animationIndex = animationIndex;
         }
@@ -34,7 +35,6 @@ public abstract class PlayerAnimationBase {
 
             AnimationKey that = (AnimationKey) o;
 
-            if (direction != that.direction) return false;
             if (type != that.type) return false;
             if (texture != null ? !texture.equals(that.texture) : that.texture != null) return false;
             return animationIndex != null ? animationIndex.equals(that.animationIndex) : that.animationIndex == null;
@@ -43,22 +43,98 @@ public abstract class PlayerAnimationBase {
         @Override
         public int hashCode() {
             int result = type != null ? type.hashCode() : 0;
-            result = 31 * result + direction;
             result = 31 * result + (texture != null ? texture.hashCode() : 0);
             result = 31 * result + (animationIndex != null ? animationIndex.hashCode() : 0);
             return result;
         }
     }
 
+    private static final Type[] TYPES = Type.values();
+    private static final Damage.Type[] ATTACK_TYPES = Damage.Type.values();
+    // One more slot for a null attack type
+    private static final int ATTACK_SLOTS = ATTACK_TYPES.length + 1;
+
     private AnimationCache<AnimationKey> animationCache;
 
+    private Animation<TextureRegion>[] animationTable;
+    private boolean[] animationResolved;
+    private Vector2[] paddingTable;
+
+    @SuppressWarnings("unchecked")
     public PlayerAnimationBase() {
         animationCache = new AnimationCache<>();
+        animationTable = (Animation<TextureRegion>[]) new Animation<?>[TYPES.length * 2 * 2 * ATTACK_SLOTS * 2 * 2];
+        animationResolved = new boolean[animationTable.length];
+        // Directions go from LEFT to RIGHT
+        paddingTable = new Vector2[TYPES.length * 3 * 2 * ATTACK_SLOTS * 2];
+    }
+
+    public Animation<TextureRegion> get(Type type, boolean lowHealth, boolean isAttacking, Damage.Type attackType, boolean isFirstAttackFrame, boolean changeStateDuringAttack) {
+        if (!isAttacking) {
+            // The attack parameters don't matter, so share one entry
+            attackType = null;
+            isFirstAttackFrame = false;
+            changeStateDuringAttack = false;
+        }
+        int index = ((((type.ordinal() * 2 + toIndex(lowHealth)) * 2 + toIndex(isAttacking)) * ATTACK_SLOTS
+                + toIndex(attackType)) * 2 + toIndex(isFirstAttackFrame)) * 2 + toIndex(changeStateDuringAttack);
+        if (!animationResolved[index]) {
+            animationTable[index] = resolve(type, lowHealth, isAttacking, attackType, isFirstAttackFrame, changeStateDuringAttack);
+            animationResolved[index] = true;
+        }
+        return animationTable[index];
+    }
+
+    /**
+     * The padding of the sprite, only depends on the attack parameters while attacking
+     */
+    public Vector2 getAnimationPadding(Type type, int direction, boolean isAttacking, Damage.Type attackType, boolean changeStateDuringAttack) {
+        if (!isAttacking) {
+            attackType = null;
+            changeStateDuringAttack = false;
+        }
+        int index = (((type.ordinal() * 3 + direction - MovingObject.LEFT) * 2 + toIndex(isAttacking)) * ATTACK_SLOTS
+                + toIndex(attackType)) * 2 + toIndex(changeStateDuringAttack);
+        Vector2 padding = paddingTable[index];
+        if (padding == null) {
+            padding = getAnimationPaddingX(type, direction, isAttacking, attackType, changeStateDuringAttack);
+            paddingTable[index] = padding;
+        }
+        return padding;
+    }
+
+    /**
+     * Loads every animation the player can have, so none is loaded during the game
+     */
+    public void warmUp() {
+        for (Type type : TYPES) {
+            for (boolean lowHealth : new boolean[] {false, true}) {
+                // Types without a texture aren't looked up through get
+                if (getTextureAtlas(type, lowHealth) == null) {
+                    continue;
+                }
+                get(type, lowHealth, false, null, false, false);
+                for (Damage.Type attackType : ATTACK_TYPES) {
+                    get(type, lowHealth, true, attackType, false, false);
+                    get(type, lowHealth, true, attackType, false, true);
+                    get(type, lowHealth, true, attackType, true, false);
+                    get(type, lowHealth, true, attackType, true, true);
+                }
+            }
+        }
+    }
+
+    private static int toIndex(boolean value) {
+        return value ? 1 : 0;
     }
 
-    public Animation<TextureRegion> get(Type type, int direction, boolean lowHealth, boolean isAttacking, Damage.Type attackType, boolean isFirstAttackFrame, boolean changeStateDuringAttack) {
+    private static int toIndex(Damage.Type attackType) {
+        return attackType == null ? 0 : attackType.ordinal() + 1;
+    }
+
+    private Animation<TextureRegion> resolve(Type type, boolean lowHealth, boolean isAttacking, Damage.Type attackType, boolean isFirstAttackFrame, boolean changeStateDuringAttack) {
         if (isAttacking) {
-            Animation<TextureRegion> attack = getAttack(type, direction, attackType, isFirstAttackFrame, changeStateDuringAttack);
+            Animation<TextureRegion> attack = getAttack(type, attackType, isFirstAttackFrame, changeStateDuringAttack);
             if (attack != null) {
                 return attack;
             }
@@ -67,24 +143,31 @@ public abstract class PlayerAnimationBase {
         List<Integer> index = getAnimationIndex(type, lowHealth);
         float frameDuration = getFrameDuration(type, lowHealth);
 
-        return retrieveFromCache(type, direction, texture, index, frameDuration);
+        return retrieveFromCache(type, texture, index, frameDuration);
     }
 
     public Animation<TextureRegion> get(Type type) {
-        return get(type, MovingObject.RIGHT);
+        return get(type, false, false, Damage.Type.LIGHT, false, false);
+    }
+
+    public Animation<TextureRegion> retrieveFromCache(Type type, String texture, List<Integer> animationIndex, float frameDuration) {
+        AnimationKey key = new AnimationKey(type, texture, animationIndex);
+        return animationCache.retrieveFromCache(key, texture, animationIndex, frameDuration);
     }
 
-    public Animation<TextureRegion> get(Type type, int direction) {
-        return get(type, direction, false, false, Damage.Type.LIGHT, false, false);
+    /**
+     * The sprites face right, so they are mirrored when drawn facing the other way
+     */
+    public static boolean isMirrored(int direction) {
+        return direction == MovingObject.LEFT;
     }
 
-    public Animation<TextureRegion> retrieveFromCache(Type type, int direction, String texture, List<Integer> animationIndex, float frameDuration) {
-        AnimationKey key = new AnimationKey(type, direction, texture, animationIndex);
-        boolean flipped = direction == MovingObject.LEFT;
-        return animationCache.retrieveFromCache(key, flipped, texture, animationIndex, frameDuration);
+    @Override
+    public void dispose() {
+        animationCache.dispose();
     }
 
-    public abstract Animation<TextureRegion> getAttack(Type type, int direction, Damage.Type attackType, boolean isFirstAttackFrame, boolean changeStateDuringAttack);
+    public abstract Animation<TextureRegion> getAttack(Type type, Damage.Type attackType, boolean isFirstAttackFrame, boolean changeStateDuringAttack);
     public abstract float getAttackFrameDuration(Type type, Damage.Type attackType);
     public abstract float getAttackDuration(Type type, Damage.Type attackType, boolean changeStateDuringAttack);
     protected abstract String getTextureAtlas(Type type, boolean lowHealth);
@@ -94,6 +177,7 @@ public abstract class PlayerAnimationBase {
     /**
      * Padding to give the sprite for LEFT direction.
      * RIGHT direction will be automatically mirrored.
+     * The attack parameters are ignored when not attacking, the result is cached by getAnimationPadding.
      */
     protected abstract Vector2 getAnimationPaddingX(Type type, int direction, boolean isAttacking, Damage.Type attackType, boolean changeStateDuringAttack);
 
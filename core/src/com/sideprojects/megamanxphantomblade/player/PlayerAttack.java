@@ -4,21 +4,43 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.sideprojects.megamanxphantomblade.Attack;
-import com.sideprojects.megamanxphantomblade.Damage;
+import com.sideprojects.megamanxphantomblade.entities.components.PlayerAttackComponent;
 
 /**
  * Created by buivuhoang on 18/09/17.
  */
 public abstract class PlayerAttack extends Attack {
-    public TextureRegion currentFrame;
     public TextureRegion muzzleFrame;
     public Vector2 muzzlePos;
+    // Muzzle position at the start of the current simulation step. The muzzle follows the player, so it is
+    // interpolated like the player to stay on the buster
+    public final Vector2 previousMuzzlePos = new Vector2();
 
     protected Animation<TextureRegion> animation;
     protected Animation<TextureRegion> explodeAnimation;
     protected Animation<TextureRegion> explodeNoDamageAnimation;
 
-    public PlayerAttack(Damage damage, int direction) {
-        super(damage, direction);
+    public PlayerAttack() {
+        muzzlePos = new Vector2();
+        entity.add(new PlayerAttackComponent(this));
+    }
+
+    public void savePreviousMuzzlePos() {
+        previousMuzzlePos.set(muzzlePos);
+    }
+
+    /**
+     * @param alpha How far the current frame is between the previous simulation step and the current one
+     * @return The position to render the muzzle at
+     */
+    public Vector2 getInterpolatedMuzzlePos(float alpha, Vector2 out) {
+        return out.set(previousMuzzlePos).lerp(muzzlePos, alpha);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        sprite.stop();
+        muzzleFrame = null;
     }
 }
@@ -44,7 +44,6 @@ public abstract class PlayerBase extends MovingObject {
 
     public PlayerAnimationBase animations;
     private Animation<TextureRegion> currentAnimation;
-    public TextureRegion currentFrame;
     public TextureRegion currentDashRocketFrame;
     public static float xDashRocketPadding = 0.4f;
     public Vector2 animationPadding;
@@ -55,14 +54,14 @@ public abstract class PlayerBase extends MovingObject {
         this.difficulty = difficulty;
         spawnPos = new Vector2(x, y);
         animationPadding = new Vector2(0, 0);
-        pos = new Vector2();
         createAnimations();
         spawn();
     }
 
     public void spawn() {
         updatePos(spawnPos.x, spawnPos.y);
-        vel = new Vector2(0, 0);
+        resetPreviousPos();
+        vel.setZero();
         initialiseHealthPoints(100);
         canIssueLowHealthWarning = true;
     }
@@ -74,7 +73,7 @@ public abstract class PlayerBase extends MovingObject {
     }
 
     public boolean isLowHealth() {
-        boolean isLow = healthPoints <= lowHealthThreshold;
+        boolean isLow = health.points <= lowHealthThreshold;
         if (isLow) {
             canIssueLowHealthWarning = false;
         }
@@ -109,7 +108,7 @@ public abstract class PlayerBase extends MovingObject {
             }
         } else if (state == PlayerState.Dash) {
             type = PlayerAnimationBase.Type.Dash;
-            Animation<TextureRegion> dashRocketAnimation = animations.get(PlayerAnimationBase.Type.Dashrocket, direction, isLowHealth(), isAttacking, attackType, firstFramesOfAttacking, changeStateDuringAttack);
+            Animation<TextureRegion> dashRocketAnimation = animations.get(PlayerAnimationBase.Type.Dashrocket, isLowHealth(), isAttacking, attackType, firstFramesOfAttacking, changeStateDuringAttack);
             if (dashRocketAnimation != null) {
                 currentDashRocketFrame = dashRocketAnimation.getKeyFrame(stateTime, false);
             }
@@ -124,7 +123,7 @@ public abstract class PlayerBase extends MovingObject {
             type = PlayerAnimationBase.Type.Dashbreak;
         } else if (state == PlayerState.Updash) {
             type = PlayerAnimationBase.Type.Updash;
-            Animation<TextureRegion> dashRocketAnimation = animations.get(PlayerAnimationBase.Type.Updashrocket, direction, isLowHealth(), isAttacking, attackType, firstFramesOfAttacking, changeStateDuringAttack);
+            Animation<TextureRegion> dashRocketAnimation = animations.get(PlayerAnimationBase.Type.Updashrocket, isLowHealth(), isAttacking, attackType, firstFramesOfAttacking, changeStateDuringAttack);
             if (dashRocketAnimation != null) {
                 currentDashRocketFrame = dashRocketAnimation.getKeyFrame(stateTime, false);
             }
@@ -135,7 +134,7 @@ public abstract class PlayerBase extends MovingObject {
             type = PlayerAnimationBase.Type.DamagedNormal;
         }
 
-        currentAnimation = animations.get(type, direction, isLowHealth(), isAttacking, attackType, firstFramesOfAttacking, changeStateDuringAttack);
+        currentAnimation = animations.get(type, isLowHealth(), isAttacking, attackType, firstFramesOfAttacking, changeStateDuringAttack);
         boolean looping = animations.isLooping(type, isAttacking);
         if (currentAnimation != null) {
             float time;
@@ -144,15 +143,15 @@ public abstract class PlayerBase extends MovingObject {
             } else {
                 time = stateTime;
             }
-            currentFrame = currentAnimation.getKeyFrame(time, looping);
-            animationPadding = animations.getAnimationPaddingX(type, direction, isAttacking, attackType, changeStateDuringAttack);
+            sprite.play(currentAnimation, time, looping);
+            animationPadding = animations.getAnimationPadding(type, direction, isAttacking, attackType, changeStateDuringAttack);
         }
         previousState = state;
 
 //        state = PlayerState.WALLSLIDE;
 //        direction = RIGHT;
-//        currentAnimation = animations.get(PlayerAnimationBase.Type.WALLSLIDE, direction, isLowHealth(), isAttacking, attackType, firstFramesOfAttacking, changeStateDuringAttack);
-//        currentFrame = currentAnimation.getKeyFrame(stateTime, looping);
+//        currentAnimation = animations.get(PlayerAnimationBase.Type.WALLSLIDE, isLowHealth(), isAttacking, attackType, firstFramesOfAttacking, changeStateDuringAttack);
+//        sprite.play(currentAnimation, stateTime, looping);
     }
 
     public int currentFrameIndex() {
@@ -3,7 +3,6 @@ package com.sideprojects.megamanxphantomblade.player.x;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.sideprojects.megamanxphantomblade.MovingObject;
 import com.sideprojects.megamanxphantomblade.animation.Sprites;
 import com.sideprojects.megamanxphantomblade.math.VectorCache;
 import com.sideprojects.megamanxphantomblade.player.PlayerAnimationBase;
@@ -36,9 +35,9 @@ public class PlayerX extends PlayerBase {
         List<Integer> outerCircleChargeAnimationIndex = Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
         List<Integer> innerCircleChargeAnimationIndex = Arrays.asList(13, 11, 13, 10, 13, 12, 13, 14);
         List<Integer> innerCircleAlmostChargeAnimationIndex = Arrays.asList(10, 14, 11, 14, 12, 10, 13, 11);
-        outerCircleChargeAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.ChargeOuterCircles, MovingObject.RIGHT, Sprites.X_CHARGE_PARTICLES, outerCircleChargeAnimationIndex, 0.03f);
-        innerCircleChargeAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.ChargeInnerCircles, MovingObject.RIGHT, Sprites.X_CHARGE_PARTICLES, innerCircleChargeAnimationIndex, 0.05f);
-        innerCircleAlmostChargeAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.ChargeInnerCircles, MovingObject.RIGHT, Sprites.X_CHARGE_PARTICLES, innerCircleAlmostChargeAnimationIndex, 0.05f);
+        outerCircleChargeAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.ChargeOuterCircles, Sprites.X_CHARGE_PARTICLES, outerCircleChargeAnimationIndex, 0.03f);
+        innerCircleChargeAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.ChargeInnerCircles, Sprites.X_CHARGE_PARTICLES, innerCircleChargeAnimationIndex, 0.05f);
+        innerCircleAlmostChargeAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.ChargeInnerCircles, Sprites.X_CHARGE_PARTICLES, innerCircleAlmostChargeAnimationIndex, 0.05f);
         chargeStateTime = 0;
     }
 
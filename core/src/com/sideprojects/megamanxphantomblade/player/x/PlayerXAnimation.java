@@ -17,10 +17,10 @@ import java.util.List;
 public class PlayerXAnimation extends PlayerAnimation {
 
     @Override
-    public Animation<TextureRegion> getAttack(Type type, int direction, Damage.Type attackType, boolean isFirstAttackFrame, boolean changeStateDuringAttack) {
+    public Animation<TextureRegion> getAttack(Type type, Damage.Type attackType, boolean isFirstAttackFrame, boolean changeStateDuringAttack) {
         String texture = getAttackTextureAtlas(type, attackType, isFirstAttackFrame, changeStateDuringAttack);
         if (texture == null) return null;
-        return retrieveFromCache(type, direction, texture, getAttackAnimationIndex(type, attackType, changeStateDuringAttack), getAttackFrameDuration(type, attackType));
+        return retrieveFromCache(type, texture, getAttackAnimationIndex(type, attackType, changeStateDuringAttack), getAttackFrameDuration(type, attackType));
     }
 
     private String getAttackTextureAtlas(Type type, Damage.Type attackType, boolean withLight, boolean changeStateDuringAttack) {
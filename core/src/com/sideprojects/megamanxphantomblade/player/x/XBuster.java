@@ -70,33 +70,40 @@ public class XBuster extends PlayerAttack {
 
     private PlayerSound playerSound;
 
-    public XBuster(PlayerBase player, Damage damage, int direction, PlayerAnimationBase animations, PlayerSound playerSound) {
-        super(damage, direction);
+    public XBuster init(PlayerBase player, Damage damage, int direction, PlayerAnimationBase animations, PlayerSound playerSound) {
+        init(damage, direction);
         this.playerSound = playerSound;
         this.player = player;
         // Calculate position for bullet
         createAnimation(animations);
-        pos = new Vector2();
         createBounds(pos);
-        vel = new Vector2(0, 0);
         playerStartDirection = player.direction;
         posPadding = getMuzzlePositionPadding(player, player.currentFrameIndex());
-        muzzlePos = new Vector2();
         muzzlePos.x = player.mapCollisionBounds.x + posPadding.x;
         muzzlePos.y = player.mapCollisionBounds.y + posPadding.y;
         explode = false;
         stopUpdatingMuzzlePos = false;
         stateTime = 0;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        player = null;
+        playerSound = null;
+        pos.setZero();
+        vel.setZero();
     }
 
     private void createAnimation(PlayerAnimationBase animations) {
-        explodeNoDamageAnimation = animations.get(PlayerAnimationBase.Type.BulletNoDamageExplode, direction);
+        explodeNoDamageAnimation = animations.get(PlayerAnimationBase.Type.BulletNoDamageExplode);
         switch(damage.getType()) {
             case HEAVY:
                 initialiseHealthPoints(100);
-                animation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletHeavy, direction, Sprites.X_BULLET_HEAVY, null, 0.05f);
-                muzzleAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletHeavyMuzzle, direction, Sprites.X_SHOOT_HEAVY_MUZZLE, null, 0.04f);
-                explodeAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletHeavyExplode, direction, Sprites.X_BULLET_HEAVY_EXPLODE, null, 0.03f);
+                animation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletHeavy, Sprites.X_BULLET_HEAVY, null, 0.05f);
+                muzzleAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletHeavyMuzzle, Sprites.X_SHOOT_HEAVY_MUZZLE, null, 0.04f);
+                explodeAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletHeavyExplode, Sprites.X_BULLET_HEAVY_EXPLODE, null, 0.03f);
                 explodePosPaddingXLeft = -P(15);
                 explodePosPaddingXRight = P(4);
                 explodePosPaddingY = -P(30);
@@ -112,9 +119,9 @@ public class XBuster extends PlayerAttack {
                 break;
             case NORMAL:
                 initialiseHealthPoints(10);
-                animation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletMedium, direction, Sprites.X_BULLET_MEDIUM, null, 0.05f);
-                muzzleAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletMediumMuzzle, direction, Sprites.X_SHOOT_MEDIUM_MUZZLE, null, 0.03f);
-                explodeAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletSmallExplode, direction, Sprites.X_BULLET_SMALL_EXPLODE, null, 0.03f);
+                animation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletMedium, Sprites.X_BULLET_MEDIUM, null, 0.05f);
+                muzzleAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletMediumMuzzle, Sprites.X_SHOOT_MEDIUM_MUZZLE, null, 0.03f);
+                explodeAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletSmallExplode, Sprites.X_BULLET_SMALL_EXPLODE, null, 0.03f);
                 explodePosPaddingXLeft = -P(15);
                 explodePosPaddingXRight = -P(6);
                 explodePosPaddingY = -P(25);
@@ -130,9 +137,9 @@ public class XBuster extends PlayerAttack {
                 break;
             case LIGHT:
                 initialiseHealthPoints(10);
-                animation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletSmall, direction, Sprites.X_BULLET_SMALL, null, 0.05f);
-                muzzleAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletSmallMuzzle, direction, Sprites.X_SHOOT_MUZZLE, null, 0.025f);
-                explodeAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletSmallExplode, direction, Sprites.X_BULLET_SMALL_EXPLODE, null, 0.03f);
+                animation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletSmall, Sprites.X_BULLET_SMALL, null, 0.05f);
+                muzzleAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletSmallMuzzle, Sprites.X_SHOOT_MUZZLE, null, 0.025f);
+                explodeAnimation = animations.retrieveFromCache(PlayerAnimationBase.Type.BulletSmallExplode, Sprites.X_BULLET_SMALL_EXPLODE, null, 0.03f);
                 explodePosPaddingXLeft = -P(15);
                 explodePosPaddingXRight = -P(17);
                 explodePosPaddingY = -P(30);
@@ -197,9 +204,9 @@ public class XBuster extends PlayerAttack {
             }
 
             if (targetTookDamage) {
-                currentFrame = explodeAnimation.getKeyFrame(stateTime, false);
+                sprite.play(explodeAnimation, stateTime, false);
             } else {
-                currentFrame = explodeNoDamageAnimation.getKeyFrame(stateTime, false);
+                sprite.play(explodeNoDamageAnimation, stateTime, false);
             }
             if (explodeAnimation.isAnimationFinished(stateTime)) {
                 shouldBeRemoved = true;
@@ -213,7 +220,7 @@ public class XBuster extends PlayerAttack {
             } else {
                 updatePos(pos.x + vel.x * delta, pos.y);
                 vel.x = 10f * direction;
-                currentFrame = animation.getKeyFrame(stateTime, true);
+                sprite.play(animation, stateTime, true);
             }
         }
         if (stateTime <= muzzleTime && !explode) {// && player.state != PlayerState.IDLE) {
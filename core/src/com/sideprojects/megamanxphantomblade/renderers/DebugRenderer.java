@@ -8,6 +8,7 @@ import com.sideprojects.megamanxphantomblade.map.MapBase;
 import com.sideprojects.megamanxphantomblade.physics.TileBase;
 import com.sideprojects.megamanxphantomblade.physics.collision.Collision;
 import com.sideprojects.megamanxphantomblade.physics.tiles.SquareTriangleTile;
+import com.sideprojects.megamanxphantomblade.physics.tiles.TilePool;
 
 import java.util.Arrays;
 import java.util.List;
@@ -19,12 +20,14 @@ public class DebugRenderer implements Disposable {
     private MapBase map;
     private WorldRenderer mainRenderer;
     private ShapeRenderer shapeDebugger;
+    private TilePool tilePool;
 
     public DebugRenderer(WorldRenderer mainRenderer) {
         this.mainRenderer = mainRenderer;
         this.map = mainRenderer.map;
         shapeDebugger = new ShapeRenderer();
         shapeDebugger.setAutoShapeType(false);
+        tilePool = new TilePool();
     }
 
     public void render(float delta) {
@@ -34,9 +37,10 @@ public class DebugRenderer implements Disposable {
 
         shapeDebugger.setColor(1, 1, 1, 1);
 
-        for (int y = 0; y < map.bounds[0].length; y++) {
-            for (int x = 0; x < map.bounds.length; x++) {
-                TileBase tile = map.bounds[x][y];
+        for (int y = 0; y < map.bounds.getHeight(); y++) {
+            for (int x = 0; x < map.bounds.getWidth(); x++) {
+                tilePool.reset();
+                TileBase tile = map.bounds.getTile(x, y, tilePool);
                 if (tile != null) {
                     float[] vertices = Arrays.copyOf(tile.getVertices(), tile.getVertices().length);
                     for (int i = 0; i < vertices.length; i++) {
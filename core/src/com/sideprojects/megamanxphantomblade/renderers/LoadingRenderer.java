@@ -0,0 +1,49 @@
+package com.sideprojects.megamanxphantomblade.renderers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Created by buivuhoang on 25/10/17.
+ * Draws a progress bar while the assets of a stage are loading.
+ */
+public class LoadingRenderer implements Disposable {
+    private ShapeRenderer shapeRenderer;
+
+    private static Color background = Color.DARK_GRAY;
+    private static Color progress = Color.SKY;
+    // Size of the bar relative to the screen
+    private static float barWidth = 0.5f;
+    private static float barHeight = 0.02f;
+
+    public LoadingRenderer() {
+        shapeRenderer = new ShapeRenderer();
+    }
+
+    /**
+     * @param progress How much of the stage is loaded, between 0 and 1
+     */
+    public void render(float progress) {
+        float screenWidth = Gdx.graphics.getWidth();
+        float screenHeight = Gdx.graphics.getHeight();
+        float width = screenWidth * barWidth;
+        float height = screenHeight * barHeight;
+        float x = (screenWidth - width) / 2;
+        float y = (screenHeight - height) / 2;
+
+        shapeRenderer.getProjectionMatrix().setToOrtho2D(0, 0, screenWidth, screenHeight);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(background);
+        shapeRenderer.rect(x, y, width, height);
+        shapeRenderer.setColor(LoadingRenderer.progress);
+        shapeRenderer.rect(x, y, width * progress, height);
+        shapeRenderer.end();
+    }
+
+    @Override
+    public void dispose() {
+        shapeRenderer.dispose();
+    }
+}
@@ -129,5 +129,6 @@ public class PlayerHealthRenderer implements Disposable {
     @Override
     public void dispose() {
         healthRenderer.dispose();
+        AnimationLoader.release(Sprites.GUI_ELEMENTS);
     }
 }
@@ -3,27 +3,23 @@ package com.sideprojects.megamanxphantomblade.renderers;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.Queue;
 import com.sideprojects.megamanxphantomblade.MovingObject;
-import com.sideprojects.megamanxphantomblade.logging.Logger;
 import com.sideprojects.megamanxphantomblade.physics.player.PlayerState;
 import com.sideprojects.megamanxphantomblade.player.PlayerAnimationBase;
 import com.sideprojects.megamanxphantomblade.player.PlayerBase;
-import com.sideprojects.megamanxphantomblade.renderers.shaders.ChargeShader;
-import com.sideprojects.megamanxphantomblade.renderers.shaders.Shader;
-import com.sideprojects.megamanxphantomblade.renderers.shaders.TraceShader;
+import com.sideprojects.megamanxphantomblade.player.TraceColour;
+import com.sideprojects.megamanxphantomblade.renderers.shaders.SpriteShader;
 
 /**
  * Created by buivuhoang on 23/03/17.
  */
-public class PlayerRenderer implements Disposable {
+public class PlayerRenderer {
     private PlayerBase player;
 
     private SpriteBatch batch;
-    private Shader traceShader;
-    private Shader damagedShader;
-    private Shader chargeShader;
+    // Packed colour of the traces for SpriteShader
+    private float traceEffect;
 
     // Needed properties to offset the player position properly
     private float mapTileWidth;
@@ -31,6 +27,7 @@ public class PlayerRenderer implements Disposable {
     // Keep the last frames of the player to draw a trace
     private Queue<TextureRegion> lastPlayerFrameQueue;
     private Queue<Vector2> lastPlayerPositionQueue;
+    private Queue<Boolean> lastPlayerMirroredQueue;
     // Number of traces to render
     private int numOfTraces = 5;
     // Number of frame skip per trace
@@ -43,6 +40,7 @@ public class PlayerRenderer implements Disposable {
     // In post dash trace rendering mode, we don't skip any frame
     private Queue<TextureRegion> postDashFrameQueue;
     private Queue<Vector2> postDashPositionQueue;
+    private Queue<Boolean> postDashMirroredQueue;
     public boolean isPostDashing;
     public boolean stopPostDashing;
     private float postDashStateTime;
@@ -60,30 +58,31 @@ public class PlayerRenderer implements Disposable {
     private float flickerStateTime = 0;
     private boolean previousDashTraceState;
 
-    public PlayerRenderer(Logger logger, PlayerBase player, float mapTileWidth, SpriteBatch batch, Shader damagedShader) {
+    public PlayerRenderer(PlayerBase player, float mapTileWidth, SpriteBatch batch) {
         this.player = player;
         this.mapTileWidth = mapTileWidth;
         this.batch = batch;
 
-        traceShader = new TraceShader(logger, player.getTraceColour());
+        TraceColour traceColour = player.getTraceColour();
+        traceEffect = SpriteShader.fill(traceColour.r, traceColour.g, traceColour.b, 0.3f);
         lastPlayerFrameQueue = new Queue<>(numOfTraces);
         lastPlayerPositionQueue = new Queue<>(numOfTraces);
+        lastPlayerMirroredQueue = new Queue<>(numOfTraces);
         postDashFrameQueue = new Queue<>(numOfTraces);
         postDashPositionQueue = new Queue<>(numOfTraces);
+        postDashMirroredQueue = new Queue<>(numOfTraces);
         startRemovingTraces = false;
         // Calculate dash rocket padding
         leftDashRocketPadding = player.animations.get(PlayerAnimationBase.Type.Dash).getKeyFrame(0).getRegionWidth();
         xDashRocketPadding = player.animations.get(PlayerAnimationBase.Type.Dashrocket).getKeyFrame(0).getRegionWidth() / 5f;
         yDashRocketPadding = player.animations.get(PlayerAnimationBase.Type.Dashrocket).getKeyFrame(0).getRegionHeight() / 7f;
         yUpDashRocketPadding = player.animations.get(PlayerAnimationBase.Type.Updashrocket).getKeyFrame(0).getRegionHeight();
-
-        this.damagedShader = damagedShader;
-        chargeShader = new ChargeShader(logger);
     }
 
     // Pass posX and posY in so we don't have to recalculate them
     public void render(float posX, float posY, float delta) {
-        TextureRegion currentFrame = player.currentFrame;
+        TextureRegion currentFrame = player.sprite.frame;
+        boolean mirrored = PlayerAnimationBase.isMirrored(player.direction);
         float originPosX = posX;
         if (player.direction == PlayerBase.RIGHT) {
             // Pad the texture's start x because the engine is drawing from left to right.
@@ -95,26 +94,27 @@ public class PlayerRenderer implements Disposable {
 
         posY += player.animationPadding.y;
 
-        renderPlayerTrace(currentFrame, posX, posY);
-        renderPostDashTrace(currentFrame, posX, posY, delta);
+        renderPlayerTrace(currentFrame, posX, posY, mirrored);
+        renderPostDashTrace(currentFrame, posX, posY, mirrored, delta);
         if (player.currentDashRocketFrame != null) {
             if (player.state == PlayerState.Dash) {
-                renderPlayerDashRocket(originPosX, posY);
+                renderPlayerDashRocket(originPosX, posY, mirrored);
             }
             if (player.state == PlayerState.Updash) {
-                renderPlayerUpDashRocket(originPosX, posY);
+                renderPlayerUpDashRocket(originPosX, posY, mirrored);
             }
         }
+        float effect = SpriteShader.NORMAL;
         if (player.invincible) {
             flickerStateTime += delta;
             if (flickerStateTime >= damageFlickerDuration * 2) {
                 flickerStateTime = 0;
             }
             if (flickerStateTime <= damageFlickerDuration) {
-                damagedShader.apply(batch);
+                effect = SpriteShader.DAMAGED;
             }
         }
-        // Only do charging shaderProgram if not currently being invincible
+        // Only do charging effect if not currently being invincible
         // TODO: Find a way to modify the texture color to do different weapon charges
         if (!player.invincible && player.isCharging) {
             flickerStateTime += delta;
@@ -122,17 +122,14 @@ public class PlayerRenderer implements Disposable {
                 flickerStateTime = 0;
             }
             if (flickerStateTime <= chargeFlickerDuration) {
-                chargeShader.apply(batch);
+                effect = SpriteShader.CHARGE;
             }
         }
-        batch.draw(currentFrame, posX, posY);
-        if (player.invincible || player.isCharging) {
-            batch.setShader(null);
-        }
+        RegionDrawer.draw(batch, currentFrame, posX, posY, mirrored, effect);
         renderPlayerAuxiliaryAnimation(originPosX, posY);
     }
 
-    private void renderPlayerDashRocket(float posX, float posY) {
+    private void renderPlayerDashRocket(float posX, float posY, boolean mirrored) {
         float y = posY - yDashRocketPadding;
         float x = posX;
         if (player.direction == MovingObject.RIGHT) {
@@ -141,27 +138,29 @@ public class PlayerRenderer implements Disposable {
             x += leftDashRocketPadding + xDashRocketPadding;
         }
 
-        batch.draw(player.currentDashRocketFrame, x, y);
+        RegionDrawer.draw(batch, player.currentDashRocketFrame, x, y, mirrored);
     }
 
-    private void renderPlayerUpDashRocket(float posX, float posY) {
+    private void renderPlayerUpDashRocket(float posX, float posY, boolean mirrored) {
         float y = posY - yUpDashRocketPadding;
-        batch.draw(player.currentDashRocketFrame, posX, y);
+        RegionDrawer.draw(batch, player.currentDashRocketFrame, posX, y, mirrored);
     }
 
-    private void renderPlayerTrace(TextureRegion currentFrame, float posX, float posY) {
+    private void renderPlayerTrace(TextureRegion currentFrame, float posX, float posY, boolean mirrored) {
         if (traceFrameSkipCount < traceFrameSkip) {
             traceFrameSkipCount++;
         } else {
             if (startRemovingTraces && lastPlayerFrameQueue.size != 0) {
                 lastPlayerFrameQueue.removeFirst();
                 lastPlayerPositionQueue.removeFirst();
+                lastPlayerMirroredQueue.removeFirst();
             }
             traceFrameSkipCount = 0;
             // If player is dashing, draw a trace
             if (player.shouldProduceDashTrace()) {
                 lastPlayerFrameQueue.addLast(currentFrame);
                 lastPlayerPositionQueue.addLast(new Vector2(posX, posY));
+                lastPlayerMirroredQueue.addLast(mirrored);
             }
             if (lastPlayerFrameQueue.size == numOfTraces) {
                 startRemovingTraces = true;
@@ -181,16 +180,14 @@ public class PlayerRenderer implements Disposable {
             for (int i = 0; i < lastPlayerFrameQueue.size; i++) {
                 TextureRegion frame = lastPlayerFrameQueue.get(i);
                 Vector2 position = lastPlayerPositionQueue.get(i);
-                traceShader.apply(batch);
-                batch.draw(frame, position.x, position.y);
+                RegionDrawer.draw(batch, frame, position.x, position.y, lastPlayerMirroredQueue.get(i), traceEffect);
             }
         } else {
             startRemovingTraces = false;
         }
-        batch.setShader(null);
     }
 
-    private void renderPostDashTrace(TextureRegion currentFrame, float posX, float posY, float delta) {
+    private void renderPostDashTrace(TextureRegion currentFrame, float posX, float posY, boolean mirrored, float delta) {
         if (!player.shouldProduceDashTrace()) {
             if (previousDashTraceState) {
                 isPostDashing = true;
@@ -206,6 +203,7 @@ public class PlayerRenderer implements Disposable {
         } else {
             postDashFrameQueue.clear();
             postDashPositionQueue.clear();
+            postDashMirroredQueue.clear();
             isPostDashing = false;
             postDashStateTime = 0;
         }
@@ -215,6 +213,7 @@ public class PlayerRenderer implements Disposable {
                 if (postDashFrameQueue.size != 0) {
                     postDashFrameQueue.removeFirst();
                     postDashPositionQueue.removeFirst();
+                    postDashMirroredQueue.removeFirst();
                 } else {
                     stopPostDashing = false;
                     isPostDashing = false;
@@ -226,17 +225,16 @@ public class PlayerRenderer implements Disposable {
         if (isPostDashing) {
             postDashFrameQueue.addLast(currentFrame);
             postDashPositionQueue.addLast(new Vector2(posX, posY));
+            postDashMirroredQueue.addLast(mirrored);
         }
 
         if (postDashFrameQueue.size != 0) {
             for (int i = 0; i < postDashFrameQueue.size; i++) {
                 TextureRegion frame = postDashFrameQueue.get(i);
                 Vector2 position = postDashPositionQueue.get(i);
-                traceShader.apply(batch);
-                batch.draw(frame, position.x, position.y);
+                RegionDrawer.draw(batch, frame, position.x, position.y, postDashMirroredQueue.get(i), traceEffect);
             }
         }
-        batch.setShader(null);
         previousDashTraceState = player.shouldProduceDashTrace();
     }
 
@@ -246,6 +244,7 @@ public class PlayerRenderer implements Disposable {
             float x = posX + padding.x;
             float y = posY + padding.y;
             if (player.auxiliaryFrames != null) {
+                // The charge circles are symmetric, so they are never mirrored
                 for (TextureRegion frame : player.auxiliaryFrames.values()) {
                     if (frame != null) {
                         batch.draw(frame, x, y);
@@ -254,10 +253,4 @@ public class PlayerRenderer implements Disposable {
             }
         }
     }
-
-    @Override
-    public void dispose() {
-        traceShader.dispose();
-        chargeShader.dispose();
-    }
 }
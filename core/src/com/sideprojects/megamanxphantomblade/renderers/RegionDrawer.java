@@ -0,0 +1,37 @@
+package com.sideprojects.megamanxphantomblade.renderers;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.sideprojects.megamanxphantomblade.renderers.shaders.SpriteShader;
+
+/**
+ * Created by buivuhoang on 24/10/17.
+ * Animations only hold the frames in the direction they are drawn in the atlas,
+ * the other direction is drawn by mirroring the frame on the batch.
+ */
+public class RegionDrawer {
+    private RegionDrawer() {}
+
+    /**
+     * Draws the region at x, y, mirrored horizontally within its own bounds if needed
+     */
+    public static void draw(Batch batch, TextureRegion region, float x, float y, boolean mirrored) {
+        float width = region.getRegionWidth();
+        if (mirrored) {
+            // A negative width draws from right to left, swapping the u coordinates
+            batch.draw(region, x + width, y, -width, region.getRegionHeight());
+        } else {
+            batch.draw(region, x, y, width, region.getRegionHeight());
+        }
+    }
+
+    /**
+     * Draws the region with one of the effects of SpriteShader, then goes back to drawing sprites as is.
+     * Changing the colour doesn't flush the batch.
+     */
+    public static void draw(Batch batch, TextureRegion region, float x, float y, boolean mirrored, float effect) {
+        batch.setColor(effect);
+        draw(batch, region, x, y, mirrored);
+        batch.setColor(SpriteShader.NORMAL);
+    }
+}
@@ -0,0 +1,201 @@
+package com.sideprojects.megamanxphantomblade.renderers;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Created by buivuhoang on 26/10/17.
+ * Draws the tile layers of a map from SpriteCache chunks of CHUNK_SIZE x CHUNK_SIZE tiles that are built once,
+ * instead of building the vertices of every visible tile each frame like OrthogonalTiledMapRenderer.
+ * Only the chunks in view of the camera are drawn.
+ * The tiles are cached as they are when the chunk is built, so after changing a cell call invalidate,
+ * and animated tiles stay on their current frame.
+ */
+public class StaticMapRenderer implements Disposable {
+    public static final int CHUNK_SIZE = 16;
+
+    private SpriteCache cache;
+    private Array<TiledMapTileLayer> layers;
+    private float tileWidth;
+    private float tileHeight;
+    private int chunksX;
+    private int chunksY;
+
+    private int[] cacheIds;
+    // Number of tiles each chunk was first built with, it can only be built again in place with as many tiles
+    private int[] cacheSizes;
+    private boolean[] dirtyChunks;
+    private boolean dirty;
+
+    // Reused to add flipped and rotated tiles to the cache
+    private Sprite sprite;
+
+    public StaticMapRenderer(TiledMap map) {
+        this(map, null);
+    }
+
+    StaticMapRenderer(TiledMap map, SpriteCache cache) {
+        layers = new Array<>();
+        int widthInTiles = 0;
+        int heightInTiles = 0;
+        int capacity = 0;
+        for (MapLayer layer : map.getLayers()) {
+            if (layer instanceof TiledMapTileLayer && layer.isVisible()) {
+                TiledMapTileLayer tileLayer = (TiledMapTileLayer)layer;
+                layers.add(tileLayer);
+                widthInTiles = Math.max(widthInTiles, tileLayer.getWidth());
+                heightInTiles = Math.max(heightInTiles, tileLayer.getHeight());
+                tileWidth = tileLayer.getTileWidth();
+                tileHeight = tileLayer.getTileHeight();
+                capacity += tileLayer.getWidth() * tileLayer.getHeight();
+            }
+        }
+        // Room for every cell, so the whole map can always be built again
+        this.cache = cache != null ? cache : new SpriteCache(Math.max(capacity, 1), false);
+        chunksX = (widthInTiles + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunksY = (heightInTiles + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        cacheIds = new int[chunksX * chunksY];
+        cacheSizes = new int[chunksX * chunksY];
+        dirtyChunks = new boolean[chunksX * chunksY];
+        sprite = new Sprite();
+        buildAll();
+    }
+
+    /**
+     * Marks the chunk of the tile to be built again before the next render
+     */
+    public void invalidate(int tileX, int tileY) {
+        int chunkX = tileX / CHUNK_SIZE;
+        int chunkY = tileY / CHUNK_SIZE;
+        if (tileX < 0 || tileY < 0 || chunkX >= chunksX || chunkY >= chunksY) {
+            return;
+        }
+        dirtyChunks[chunkY * chunksX + chunkX] = true;
+        dirty = true;
+    }
+
+    public void render(OrthographicCamera camera) {
+        float viewportWidth = camera.viewportWidth * camera.zoom;
+        float viewportHeight = camera.viewportHeight * camera.zoom;
+        render(camera.combined, camera.position.x - viewportWidth / 2f, camera.position.y - viewportHeight / 2f,
+                viewportWidth, viewportHeight);
+    }
+
+    void render(Matrix4 projection, float viewX, float viewY, float viewWidth, float viewHeight) {
+        if (dirty) {
+            rebuildDirtyChunks();
+        }
+
+        float chunkWidth = tileWidth * CHUNK_SIZE;
+        float chunkHeight = tileHeight * CHUNK_SIZE;
+        int startX = Math.max(0, MathUtils.floor(viewX / chunkWidth));
+        int endX = Math.min(chunksX - 1, MathUtils.floor((viewX + viewWidth) / chunkWidth));
+        int startY = Math.max(0, MathUtils.floor(viewY / chunkHeight));
+        int endY = Math.min(chunksY - 1, MathUtils.floor((viewY + viewHeight) / chunkHeight));
+
+        cache.setProjectionMatrix(projection);
+        cache.begin();
+        for (int y = startY; y <= endY; y++) {
+            for (int x = startX; x <= endX; x++) {
+                int chunk = y * chunksX + x;
+                if (cacheSizes[chunk] != 0) {
+                    cache.draw(cacheIds[chunk]);
+                }
+            }
+        }
+        cache.end();
+    }
+
+    private void buildAll() {
+        cache.clear();
+        for (int chunk = 0; chunk < cacheIds.length; chunk++) {
+            cacheSizes[chunk] = countTiles(chunk);
+            cache.beginCache();
+            addTiles(chunk);
+            cacheIds[chunk] = cache.endCache();
+            dirtyChunks[chunk] = false;
+        }
+        dirty = false;
+    }
+
+    private void rebuildDirtyChunks() {
+        for (int chunk = 0; chunk < dirtyChunks.length; chunk++) {
+            if (dirtyChunks[chunk] && countTiles(chunk) > cacheSizes[chunk]) {
+                // The chunk outgrew its place in the cache
+                buildAll();
+                return;
+            }
+        }
+        for (int chunk = 0; chunk < dirtyChunks.length; chunk++) {
+            if (dirtyChunks[chunk]) {
+                cache.beginCache(cacheIds[chunk]);
+                addTiles(chunk);
+                cache.endCache();
+                dirtyChunks[chunk] = false;
+            }
+        }
+        dirty = false;
+    }
+
+    private int countTiles(int chunk) {
+        int count = 0;
+        int startX = (chunk % chunksX) * CHUNK_SIZE;
+        int startY = (chunk / chunksX) * CHUNK_SIZE;
+        for (TiledMapTileLayer layer : layers) {
+            for (int y = startY; y < startY + CHUNK_SIZE; y++) {
+                for (int x = startX; x < startX + CHUNK_SIZE; x++) {
+                    TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                    if (cell != null && cell.getTile() != null) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private void addTiles(int chunk) {
+        int startX = (chunk % chunksX) * CHUNK_SIZE;
+        int startY = (chunk / chunksX) * CHUNK_SIZE;
+        for (TiledMapTileLayer layer : layers) {
+            for (int y = startY; y < startY + CHUNK_SIZE; y++) {
+                for (int x = startX; x < startX + CHUNK_SIZE; x++) {
+                    TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                    if (cell != null && cell.getTile() != null) {
+                        addTile(layer, cell, x, y);
+                    }
+                }
+            }
+        }
+    }
+
+    private void addTile(TiledMapTileLayer layer, TiledMapTileLayer.Cell cell, int x, int y) {
+        TiledMapTile tile = cell.getTile();
+        TextureRegion region = tile.getTextureRegion();
+        sprite.setRegion(region);
+        sprite.setBounds(
+                x * tileWidth + tile.getOffsetX() + layer.getRenderOffsetX(),
+                y * tileHeight + tile.getOffsetY() - layer.getRenderOffsetY(),
+                region.getRegionWidth(), region.getRegionHeight());
+        sprite.setFlip(cell.getFlipHorizontally(), cell.getFlipVertically());
+        sprite.setOriginCenter();
+        sprite.setRotation(cell.getRotation() * 90);
+        sprite.setColor(1, 1, 1, layer.getOpacity());
+        cache.add(sprite);
+    }
+
+    @Override
+    public void dispose() {
+        cache.dispose();
+    }
+}
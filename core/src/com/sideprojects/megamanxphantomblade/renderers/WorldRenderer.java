@@ -1,27 +1,25 @@
 package com.sideprojects.megamanxphantomblade.renderers;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.*;
-import com.badlogic.gdx.maps.MapRenderer;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Disposable;
 import com.rahul.libgdx.parallax.ParallaxBackground;
+import com.sideprojects.megamanxphantomblade.MovingObject;
 import com.sideprojects.megamanxphantomblade.enemies.EnemyAnimationBase;
 import com.sideprojects.megamanxphantomblade.enemies.EnemyAttack;
 import com.sideprojects.megamanxphantomblade.enemies.EnemyBase;
-import com.sideprojects.megamanxphantomblade.enemies.ExplodeFragment;
 import com.sideprojects.megamanxphantomblade.logging.Logger;
 import com.sideprojects.megamanxphantomblade.map.MapBase;
 import com.sideprojects.megamanxphantomblade.animation.Particle;
+import com.sideprojects.megamanxphantomblade.player.PlayerAnimationBase;
 import com.sideprojects.megamanxphantomblade.player.PlayerAttack;
-import com.sideprojects.megamanxphantomblade.renderers.shaders.DamagedShader;
 import com.sideprojects.megamanxphantomblade.renderers.shaders.Shader;
+import com.sideprojects.megamanxphantomblade.renderers.shaders.SpriteShader;
 
 /**
  * Created by buivuhoang on 04/02/17.
@@ -34,7 +32,13 @@ public class WorldRenderer implements Disposable {
     private ParallaxBackground background;
     private SpriteBatch batch;
 
-    private Shader damagedShader;
+    // Draws everything in the batch, the sprite effects are picked by colour so the shader never changes
+    private Shader spriteShader;
+    private static final float FRAGMENT_EFFECT = SpriteShader.normal(0.9f);
+    // Particles drawn over everything, explode fragments are drawn with the enemies
+    private static final Particle.ParticleType[] PARTICLE_TYPES = {
+            Particle.ParticleType.WALLKICK, Particle.ParticleType.WALLSLIDE, Particle.ParticleType.DASH
+    };
 
     private Vector3 lerpTarget;
 
@@ -48,38 +52,70 @@ public class WorldRenderer implements Disposable {
     private float mapHeightMinusCamViewportHalfY;
     private float playerYOffset;
 
-    private MapRenderer mapRenderer;
+    private StaticMapRenderer mapRenderer;
+
+    // How far this frame is between the previous simulation step and the current one
+    private float alpha;
+    private Vector2 interpolatedPos;
+    // Screen positions, the player's is kept until it is drawn after the enemies
+    private Vector2 screenPos;
+    private Vector2 playerScreenPos;
 
     public WorldRenderer(Logger logger, MapBase map) {
         this.map = map;
         background = map.getBackground();
         batch = new SpriteBatch(5460);
+        spriteShader = new SpriteShader(logger);
+        spriteShader.apply(batch);
         gameCam = new OrthographicCamera(camViewPortY * 16 / 9f, camViewPortY);
         guiCam = new OrthographicCamera(16, 9);
         guiCam.zoom = 0.4f;
-        damagedShader = new DamagedShader(logger);
-        playerRenderer = new PlayerRenderer(logger, map.player, map.getTileWidth(), batch, damagedShader);
+        playerRenderer = new PlayerRenderer(map.player, map.getTileWidth(), batch);
         playerHealthRenderer = new PlayerHealthRenderer(batch);
         lerpTarget = new Vector3();
+        interpolatedPos = new Vector2();
+        screenPos = new Vector2();
+        playerScreenPos = new Vector2();
+        alpha = 1;
         playerYOffset = 1/5f * map.getTileHeight();
         calculateCamClamps();
-        mapRenderer = new OrthogonalTiledMapRenderer(map.tiledMap, batch);
+        mapRenderer = new StaticMapRenderer(map.tiledMap);
     }
 
-    private Vector2 applyCameraLerp(Vector2 pos) {
-        Vector2 newPos = new Vector2(
+    /**
+     * @param out Where the screen position is written, returned for convenience
+     */
+    private Vector2 applyCameraLerp(Vector2 pos, Vector2 out) {
+        return out.set(
                 pos.x * map.getTileWidth(),
                 pos.y * map.getTileHeight() - playerYOffset
         );
-        return newPos;
+    }
+
+    private Vector2 applyCameraLerp(Vector2 pos) {
+        return applyCameraLerp(pos, screenPos);
+    }
+
+    private Vector2 applyCameraLerp(MovingObject object) {
+        return applyCameraLerp(object.getInterpolatedPos(alpha, interpolatedPos));
     }
 
     public void render(float delta) {
+        render(delta, 1);
+    }
+
+    /**
+     * @param alpha How far this frame is between the previous simulation step and the current one.
+     *              Moving objects are drawn between their previous and current positions.
+     */
+    public void render(float delta, float alpha) {
+        this.alpha = alpha;
         // Calculate vertical padding for player's position
-        Vector2 pos = applyCameraLerp(map.player.pos);
+        Vector2 pos = applyCameraLerp(map.player.getInterpolatedPos(alpha, interpolatedPos), playerScreenPos);
 
-        // Apply linear interpolation to the camera in order to smooth the camera movement
-        gameCam.position.lerp(lerpTarget.set(pos.x, pos.y, 0), 0.5f);
+        // Apply linear interpolation to the camera in order to smooth the camera movement.
+        // The camera closes half of the distance every 60th of a second, whatever the frame rate.
+        gameCam.position.lerp(lerpTarget.set(pos.x, pos.y, 0), 1 - (float)Math.pow(0.5, delta * 60));
         // Keep the camera within mapCollisionBounds
         gameCam.position.x = MathUtils.clamp(gameCam.position.x, camViewportHalfX, mapWidthMinusCamViewportHalfX);
         gameCam.position.y = MathUtils.clamp(gameCam.position.y, camViewportHalfY, mapHeightMinusCamViewportHalfY);
@@ -92,6 +128,7 @@ public class WorldRenderer implements Disposable {
         batch.setProjectionMatrix(gameCam.combined);
         batch.begin();
         renderEnemies(delta);
+        renderExplodeFragments();
         playerRenderer.render(pos.x, pos.y, delta);
         renderEnemyAttack();
         renderPlayerAttack();
@@ -99,19 +136,28 @@ public class WorldRenderer implements Disposable {
         renderGui(delta);
         batch.end();
         // Need to draw things that use ShapeRenderer last
-        playerHealthRenderer.renderHealth(map.player.maxHealthPoints, map.player.healthPoints, map.player.isLowHealth(), delta);
+        playerHealthRenderer.renderHealth(map.player.health.max, map.player.health.points, map.player.isLowHealth(), delta);
     }
 
     private void renderGui(float delta) {
         // Need to flip y to render gui from top down
         guiCam.setToOrtho(true);
         batch.setProjectionMatrix(guiCam.combined);
-        playerHealthRenderer.renderHealthContanier(map.player.maxHealthPoints);
+        playerHealthRenderer.renderHealthContanier(map.player.health.max);
     }
 
     private void renderMap() {
-        mapRenderer.setView(gameCam);
-        mapRenderer.render();
+        // The batch turns blending off when it ends, the cache needs it for the transparent parts of the tiles
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        mapRenderer.render(gameCam);
+    }
+
+    /**
+     * Call after changing a cell of the map so its chunk is drawn with the new tile
+     */
+    public void invalidateMapTile(int tileX, int tileY) {
+        mapRenderer.invalidate(tileX, tileY);
     }
 
     private void renderEnemies(float delta) {
@@ -119,28 +165,11 @@ public class WorldRenderer implements Disposable {
             if (!enemy.spawned) {
                 continue;
             }
-            Vector2 pos = applyCameraLerp(enemy.pos);
-            if (enemy.currentFrame != null) {
-                if (enemy.isTakingDamage) {
-                    damagedShader.apply(batch);
-                }
+            Vector2 pos = applyCameraLerp(enemy);
+            if (enemy.sprite.frame != null) {
                 Vector2 padding = enemy.animationPadding;
-                batch.draw(enemy.currentFrame, pos.x + padding.x, pos.y + padding.y);
-                if (enemy.isTakingDamage) {
-                    batch.setShader(null);
-                }
-            }
-
-            if (enemy.explodeFragments != null) {
-                for (Object item: enemy.explodeFragments) {
-                    ExplodeFragment fragment = (ExplodeFragment)item;
-                    Vector2 fragmentPos = applyCameraLerp(fragment.pos);
-                    Color color = batch.getColor();
-                    color.a = 0.9f;
-                    batch.setColor(color);
-                    batch.draw(fragment.frame, fragmentPos.x, fragmentPos.y);
-                    batch.setColor(Color.WHITE);
-                }
+                float effect = enemy.isTakingDamage ? SpriteShader.DAMAGED : SpriteShader.NORMAL;
+                RegionDrawer.draw(batch, enemy.sprite.frame, pos.x + padding.x, pos.y + padding.y, EnemyAnimationBase.isMirrored(enemy.direction), effect);
             }
 
             if (enemy.getAuxiliaryFrames() != null) {
@@ -150,53 +179,66 @@ public class WorldRenderer implements Disposable {
                     float x = pos.x + padding.x;
                     float y = pos.y + padding.y;
                     if (frame != null) {
-                        batch.draw(frame, x, y);
+                        RegionDrawer.draw(batch, frame, x, y, EnemyAnimationBase.isMirrored(enemy.direction));
                     }
                 }
             }
         }
     }
 
+    private void renderExplodeFragments() {
+        Particle.ParticleType type = Particle.ParticleType.EXPLODE_FRAGMENT;
+        for (int i = 0; i < map.particles.count(type); i++) {
+            Particle fragment = map.particles.get(type, i);
+            if (fragment.alive) {
+                Vector2 pos = applyCameraLerp(fragment.getInterpolatedPos(alpha, interpolatedPos));
+                RegionDrawer.draw(batch, fragment.currentFrame, pos.x, pos.y, EnemyAnimationBase.isMirrored(fragment.direction), FRAGMENT_EFFECT);
+            }
+        }
+    }
+
     private void renderPlayerAttack() {
         for (PlayerAttack attack: map.playerAttackQueue) {
-            Vector2 pos = applyCameraLerp(attack.pos);
+            boolean mirrored = PlayerAnimationBase.isMirrored(attack.direction);
             if (attack.muzzleFrame != null) {
-                Vector2 muzzlePos = applyCameraLerp(attack.muzzlePos);
-                batch.draw(attack.muzzleFrame, muzzlePos.x, muzzlePos.y);
+                Vector2 muzzlePos = applyCameraLerp(attack.getInterpolatedMuzzlePos(alpha, interpolatedPos));
+                RegionDrawer.draw(batch, attack.muzzleFrame, muzzlePos.x, muzzlePos.y, mirrored);
             }
-            if (attack.currentFrame != null) {
-                batch.draw(attack.currentFrame, pos.x, pos.y);
+            if (attack.sprite.frame != null) {
+                Vector2 pos = applyCameraLerp(attack);
+                RegionDrawer.draw(batch, attack.sprite.frame, pos.x, pos.y, mirrored);
             }
         }
     }
 
     private void renderEnemyAttack() {
         for (EnemyAttack attack: map.enemyAttackQueue) {
-            Vector2 pos = applyCameraLerp(attack.pos);
-            if (attack.currentFrame != null) {
-                batch.draw(attack.currentFrame, pos.x, pos.y);
+            Vector2 pos = applyCameraLerp(attack);
+            if (attack.sprite.frame != null) {
+                RegionDrawer.draw(batch, attack.sprite.frame, pos.x, pos.y, EnemyAnimationBase.isMirrored(attack.direction));
             }
         }
     }
 
     private void renderParticles() {
-        if (map.particles.size() == 0) {
-            return;
-        }
-
-        for (int i = 0; i < map.particles.size(); i++) {
-            Particle particle = map.particles.get(i);
-            Vector2 pos = applyCameraLerp(particle.pos);
-            batch.draw(particle.currentFrame, pos.x, pos.y);
+        for (Particle.ParticleType type : PARTICLE_TYPES) {
+            for (int i = 0; i < map.particles.count(type); i++) {
+                Particle particle = map.particles.get(type, i);
+                if (particle.alive && particle.currentFrame != null) {
+                    Vector2 pos = applyCameraLerp(particle.getInterpolatedPos(alpha, interpolatedPos));
+                    RegionDrawer.draw(batch, particle.currentFrame, pos.x, pos.y, PlayerAnimationBase.isMirrored(particle.direction));
+                }
+            }
         }
     }
 
     @Override
     public void dispose() {
         batch.dispose();
-        playerRenderer.dispose();
         playerHealthRenderer.dispose();
-        damagedShader.dispose();
+        spriteShader.dispose();
+        background.dispose();
+        mapRenderer.dispose();
     }
 
     public void resize(int width, int height) {
@@ -210,5 +252,7 @@ public class WorldRenderer implements Disposable {
         camViewportHalfY = gameCam.viewportHeight / 2;
         mapWidthMinusCamViewportHalfX = map.getWidth() - camViewportHalfX;
         mapHeightMinusCamViewportHalfY = map.getHeight() - camViewportHalfY;
+        // Enemies spawn and despawn relative to what the camera can see
+        map.setViewportSize(gameCam.viewportWidth / map.getTileWidth(), gameCam.viewportHeight / map.getTileHeight());
     }
 }
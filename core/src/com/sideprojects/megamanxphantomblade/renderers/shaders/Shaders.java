@@ -8,11 +8,9 @@ public class Shaders {
     protected static final String VERT_SHADERS_PATH = "shaders/vert/";
 
     // Frag shaders
-    public static final String FRAG_BRIGHTEN = "brighten.frag";
-    public static final String FRAG_PASSTHROUGH = "passthrough.frag";
+    public static final String FRAG_SPRITE = "sprite.frag";
 
     // Vert shaders
-    public static final String VERT_COLOUR = "colour.vert";
     public static final String VERT_PASSTHROUGH = "passthrough.vert";
 
     private Shaders() {}
@@ -0,0 +1,44 @@
+package com.sideprojects.megamanxphantomblade.renderers.shaders;
+
+import com.badlogic.gdx.graphics.Color;
+import com.sideprojects.megamanxphantomblade.logging.Logger;
+
+/**
+ * Created by buivuhoang on 26/10/17.
+ * Draws every sprite of the world, the effect of each sprite is picked by the batch colour it is drawn with
+ * so switching between effects doesn't flush the batch.
+ * The colour is not a tint: white draws the sprite as is, lighter greys brighten it and darker colours fill it.
+ * Alpha is the opacity as usual. Use the packed colours below instead of building them by hand.
+ */
+public class SpriteShader extends Shader {
+    public static final float NORMAL = Color.WHITE.toFloatBits();
+    public static final float DAMAGED = brighten(0.5f);
+    public static final float CHARGE = brighten(0.2f);
+
+    public SpriteShader(Logger logger) {
+        super(logger, Shaders.VERT_PASSTHROUGH,
+                Shaders.FRAG_SPRITE);
+    }
+
+    /**
+     * @return The colour to draw the sprite as is with the given opacity
+     */
+    public static float normal(float alpha) {
+        return Color.toFloatBits(1f, 1f, 1f, alpha);
+    }
+
+    /**
+     * @param intensity How much is added to each channel of the sprite, from 0 to 1
+     */
+    public static float brighten(float intensity) {
+        float value = 1f - intensity / 2f;
+        return Color.toFloatBits(value, value, value, 1f);
+    }
+
+    /**
+     * @return The colour to draw the shape of the sprite in a single colour, e.g. for traces
+     */
+    public static float fill(float r, float g, float b, float alpha) {
+        return Color.toFloatBits(r / 2f, g / 2f, b / 2f, alpha);
+    }
+}
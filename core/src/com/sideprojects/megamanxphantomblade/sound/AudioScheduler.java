@@ -0,0 +1,346 @@
+package com.sideprojects.megamanxphantomblade.sound;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.Pool;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Decides which of the requested sounds are played, and plays them once per tick in update.
+ * - Identical requests made in the same tick are played once
+ * - Sounds with a position are only played when they are within range of the listener
+ * - The voices of each sound and of all sounds together are limited. A sound that would go over a limit
+ *   replaces the oldest voice of the lowest priority, unless that voice has a higher priority than the sound,
+ *   in which case the sound is not played.
+ * Voices are counted until their sound is over, looping voices until their sound is stopped.
+ */
+public class AudioScheduler {
+    public static final int PRIORITY_LOW = 0;
+    public static final int PRIORITY_NORMAL = 1;
+    public static final int PRIORITY_HIGH = 2;
+
+    private enum Mode {
+        // Plays on top of other sounds
+        PARALLEL,
+        // Stops the last exclusive sound and becomes the exclusive sound
+        EXCLUSIVE,
+        // Stops the last exclusive sound and plays on top of other sounds
+        STOP_EXCLUSIVE,
+        LOOP,
+        // Stops every voice of the sound
+        STOP
+    }
+
+    private static class Request {
+        private Mode mode;
+        private String file;
+        private int priority;
+    }
+
+    private static class Voice {
+        private String file;
+        private Sound sound;
+        private long id;
+        private int priority;
+        private float endTime;
+    }
+
+    private final Function<String, Sound> sounds;
+    private final ToDoubleFunction<String> durations;
+    private final int maxVoices;
+    private final int defaultMaxVoicesPerSound;
+    private final ObjectIntMap<String> maxVoicesPerSound;
+    private final ObjectIntMap<String> priorities;
+
+    // Requests of the current tick, in the order they were made
+    private final Array<Request> requests;
+    private final Pool<Request> requestPool;
+    // Voices that are playing, from the oldest
+    private final Array<Voice> voices;
+    private final Pool<Voice> voicePool;
+    private long exclusiveVoice;
+    private float time;
+
+    private boolean hasListener;
+    private float listenerX;
+    private float listenerY;
+    private float rangeX;
+    private float rangeY;
+
+    public float volume;
+
+    private long started;
+    private long merged;
+    private long culled;
+    private long stolen;
+    private long dropped;
+
+    /**
+     * @param sounds Gives the loaded sound of a file
+     * @param durations Gives how long the sound of a file plays in seconds, asked on every voice it starts
+     *                  right after its sound, so it should be known without reading the file again
+     * @param maxVoices Voices of all sounds together
+     * @param maxVoicesPerSound Voices of each sound, unless set with setLimits
+     */
+    public AudioScheduler(Function<String, Sound> sounds, ToDoubleFunction<String> durations, int maxVoices, int maxVoicesPerSound) {
+        this.sounds = sounds;
+        this.durations = durations;
+        this.maxVoices = maxVoices;
+        defaultMaxVoicesPerSound = maxVoicesPerSound;
+        this.maxVoicesPerSound = new ObjectIntMap<>();
+        priorities = new ObjectIntMap<>();
+        requests = new Array<>(false, 16);
+        requestPool = new Pool<Request>() {
+            @Override
+            protected Request newObject() {
+                return new Request();
+            }
+        };
+        voices = new Array<>(maxVoices);
+        voicePool = new Pool<Voice>(maxVoices) {
+            @Override
+            protected Voice newObject() {
+                return new Voice();
+            }
+        };
+        exclusiveVoice = -1;
+        volume = 1;
+    }
+
+    /**
+     * @param maxVoices How many voices of the sound can play at once
+     * @param priority Decides which voices are replaced when there are too many, PRIORITY_NORMAL by default
+     */
+    public void setLimits(String file, int maxVoices, int priority) {
+        maxVoicesPerSound.put(file, maxVoices);
+        priorities.put(file, priority);
+    }
+
+    /**
+     * Sounds played with a position are only heard when they are less than range away from the listener.
+     * Until it is set every sound is heard.
+     */
+    public void setListener(float x, float y, float rangeX, float rangeY) {
+        hasListener = true;
+        listenerX = x;
+        listenerY = y;
+        this.rangeX = rangeX;
+        this.rangeY = rangeY;
+    }
+
+    public void play(String file) {
+        request(Mode.PARALLEL, file);
+    }
+
+    /**
+     * Plays the sound if the position is within range of the listener
+     */
+    public void playAt(String file, float x, float y) {
+        if (hasListener && (Math.abs(x - listenerX) > rangeX || Math.abs(y - listenerY) > rangeY)) {
+            culled++;
+            return;
+        }
+        request(Mode.PARALLEL, file);
+    }
+
+    /**
+     * Stops the last sound played with playExclusive, and plays this one instead
+     */
+    public void playExclusive(String file) {
+        request(Mode.EXCLUSIVE, file);
+    }
+
+    /**
+     * Stops the last sound played with playExclusive, and plays this one on top of the others
+     */
+    public void playStoppingExclusive(String file) {
+        request(Mode.STOP_EXCLUSIVE, file);
+    }
+
+    public void loop(String file) {
+        request(Mode.LOOP, file);
+    }
+
+    public void stop(String file) {
+        request(Mode.STOP, file);
+    }
+
+    private void request(Mode mode, String file) {
+        // The same request since the sound was last stopped in this tick is already going to be played
+        for (int i = requests.size - 1; i >= 0; i--) {
+            Request request = requests.get(i);
+            if (!request.file.equals(file)) {
+                continue;
+            }
+            if (request.mode == mode) {
+                merged++;
+                return;
+            }
+            if (request.mode == Mode.STOP) {
+                break;
+            }
+        }
+        Request request = requestPool.obtain();
+        request.mode = mode;
+        request.file = file;
+        request.priority = priorities.get(file, PRIORITY_NORMAL);
+        requests.add(request);
+    }
+
+    /**
+     * Frees the voices whose sound is over, then plays the requests of the tick
+     */
+    public void update(float delta) {
+        time += delta;
+        for (int i = voices.size - 1; i >= 0; i--) {
+            if (voices.get(i).endTime <= time) {
+                voicePool.free(voices.removeIndex(i));
+            }
+        }
+        for (int i = 0; i < requests.size; i++) {
+            start(requests.get(i));
+        }
+        requestPool.freeAll(requests);
+        requests.clear();
+    }
+
+    private void start(Request request) {
+        if (request.mode == Mode.STOP) {
+            // Only the voices that are playing need stopping, so the sound isn't fetched
+            for (int i = voices.size - 1; i >= 0; i--) {
+                if (voices.get(i).file.equals(request.file)) {
+                    stopVoice(i);
+                }
+            }
+            return;
+        }
+        if ((request.mode == Mode.EXCLUSIVE || request.mode == Mode.STOP_EXCLUSIVE) && exclusiveVoice != -1) {
+            for (int i = 0; i < voices.size; i++) {
+                if (voices.get(i).id == exclusiveVoice) {
+                    stopVoice(i);
+                    break;
+                }
+            }
+            exclusiveVoice = -1;
+        }
+        if (!makeRoom(request)) {
+            dropped++;
+            return;
+        }
+        Sound sound = sounds.apply(request.file);
+        boolean looping = request.mode == Mode.LOOP;
+        long id = looping ? sound.loop(volume) : sound.play(volume);
+        if (id == -1) {
+            // The backend had no voice left
+            dropped++;
+            return;
+        }
+        if (request.mode == Mode.EXCLUSIVE) {
+            exclusiveVoice = id;
+        }
+        Voice voice = voicePool.obtain();
+        voice.file = request.file;
+        voice.sound = sound;
+        voice.id = id;
+        voice.priority = request.priority;
+        voice.endTime = looping ? Float.POSITIVE_INFINITY : time + (float)durations.applyAsDouble(request.file);
+        voices.add(voice);
+        started++;
+    }
+
+    /**
+     * Stops a voice if there are too many to play the request
+     * @return Whether the request can be played
+     */
+    private boolean makeRoom(Request request) {
+        int count = 0;
+        Voice weakestOfSound = null;
+        Voice weakest = null;
+        for (int i = 0; i < voices.size; i++) {
+            Voice voice = voices.get(i);
+            if (voice.file.equals(request.file)) {
+                count++;
+                if (weakestOfSound == null || voice.priority < weakestOfSound.priority) {
+                    weakestOfSound = voice;
+                }
+            }
+            if (weakest == null || voice.priority < weakest.priority) {
+                weakest = voice;
+            }
+        }
+        if (count >= maxVoicesPerSound.get(request.file, defaultMaxVoicesPerSound)) {
+            return steal(weakestOfSound, request.priority);
+        }
+        if (voices.size >= maxVoices) {
+            return steal(weakest, request.priority);
+        }
+        return true;
+    }
+
+    private boolean steal(Voice voice, int priority) {
+        if (voice == null || voice.priority > priority) {
+            return false;
+        }
+        stopVoice(voices.indexOf(voice, true));
+        stolen++;
+        return true;
+    }
+
+    /**
+     * Stops the voice at the index through its own sound and frees it
+     */
+    private void stopVoice(int index) {
+        Voice voice = voices.removeIndex(index);
+        voice.sound.stop(voice.id);
+        if (voice.id == exclusiveVoice) {
+            exclusiveVoice = -1;
+        }
+        voicePool.free(voice);
+    }
+
+    /**
+     * @return How many voices are playing
+     */
+    public int getVoiceCount() {
+        return voices.size;
+    }
+
+    /**
+     * @return How many voices were started
+     */
+    public long getStarted() {
+        return started;
+    }
+
+    /**
+     * @return How many requests were merged into an identical one of the same tick
+     */
+    public long getMerged() {
+        return merged;
+    }
+
+    /**
+     * @return How many requests were out of range of the listener
+     */
+    public long getCulled() {
+        return culled;
+    }
+
+    /**
+     * @return How many voices were stopped to play another sound
+     */
+    public long getStolen() {
+        return stolen;
+    }
+
+    /**
+     * @return How many requests were not played because every voice they could replace had a higher priority
+     */
+    public long getDropped() {
+        return dropped;
+    }
+}
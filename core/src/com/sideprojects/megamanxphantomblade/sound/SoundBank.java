@@ -0,0 +1,220 @@
+package com.sideprojects.megamanxphantomblade.sound;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Keeps the decoded sounds, up to a budget in bytes of decoded samples.
+ * When a new sound doesn't fit, the least recently played sounds are unloaded until it does.
+ * Pinned sounds are never unloaded, preload pins the sounds of a stage so none of them is decoded again
+ * while it is played. Pinned sounds can take the bank over its budget.
+ * The header of a file is read when its sound is loaded, so playing a loaded sound never opens the file.
+ */
+public class SoundBank implements Disposable {
+    // Sounds whose length isn't in their header are assumed to play for a second
+    public static final float DEFAULT_DURATION = 1;
+
+    private static class Entry {
+        private final Sound sound;
+        private final long bytes;
+        private final float duration;
+        private boolean pinned;
+
+        private Entry(Sound sound, WavHeader header) {
+            this.sound = sound;
+            bytes = header.dataSize;
+            duration = header.byteRate > 0 ? header.getDuration() : DEFAULT_DURATION;
+        }
+    }
+
+    private final long budget;
+    private final Function<String, Sound> loader;
+    private final Consumer<Sound> unloader;
+    private final Function<String, WavHeader> headerOf;
+    // The least recently played sound first. Only playing a sound moves it, pinning or looking it up doesn't
+    private final LinkedHashMap<String, Entry> entries;
+    private long size;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param budget Bytes of decoded samples to keep loaded
+     * @param loader Decodes the sound of a file
+     * @param unloader Called instead of dispose once a sound is unloaded
+     * @param headerOf Bytes of decoded samples of a file and how long it plays, see getHeader
+     */
+    public SoundBank(long budget, Function<String, Sound> loader, Consumer<Sound> unloader, Function<String, WavHeader> headerOf) {
+        this.budget = budget;
+        this.loader = loader;
+        this.unloader = unloader;
+        this.headerOf = headerOf;
+        entries = new LinkedHashMap<>();
+    }
+
+    /**
+     * Returns the sound of the file, loading it if it isn't loaded
+     */
+    public Sound get(String file) {
+        Entry entry = entries.get(file);
+        if (entry != null) {
+            hits++;
+            entries.remove(file);
+            entries.put(file, entry);
+            return entry.sound;
+        }
+        misses++;
+        entry = load(file);
+        fitBudget(entry);
+        return entry.sound;
+    }
+
+    /**
+     * Loads the sounds that aren't loaded yet and pins all of them
+     */
+    public void preload(Iterable<String> files) {
+        for (String file : files) {
+            pinEntry(file);
+        }
+        fitBudget(null);
+    }
+
+    /**
+     * Keeps the sound loaded until it is unpinned, loading it if it isn't loaded
+     */
+    public void pin(String file) {
+        pinEntry(file);
+        fitBudget(null);
+    }
+
+    private void pinEntry(String file) {
+        Entry entry = entries.get(file);
+        if (entry == null) {
+            entry = load(file);
+        }
+        entry.pinned = true;
+    }
+
+    public void unpin(String file) {
+        Entry entry = entries.get(file);
+        if (entry != null) {
+            entry.pinned = false;
+            fitBudget(null);
+        }
+    }
+
+    public boolean isLoaded(String file) {
+        return entries.containsKey(file);
+    }
+
+    public boolean isPinned(String file) {
+        Entry entry = entries.get(file);
+        return entry != null && entry.pinned;
+    }
+
+    /**
+     * @return How long the sound plays in seconds, DEFAULT_DURATION if it isn't known or the sound isn't loaded
+     */
+    public float getDuration(String file) {
+        Entry entry = entries.get(file);
+        return entry != null ? entry.duration : DEFAULT_DURATION;
+    }
+
+    private Entry load(String file) {
+        Entry entry = new Entry(loader.apply(file), headerOf.apply(file));
+        entries.put(file, entry);
+        size += entry.bytes;
+        return entry;
+    }
+
+    /**
+     * Unloads the least recently played sounds that aren't pinned until the bank is within its budget
+     * @param keep A sound that stays loaded even if it isn't pinned, null for none
+     */
+    private void fitBudget(Entry keep) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (size > budget && iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            if (entry.pinned || entry == keep) {
+                continue;
+            }
+            iterator.remove();
+            size -= entry.bytes;
+            evictions++;
+            unloader.accept(entry.sound);
+        }
+    }
+
+    /**
+     * @return The number of loaded sounds
+     */
+    public int getCount() {
+        return entries.size();
+    }
+
+    /**
+     * @return Bytes of decoded samples of the loaded sounds
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public long getBudget() {
+        return budget;
+    }
+
+    /**
+     * @return How often a sound was asked for and was loaded already
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return How often a sound was asked for and had to be loaded, preloading doesn't count
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return How many sounds were unloaded to stay within the budget
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public void dispose() {
+        for (Entry entry : entries.values()) {
+            unloader.accept(entry.sound);
+        }
+        entries.clear();
+        size = 0;
+    }
+
+    /**
+     * @return The header of a wav file. Other files are given a header estimating their samples by their length,
+     * with an unknown duration.
+     */
+    public static WavHeader getHeader(FileHandle file) {
+        WavHeader header = WavHeader.read(file);
+        return header != null ? header : new WavHeader(file.length(), 0);
+    }
+
+    /**
+     * @return The size of the samples of a wav file, which are kept as they are once decoded.
+     * Other files are estimated by their length.
+     */
+    public static long getDecodedSize(FileHandle file) {
+        return getHeader(file).dataSize;
+    }
+}
@@ -4,21 +4,67 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.sideprojects.megamanxphantomblade.assets.Assets;
 
 /**
  * Created by buivuhoang on 02/03/17.
  */
 public class SoundPlayer implements SoundPlayerBase {
+    // Every sound of the game decodes to less than 1 MB of samples
+    private static final long SOUND_BUDGET = 2 * 1024 * 1024;
+    // OpenAL gives libGDX 16 sources by default, music takes one of them
+    private static final int MAX_VOICES = 15;
+    private static final int MAX_VOICES_PER_SOUND = 4;
+
     public float sfxVolume = 1.0f;
-    private LRUCache<String, Sound> soundCache;
+    private SoundBank soundBank;
+    private AudioScheduler scheduler;
     private LRUCache<String, Music> musicCache;
-    private long nonOverlappingSoundBeingPlayed;
 
     public SoundPlayer() {
-        soundCache = new LRUCache<>(10);
+        soundBank = new SoundBank(SOUND_BUDGET, SoundPlayer::newSound, SoundPlayer::disposeSound,
+                file -> SoundBank.getHeader(Gdx.files.internal(file)));
+        scheduler = new AudioScheduler(this::loadSound, soundBank::getDuration, MAX_VOICES, MAX_VOICES_PER_SOUND);
+        // X's sounds are never cut off by enemies, explosions and shots of enemies are the first to go
+        for (String file: Sounds.PLAYER_X) {
+            scheduler.setLimits(file, 2, AudioScheduler.PRIORITY_HIGH);
+        }
+        scheduler.setLimits(Sounds.BulletHit, 3, AudioScheduler.PRIORITY_NORMAL);
+        scheduler.setLimits(Sounds.BulletNoDamage, 3, AudioScheduler.PRIORITY_NORMAL);
+        scheduler.setLimits(Sounds.EnvironmentEnemyExplode, 3, AudioScheduler.PRIORITY_LOW);
+        scheduler.setLimits(Sounds.NightmareVirusShoot, 3, AudioScheduler.PRIORITY_LOW);
         musicCache = new LRUCache<>(2);
-        // Dispose of sounds that are removed from the cache automatically
-        soundCache.setEntryRemovedListener((key, value) -> value.dispose());
+    }
+
+    /**
+     * Loads the sounds, of a stage for example, and keeps them loaded until the player is disposed
+     */
+    public void preload(Array<String> files) {
+        soundBank.preload(files);
+    }
+
+    public SoundBank getSoundBank() {
+        return soundBank;
+    }
+
+    public AudioScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Sounds played at a position are only heard within range of the listener, usually the player
+     */
+    public void setListener(float x, float y, float rangeX, float rangeY) {
+        scheduler.setListener(x, y, rangeX, rangeY);
+    }
+
+    /**
+     * Plays the sounds requested since the last update, once per tick
+     */
+    public void update(float delta) {
+        scheduler.volume = sfxVolume;
+        scheduler.update(delta);
     }
 
     /***
@@ -27,9 +73,7 @@ public class SoundPlayer implements SoundPlayerBase {
      */
     @Override
     public void play(String file) {
-        Sound sound = loadSound(file);
-        sound.stop(nonOverlappingSoundBeingPlayed);
-        nonOverlappingSoundBeingPlayed = sound.play(sfxVolume);
+        scheduler.playExclusive(file);
     }
 
     /***
@@ -38,16 +82,21 @@ public class SoundPlayer implements SoundPlayerBase {
      */
     @Override
     public void playInParallel(String file) {
-        Sound sound = loadSound(file);
-        sound.play(sfxVolume);
+        scheduler.play(file);
+    }
 
+    /***
+     * Play a sound on top of other sounds if the position is within range of the listener
+     * @param file name of the sound file to play
+     */
+    @Override
+    public void playInParallel(String file, float x, float y) {
+        scheduler.playAt(file, x, y);
     }
 
     @Override
     public void playInParallelAndStopPreviousSound(String file) {
-        Sound sound = loadSound(file);
-        sound.stop(nonOverlappingSoundBeingPlayed);
-        sound.play(sfxVolume);
+        scheduler.playStoppingExclusive(file);
     }
 
     @Override
@@ -58,26 +107,41 @@ public class SoundPlayer implements SoundPlayerBase {
 
     @Override
     public void loopInParallel(String file) {
-        Sound sound = loadSound(file);
-        sound.loop(sfxVolume);
+        scheduler.loop(file);
     }
 
     @Override
     public void stop(String file) {
-        Sound sound = loadSound(file);
-        sound.stop();
+        scheduler.stop(file);
     }
 
     @Override
     public Sound loadSound(String file) {
-        if (!soundCache.containsKey(file)) {
-            soundCache.put(file, Gdx.audio.newSound(Gdx.files.internal(file)));
+        return soundBank.get(file);
+    }
+
+    private static Sound newSound(String file) {
+        // Sounds preloaded by the AssetManager are only decoded once, by the manager
+        Sound preloaded = Assets.getLoaded(file, Sound.class);
+        if (preloaded != null) {
+            return preloaded;
+        }
+        return Gdx.audio.newSound(Gdx.files.internal(file));
+    }
+
+    private static void disposeSound(Sound sound) {
+        // The manager disposes its own sounds
+        if (!Assets.isManaged(sound)) {
+            sound.dispose();
         }
-        return soundCache.get(file);
     }
 
     @Override
     public Music loadMusic(String file) {
+        Music preloaded = Assets.getLoaded(file, Music.class);
+        if (preloaded != null) {
+            return preloaded;
+        }
         if (!musicCache.containsKey(file)) {
             musicCache.put(file, Gdx.audio.newMusic(Gdx.files.internal(file)));
         }
@@ -86,13 +150,10 @@ public class SoundPlayer implements SoundPlayerBase {
 
     @Override
     public void dispose() {
-        for (Sound sound: soundCache.values()) {
-            sound.dispose();
-        }
+        soundBank.dispose();
         for (Music music: musicCache.values()) {
             music.dispose();
         }
-        soundCache.clear();
         musicCache.clear();
     }
 }
@@ -10,6 +10,7 @@ import com.badlogic.gdx.utils.Disposable;
 public interface SoundPlayerBase extends Disposable {
     void play(String file);
     void playInParallel(String file);
+    void playInParallel(String file, float x, float y);
     void playInParallelAndStopPreviousSound(String file);
     void playOneRandomly(String... files);
     void loopInParallel(String file);
@@ -39,4 +39,14 @@ public class Sounds {
 
     // Enemies
     public static String NightmareVirusShoot = "sounds/01054.wav";
+
+    // Groups to build the manifests of stages from
+    public static final String[] PLAYER_X = {
+            XJump, XLand, XWallSlide, XDash, XDashBreak, XWallJump, XJumpShout1, XJumpShout2, XJumpShout3,
+            XDamagedShout1, XDamagedShout2, XLowHealth, XDie, XAttackLight, XAttackMedium, XAttackHeavy,
+            XHeavyAttackShout, XCharging, XChargeLoop
+    };
+    public static final String[] COMMON = {
+            BulletHit, BulletNoDamage, Ready, EnvironmentEnemyExplode
+    };
 }
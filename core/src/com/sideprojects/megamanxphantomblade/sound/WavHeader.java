@@ -0,0 +1,103 @@
+package com.sideprojects.megamanxphantomblade.sound;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * The sizes in the header of a wav file, read without reading the samples.
+ */
+public class WavHeader {
+    // Bytes of samples, which are kept as they are once the sound is decoded
+    public final long dataSize;
+    // Bytes of samples per second, 0 if the file has no format chunk
+    public final int byteRate;
+
+    WavHeader(long dataSize, int byteRate) {
+        this.dataSize = dataSize;
+        this.byteRate = byteRate;
+    }
+
+    /**
+     * @return How long the sound plays in seconds, 0 if it isn't known
+     */
+    public float getDuration() {
+        return byteRate == 0 ? 0 : (float)dataSize / byteRate;
+    }
+
+    /**
+     * @return The header of the file, or null if it isn't a wav file
+     */
+    public static WavHeader read(FileHandle file) {
+        if (!"wav".equalsIgnoreCase(file.extension())) {
+            return null;
+        }
+        InputStream input = file.read();
+        try {
+            // The riff header is "RIFF", the size of the file and "WAVE"
+            byte[] header = new byte[16];
+            if (!readFully(input, header, 12) || header[0] != 'R' || header[8] != 'W') {
+                return null;
+            }
+            int byteRate = 0;
+            // Then come the chunks, padded to an even size. The samples are in the data chunk
+            while (readFully(input, header, 8)) {
+                long chunkSize = readUnsignedInt(header, 4);
+                if (isChunk(header, "data")) {
+                    return new WavHeader(chunkSize, byteRate);
+                }
+                long skip = chunkSize + (chunkSize & 1);
+                if (isChunk(header, "fmt ") && chunkSize >= 16) {
+                    // Format, channels and sample rate come before the byte rate
+                    if (!readFully(input, header, 12)) {
+                        return null;
+                    }
+                    byteRate = (int)readUnsignedInt(header, 8);
+                    skip -= 12;
+                }
+                while (skip > 0) {
+                    long skipped = input.skip(skip);
+                    if (skipped <= 0) {
+                        return null;
+                    }
+                    skip -= skipped;
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't read the header of " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(input);
+        }
+    }
+
+    private static boolean isChunk(byte[] header, String id) {
+        for (int i = 0; i < 4; i++) {
+            if (header[i] != id.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long readUnsignedInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFFL) | (bytes[offset + 1] & 0xFFL) << 8
+                | (bytes[offset + 2] & 0xFFL) << 16 | (bytes[offset + 3] & 0xFFL) << 24;
+    }
+
+    private static boolean readFully(InputStream input, byte[] buffer, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            int count = input.read(buffer, read, length - read);
+            if (count < 0) {
+                return false;
+            }
+            read += count;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+package com.sideprojects.megamanxphantomblade;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ */
+public class AttackPoolTests {
+    private AttackPool<MockAttack> pool;
+
+    @Before
+    public void init() {
+        pool = new AttackPool<>(MockAttack::new, 2);
+    }
+
+    @Test
+    public void should_reuse_freed_attack() {
+        MockAttack attack = pool.obtain();
+        attack.free();
+
+        Assert.assertSame(attack, pool.obtain());
+    }
+
+    @Test
+    public void should_reset_attack_when_freed() {
+        MockAttack attack = pool.obtain();
+        attack.init(new Damage(Damage.Type.HEAVY, Damage.Side.LEFT, 0), MovingObject.LEFT);
+        attack.initialiseHealthPoints(10);
+        attack.die(true);
+        attack.setShouldBeRemoved(true);
+
+        attack.free();
+
+        Assert.assertFalse(attack.isShouldBeRemoved());
+        Assert.assertEquals(MovingObject.NONEDIRECTION, attack.direction);
+        Assert.assertEquals(0, attack.stateTime, 0);
+    }
+
+    @Test
+    public void should_only_free_attack_once() {
+        MockAttack attack = pool.obtain();
+        attack.free();
+        attack.free();
+
+        Assert.assertEquals(1, pool.getFree());
+    }
+
+    @Test
+    public void should_copy_damage_on_init() {
+        Damage damage = new Damage(Damage.Type.HEAVY, Damage.Side.LEFT, 0);
+        MockAttack attack = pool.obtain();
+        attack.init(damage, MovingObject.LEFT);
+        damage.setSide(Damage.Side.RIGHT);
+
+        Assert.assertEquals(Damage.Type.HEAVY, attack.damage.getType());
+        Assert.assertEquals(Damage.Side.LEFT, attack.damage.getSide());
+    }
+
+    private static class MockAttack extends Attack {
+        @Override
+        public boolean canCollideWithWall() {
+            return false;
+        }
+
+        @Override
+        public void update(float delta) {
+        }
+    }
+}
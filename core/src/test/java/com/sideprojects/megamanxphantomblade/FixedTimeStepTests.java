@@ -0,0 +1,36 @@
+package com.sideprojects.megamanxphantomblade;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Created by buivuhoang on 22/10/17.
+ */
+public class FixedTimeStepTests {
+    @Test
+    public void should_carry_leftover_time_to_next_frame() {
+        FixedTimeStep timeStep = new FixedTimeStep(0.25f, 5);
+
+        Assert.assertEquals(0, timeStep.advance(0.125f));
+        Assert.assertEquals(0.5f, timeStep.alpha(), 0.0001f);
+        Assert.assertEquals(1, timeStep.advance(0.25f));
+        Assert.assertEquals(0.5f, timeStep.alpha(), 0.0001f);
+    }
+
+    @Test
+    public void should_run_multiple_steps_for_long_frames() {
+        FixedTimeStep timeStep = new FixedTimeStep(0.25f, 5);
+
+        Assert.assertEquals(3, timeStep.advance(0.8f));
+        Assert.assertEquals(0.2f, timeStep.alpha(), 0.0001f);
+    }
+
+    @Test
+    public void should_drop_time_beyond_max_steps() {
+        FixedTimeStep timeStep = new FixedTimeStep(0.25f, 2);
+
+        Assert.assertEquals(2, timeStep.advance(10f));
+        Assert.assertEquals(0, timeStep.alpha(), 0);
+        Assert.assertEquals(0, timeStep.advance(0.1f));
+    }
+}
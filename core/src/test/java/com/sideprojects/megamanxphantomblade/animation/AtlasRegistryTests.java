@@ -0,0 +1,72 @@
+package com.sideprojects.megamanxphantomblade.animation;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Created by buivuhoang on 24/10/17.
+ */
+public class AtlasRegistryTests {
+    private int loads;
+    private AtlasRegistry registry;
+
+    @Before
+    public void init() {
+        loads = 0;
+        registry = new AtlasRegistry(file -> {
+            loads++;
+            TextureAtlas atlas = Mockito.spy(new TextureAtlas());
+            atlas.getTextures().add(mockTexture(64, 32));
+            return atlas;
+        });
+    }
+
+    private static Texture mockTexture(int width, int height) {
+        TextureData data = Mockito.mock(TextureData.class);
+        Mockito.when(data.getFormat()).thenReturn(Pixmap.Format.RGBA8888);
+        Texture texture = Mockito.mock(Texture.class);
+        Mockito.when(texture.getWidth()).thenReturn(width);
+        Mockito.when(texture.getHeight()).thenReturn(height);
+        Mockito.when(texture.getTextureData()).thenReturn(data);
+        return texture;
+    }
+
+    @Test
+    public void should_load_each_atlas_once() {
+        TextureAtlas first = registry.acquire("x.txt");
+        TextureAtlas second = registry.acquire("x.txt");
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, loads);
+        Assert.assertEquals(2, registry.getReferenceCount("x.txt"));
+        Assert.assertEquals(64 * 32 * 4, registry.getTextureMemory());
+    }
+
+    @Test
+    public void should_dispose_on_last_release() {
+        TextureAtlas atlas = registry.acquire("x.txt");
+        registry.acquire("x.txt");
+
+        registry.release("x.txt");
+        Mockito.verify(atlas, Mockito.never()).dispose();
+
+        registry.release("x.txt");
+        Mockito.verify(atlas).dispose();
+        Assert.assertEquals(0, registry.size());
+        Assert.assertEquals(0, registry.getTextureMemory());
+
+        registry.acquire("x.txt");
+        Assert.assertEquals(2, loads);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void should_not_release_atlases_that_are_not_acquired() {
+        registry.release("x.txt");
+    }
+}
@@ -0,0 +1,36 @@
+package com.sideprojects.megamanxphantomblade.animation;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Created by buivuhoang on 25/10/17.
+ */
+public class PackedSpritesTests {
+    @After
+    public void tearDown() {
+        PackedSprites.setAvailable(null);
+    }
+
+    @Test
+    public void should_name_regions_after_sprite_sheet_path() {
+        Assert.assertEquals("x/idle", PackedSprites.getRegionName("sprites/x/idle.txt"));
+        Assert.assertEquals("enemies/mettool/mettool", PackedSprites.getRegionName("sprites/enemies/mettool/mettool.txt"));
+    }
+
+    @Test
+    public void should_load_sprite_sheets_from_packed_atlas_when_available() {
+        PackedSprites.setAvailable(true);
+
+        Assert.assertEquals(PackedSprites.ATLAS, PackedSprites.getAtlasFile("sprites/x/idle.txt"));
+        Assert.assertEquals("maps/background.txt", PackedSprites.getAtlasFile("maps/background.txt"));
+    }
+
+    @Test
+    public void should_load_sprite_sheets_one_by_one_without_packed_atlas() {
+        PackedSprites.setAvailable(false);
+
+        Assert.assertEquals("sprites/x/idle.txt", PackedSprites.getAtlasFile("sprites/x/idle.txt"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.sideprojects.megamanxphantomblade.animation;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.sideprojects.megamanxphantomblade.MovingObject;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Created by buivuhoang on 26/10/17.
+ */
+public class ParticlesTests {
+    private static final Particle.ParticleType FRAGMENT = Particle.ParticleType.EXPLODE_FRAGMENT;
+
+    private Particles particles;
+    private TextureRegion frame;
+
+    @Before
+    public void init() {
+        particles = new Particles(10f, -5f);
+        frame = mock(TextureRegion.class);
+        // Two frames of 0.1s, so dust lives for 0.2s
+        particles.animations[Particle.ParticleType.DASH.ordinal()] = new Animation<>(0.1f, frame, frame);
+    }
+
+    @Test
+    public void should_retire_every_expired_particle_in_one_update() {
+        for (int i = 0; i < 3; i++) {
+            particles.add(Particle.ParticleType.DASH, i, 0, false, MovingObject.RIGHT);
+        }
+
+        particles.update(0.25f);
+
+        Assert.assertEquals(0, particles.size());
+        Assert.assertEquals(0, particles.count(Particle.ParticleType.DASH));
+    }
+
+    @Test
+    public void should_replace_oldest_particle_beyond_budget() {
+        for (int i = 0; i < FRAGMENT.budget + 1; i++) {
+            particles.addFragment(frame, i, 0, 0, 0, MovingObject.LEFT, 1f);
+        }
+
+        Assert.assertEquals(FRAGMENT.budget, particles.count(FRAGMENT));
+        Assert.assertEquals(1f, particles.get(FRAGMENT, 0).pos.x, 0);
+        Assert.assertEquals(FRAGMENT.budget, particles.get(FRAGMENT, FRAGMENT.budget - 1).pos.x, 0);
+    }
+
+    @Test
+    public void should_skip_particles_that_expire_before_older_ones() {
+        particles.addFragment(frame, 0, 0, 0, 0, MovingObject.LEFT, 1f);
+        particles.addFragment(frame, 0, 0, 0, 0, MovingObject.LEFT, 0.1f);
+
+        particles.update(0.2f);
+
+        Assert.assertEquals(1, particles.size());
+        Assert.assertEquals(2, particles.count(FRAGMENT));
+        Assert.assertFalse(particles.get(FRAGMENT, 1).alive);
+
+        particles.update(1f);
+
+        Assert.assertEquals(0, particles.count(FRAGMENT));
+    }
+
+    @Test
+    public void should_move_singleton_particle_instead_of_adding_one() {
+        particles.add(Particle.ParticleType.DASH, 1, 0, true, MovingObject.RIGHT);
+        particles.add(Particle.ParticleType.DASH, 2, 3, true, MovingObject.RIGHT);
+
+        Assert.assertEquals(1, particles.size());
+        Assert.assertEquals(2, particles.get(Particle.ParticleType.DASH, 0).pos.x, 0);
+        Assert.assertEquals(3, particles.get(Particle.ParticleType.DASH, 0).pos.y, 0);
+    }
+
+    @Test
+    public void should_pull_fragments_down_up_to_max_fallspeed() {
+        particles.addFragment(frame, 0, 0, 1f, 2f, MovingObject.LEFT, 5f);
+        Particle fragment = particles.get(FRAGMENT, 0);
+
+        particles.update(0.5f);
+
+        Assert.assertEquals(-3f, fragment.vel.y, 0.0001f);
+        Assert.assertEquals(0.5f, fragment.pos.x, 0.0001f);
+        Assert.assertEquals(-1.5f, fragment.pos.y, 0.0001f);
+
+        particles.update(0.5f);
+        particles.update(0.5f);
+
+        Assert.assertEquals(-5f, fragment.vel.y, 0.0001f);
+    }
+}
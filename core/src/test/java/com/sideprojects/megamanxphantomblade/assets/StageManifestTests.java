@@ -0,0 +1,49 @@
+package com.sideprojects.megamanxphantomblade.assets;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Created by buivuhoang on 25/10/17.
+ */
+public class StageManifestTests {
+    @Test
+    public void should_list_each_file_once() {
+        StageManifest manifest = new StageManifest("map.tmx")
+                .addAtlases("a.txt", "b.txt")
+                .addAtlases("b.txt")
+                .addSounds("a.wav", "a.wav");
+
+        Assert.assertEquals(2, manifest.getAtlases().size);
+        Assert.assertEquals(1, manifest.getSounds().size);
+    }
+
+    @Test
+    public void should_queue_every_file_with_its_type() {
+        AssetManager manager = mock(AssetManager.class);
+        new StageManifest("map.tmx")
+                .addAtlases("a.txt")
+                .addSounds("a.wav")
+                .queue(manager);
+
+        verify(manager).load("map.tmx", TiledMap.class);
+        verify(manager).load("a.txt", TextureAtlas.class);
+        verify(manager).load("a.wav", Sound.class);
+        verify(manager, times(3)).load(anyString(), any());
+    }
+
+    @Test
+    public void should_not_find_assets_without_a_manager() {
+        Assets.setManager(null);
+
+        Assert.assertNull(Assets.getLoaded("a.txt", TextureAtlas.class));
+        Assert.assertFalse(Assets.isManaged(new Object()));
+    }
+}
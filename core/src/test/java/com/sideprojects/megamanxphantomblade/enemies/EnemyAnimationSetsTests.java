@@ -0,0 +1,104 @@
+package com.sideprojects.megamanxphantomblade.enemies;
+
+import com.badlogic.gdx.math.Vector2;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * Created by buivuhoang on 24/10/17.
+ */
+public class EnemyAnimationSetsTests {
+    private EnemyAnimationSets sets;
+    private int created;
+
+    @Before
+    public void init() {
+        sets = new EnemyAnimationSets();
+        created = 0;
+    }
+
+    @Test
+    public void should_create_one_set_per_type() {
+        EmptyAnimation first = sets.get(EmptyAnimation.class, this::create);
+        EmptyAnimation second = sets.get(EmptyAnimation.class, this::create);
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(1, created);
+        Assert.assertEquals(1, sets.size());
+    }
+
+    @Test
+    public void should_create_new_sets_after_dispose() {
+        EmptyAnimation first = sets.get(EmptyAnimation.class, this::create);
+        sets.dispose();
+        EmptyAnimation second = sets.get(EmptyAnimation.class, this::create);
+
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(2, created);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void should_not_load_animations_after_warm_up() {
+        EmptyAnimation animation = sets.get(EmptyAnimation.class, this::create);
+        animation.get(EnemyAnimationBase.Type.IDLE);
+    }
+
+    @Test
+    public void should_only_warm_up_types_with_frames() {
+        AtlasWithoutFrames animation = new AtlasWithoutFrames();
+        animation.warmUp();
+
+        Assert.assertEquals(0, animation.size());
+        try {
+            animation.get(EnemyAnimationBase.Type.FALL);
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            // Expected, FALL has no frames
+        }
+    }
+
+    private EmptyAnimation create() {
+        created++;
+        return new EmptyAnimation();
+    }
+
+    private static class EmptyAnimation extends EnemyAnimationBase {
+        @Override
+        protected List<Integer> getAnimationIndex(Type type) {
+            return null;
+        }
+
+        @Override
+        public boolean isLooping(Type type) {
+            return false;
+        }
+
+        @Override
+        public Vector2 getAnimationPaddingX(Type type, int direction) {
+            return null;
+        }
+
+        @Override
+        protected String getTextureAtlas(Type type) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns an atlas for every type like the enemies do, but has no frames
+     */
+    private static class AtlasWithoutFrames extends EmptyAnimation {
+        @Override
+        protected String getTextureAtlas(Type type) {
+            return "atlas";
+        }
+
+        @Override
+        protected boolean isWholeAtlas(Type type) {
+            return false;
+        }
+    }
+}
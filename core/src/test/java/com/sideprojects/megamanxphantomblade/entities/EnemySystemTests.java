@@ -0,0 +1,200 @@
+package com.sideprojects.megamanxphantomblade.entities;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.sideprojects.megamanxphantomblade.enemies.EnemySound;
+import com.sideprojects.megamanxphantomblade.entities.components.ActiveComponent;
+import com.sideprojects.megamanxphantomblade.entities.systems.ChunkRunner;
+import com.sideprojects.megamanxphantomblade.entities.systems.EnemySpawnSystem;
+import com.sideprojects.megamanxphantomblade.entities.systems.EnemySystem;
+import com.sideprojects.megamanxphantomblade.map.MapBase;
+import com.sideprojects.megamanxphantomblade.mocks.MockEnemy;
+import com.sideprojects.megamanxphantomblade.mocks.MockMap;
+import com.sideprojects.megamanxphantomblade.player.PlayerBase;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.function.IntConsumer;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ */
+public class EnemySystemTests {
+    private MockMap map;
+    private EnemySpawnSystem spawnSystem;
+    private EnemySystem system;
+
+    @Before
+    public void init() {
+        map = new MockMap();
+        map.player = mock(PlayerBase.class);
+        map.player.mapCollisionBounds = new Rectangle(0, 0, 1, 1);
+        // Spawn range of 10 by 5 and despawn range of 12 by 6 tiles around the player
+        map.setViewportSize(16, 8);
+        spawnSystem = new EnemySpawnSystem(map, 0);
+        system = new EnemySystem(map, spawnSystem, 1);
+    }
+
+    private void update() {
+        spawnSystem.update(1);
+        system.update(1);
+    }
+
+    @Test
+    public void should_only_spawn_enemies_near_player() {
+        CountingEnemy near = add(5);
+        CountingEnemy far = add(50);
+
+        update();
+
+        Assert.assertTrue(near.spawned);
+        Assert.assertEquals(1, near.updates);
+        Assert.assertFalse(far.spawned);
+        Assert.assertEquals(0, far.updates);
+    }
+
+    @Test
+    public void should_not_spawn_enemy_between_spawn_and_despawn_range() {
+        CountingEnemy enemy = add(11);
+
+        update();
+
+        Assert.assertFalse(enemy.spawned);
+    }
+
+    @Test
+    public void should_keep_enemy_between_spawn_and_despawn_range() {
+        CountingEnemy enemy = add(5);
+        update();
+
+        enemy.updatePos(11, 0);
+        update();
+
+        Assert.assertTrue(enemy.spawned);
+        Assert.assertEquals(2, enemy.updates);
+    }
+
+    @Test
+    public void should_not_respawn_until_spawn_point_leaves_range() {
+        CountingEnemy enemy = add(5);
+        update();
+        enemy.updatePos(20, 0);
+
+        update();
+        Assert.assertFalse(enemy.spawned);
+        Assert.assertFalse(enemy.canSpawn);
+
+        update();
+        Assert.assertFalse(enemy.spawned);
+
+        // Player walks away from the spawn point and comes back
+        map.player.mapCollisionBounds.x = 40;
+        update();
+        map.player.mapCollisionBounds.x = 0;
+        update();
+
+        Assert.assertTrue(enemy.spawned);
+    }
+
+    @Test
+    public void should_only_keep_spawned_enemies_active() {
+        CountingEnemy enemy = add(5);
+        update();
+        Assert.assertNotNull(enemy.entity.getComponent(ActiveComponent.class));
+
+        enemy.updatePos(20, 0);
+        update();
+
+        Assert.assertFalse(enemy.active);
+        Assert.assertNull(enemy.entity.getComponent(ActiveComponent.class));
+    }
+
+    @Test
+    public void should_update_every_enemy_once_when_chunks_run_out_of_order() {
+        Array<CountingEnemy> enemies = new Array<>();
+        for (int i = 0; i < 10; i++) {
+            enemies.add(add(i * 0.5f));
+        }
+        system.setRunner(new ReversedRunner(3));
+
+        update();
+
+        for (CountingEnemy enemy : enemies) {
+            Assert.assertEquals(1, enemy.updates);
+        }
+    }
+
+    @Test
+    public void should_apply_side_effects_in_enemy_order() {
+        Array<CountingEnemy> enemies = new Array<>();
+        for (int i = 0; i < 10; i++) {
+            enemies.add(add(i * 0.5f));
+        }
+        Array<CountingEnemy> dieOrder = new Array<>();
+        for (CountingEnemy enemy : enemies) {
+            enemy.sounds = new EnemySound(null) {
+                @Override
+                public void playDie(float x, float y) {
+                    dieOrder.add(enemy);
+                }
+
+                @Override
+                public void playAttack(float x, float y) {
+                }
+            };
+        }
+        system.setRunner(new ReversedRunner(3));
+
+        update();
+
+        Assert.assertEquals(enemies, dieOrder);
+    }
+
+    private CountingEnemy add(float x) {
+        CountingEnemy enemy = new CountingEnemy(x, map);
+        map.addEnemy(enemy);
+        return enemy;
+    }
+
+    private static class CountingEnemy extends MockEnemy {
+        int updates;
+
+        CountingEnemy(float x, MapBase map) {
+            super(x, 0, map);
+        }
+
+        @Override
+        public void update(float delta) {
+            updates++;
+            if (sounds != null) {
+                sideEffects.playDie(sounds, pos.x, pos.y);
+            }
+        }
+    }
+
+    /**
+     * Runs the chunks from the last one to the first, as threads might
+     */
+    private static class ReversedRunner implements ChunkRunner {
+        private final int parallelism;
+
+        ReversedRunner(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public void run(int chunkCount, IntConsumer chunk) {
+            for (int i = chunkCount - 1; i >= 0; i--) {
+                chunk.accept(i);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.sideprojects.megamanxphantomblade.entities;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector2;
+import com.sideprojects.megamanxphantomblade.Damage;
+import com.sideprojects.megamanxphantomblade.enemies.EnemyBase;
+import com.sideprojects.megamanxphantomblade.entities.components.ActiveComponent;
+import com.sideprojects.megamanxphantomblade.entities.components.PositionComponent;
+import com.sideprojects.megamanxphantomblade.entities.systems.DamageSystem;
+import com.sideprojects.megamanxphantomblade.entities.systems.GravitySystem;
+import com.sideprojects.megamanxphantomblade.entities.systems.InterpolationSystem;
+import com.sideprojects.megamanxphantomblade.mocks.MockMap;
+import com.sideprojects.megamanxphantomblade.player.PlayerAttack;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ */
+public class EntityTests {
+    private MockMap map;
+
+    @Before
+    public void init() {
+        map = new MockMap();
+    }
+
+    @Test
+    public void should_add_enemy_to_enemy_family() {
+        map.addEnemy(1, 1);
+
+        Assert.assertEquals(1, map.engine.getEntitiesFor(Families.ENEMIES).size());
+        Assert.assertSame(map.enemyList.get(0), Mappers.ENEMY.get(map.enemyList.get(0).entity).enemy);
+    }
+
+    @Test
+    public void should_return_removed_attack_to_pool() {
+        PlayerAttack attack = obtainAttack();
+        map.addPlayerAttack(attack);
+
+        map.engine.removeEntity(attack.entity);
+
+        Assert.assertEquals(0, map.playerAttackQueue.size);
+        Assert.assertEquals(0, map.engine.getEntitiesFor(Families.PLAYER_ATTACKS).size());
+        Assert.assertFalse(map.engine.getEntities().contains(attack.entity, true));
+        // The attack comes back with its entity, so firing doesn't create entities
+        Entity entity = attack.entity;
+        Assert.assertSame(attack, obtainAttack());
+        Assert.assertSame(entity, attack.entity);
+    }
+
+    @Test
+    public void should_remove_oldest_attack_at_limit() {
+        PlayerAttack oldest = obtainAttack();
+        map.addPlayerAttack(oldest);
+        for (int i = 0; i < 19; i++) {
+            map.addPlayerAttack(obtainAttack());
+        }
+
+        Assert.assertEquals(19, map.playerAttackQueue.size);
+        Assert.assertEquals(19, map.engine.getEntitiesFor(Families.PLAYER_ATTACKS).size());
+        Assert.assertFalse(map.engine.getEntities().contains(oldest.entity, true));
+    }
+
+    @Test
+    public void should_interpolate_from_position_at_start_of_step() {
+        map.addEnemy(1, 1);
+        EnemyBase enemy = map.enemyList.get(0);
+        PositionComponent position = Mappers.POSITION.get(enemy.entity);
+        Assert.assertSame(enemy.pos, position.pos);
+
+        map.engine.getSystem(InterpolationSystem.class).update(0);
+        enemy.updatePos(3, 1);
+
+        Assert.assertEquals(1, position.previous.x, 0);
+        Assert.assertEquals(2, enemy.getInterpolatedPos(0.5f, new Vector2()).x, 0.0001f);
+    }
+
+    @Test
+    public void should_only_pull_active_living_enemies_down() {
+        map.addEnemy(1, 1);
+        map.addEnemy(2, 1);
+        map.addEnemy(3, 1);
+        EnemyBase<?> active = map.enemyList.get(0);
+        EnemyBase<?> inactive = map.enemyList.get(1);
+        EnemyBase<?> dead = map.enemyList.get(2);
+        active.spawn();
+        inactive.spawn();
+        active.entity.add(new ActiveComponent());
+        dead.entity.add(new ActiveComponent());
+
+        map.engine.getSystem(GravitySystem.class).update(0.1f);
+
+        Assert.assertEquals(-map.GRAVITY * 0.1f, active.vel.y, 0.0001f);
+        Assert.assertEquals(0, inactive.vel.y, 0);
+        Assert.assertEquals(0, dead.vel.y, 0);
+    }
+
+    @Test
+    public void should_kill_attack_on_enemy_it_hits() {
+        map.addEnemy(1, 1);
+        EnemyBase<?> enemy = map.enemyList.get(0);
+        enemy.spawn();
+        enemy.takeDamageBounds.set(1, 1, 0.5f, 0.5f);
+        enemy.updatePos(1, 1);
+        PlayerAttack attack = obtainAttack();
+        attack.initialiseHealthPoints(1);
+        attack.damage.set(Damage.Type.NORMAL, Damage.Side.NONE, 1);
+        attack.getDealDamageBounds().set(1.2f, 1.2f, 0.2f, 0.2f);
+        map.addPlayerAttack(attack);
+
+        map.engine.getSystem(DamageSystem.class).update(0);
+
+        Assert.assertTrue(attack.isDead());
+        Assert.assertTrue(enemy.health.points < enemy.health.max);
+    }
+
+    @Test
+    public void should_re_add_attack_after_it_was_removed() {
+        PlayerAttack attack = obtainAttack();
+        map.addPlayerAttack(attack);
+        map.engine.removeEntity(attack.entity);
+
+        map.addPlayerAttack(obtainAttack());
+
+        Assert.assertEquals(1, map.engine.getEntitiesFor(Families.PLAYER_ATTACKS).size());
+        Assert.assertSame(attack, Mappers.PLAYER_ATTACK.get(map.engine.getEntitiesFor(Families.PLAYER_ATTACKS).first()).attack);
+    }
+
+    private PlayerAttack obtainAttack() {
+        return map.obtainAttack(MockPlayerAttack.class, MockPlayerAttack::new);
+    }
+
+    private static class MockPlayerAttack extends PlayerAttack {
+        @Override
+        public boolean canCollideWithWall() {
+            return false;
+        }
+
+        @Override
+        public void update(float delta) {
+        }
+    }
+}
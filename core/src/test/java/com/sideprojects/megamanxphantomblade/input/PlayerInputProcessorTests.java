@@ -0,0 +1,66 @@
+package com.sideprojects.megamanxphantomblade.input;
+
+import com.sideprojects.megamanxphantomblade.FixedTimeStep;
+import com.sideprojects.megamanxphantomblade.KeyMap;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ */
+public class PlayerInputProcessorTests {
+    private KeyMap keyMap;
+    private PlayerInputProcessor input;
+    private FixedTimeStep timeStep;
+
+    @Before
+    public void init() {
+        keyMap = new KeyMap();
+        input = new PlayerInputProcessor(keyMap);
+        timeStep = new FixedTimeStep(0.25f, 5);
+    }
+
+    /**
+     * Runs the steps of a frame like the game does
+     * @return How many of the steps saw the jump being pressed
+     */
+    private int runFrame(float delta) {
+        int seen = 0;
+        int steps = timeStep.advance(delta);
+        for (int i = 0; i < steps; i++) {
+            if (input.isCommandJustPressed(Command.JUMP)) {
+                seen++;
+            }
+            input.endStep();
+        }
+        return seen;
+    }
+
+    @Test
+    public void should_keep_press_through_frames_without_steps() {
+        input.keyDown(keyMap.jump);
+
+        Assert.assertEquals(0, runFrame(0.1f));
+        Assert.assertEquals(0, runFrame(0.1f));
+        Assert.assertEquals(1, runFrame(0.1f));
+        Assert.assertFalse(input.isCommandJustPressed(Command.JUMP));
+    }
+
+    @Test
+    public void should_see_press_in_one_step_of_frame_with_several_steps() {
+        input.keyDown(keyMap.jump);
+
+        Assert.assertEquals(1, runFrame(0.8f));
+        Assert.assertEquals(0, runFrame(0.8f));
+    }
+
+    @Test
+    public void should_only_press_commands_of_the_key() {
+        input.keyDown(keyMap.attack);
+
+        Assert.assertTrue(input.isCommandJustPressed(Command.ATTACK));
+        Assert.assertFalse(input.isCommandJustPressed(Command.JUMP));
+        Assert.assertFalse(input.isCommandJustPressed(Command.DASH));
+    }
+}
@@ -0,0 +1,113 @@
+package com.sideprojects.megamanxphantomblade.map;
+
+import com.sideprojects.megamanxphantomblade.physics.TileBase;
+import com.sideprojects.megamanxphantomblade.physics.TileNeighbours;
+import com.sideprojects.megamanxphantomblade.physics.tiles.SquareTriangleTile;
+import com.sideprojects.megamanxphantomblade.physics.tiles.TilePool;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Created by buivuhoang on 21/10/17.
+ */
+public class CollisionGridTests {
+    private CollisionGrid grid;
+    private TilePool pool;
+
+    @Before
+    public void init() {
+        grid = new CollisionGrid(4, 3);
+        pool = new TilePool();
+    }
+
+    @Test
+    public void should_be_empty_outside_of_grid() {
+        grid.setSolid(0, 0);
+
+        Assert.assertTrue(grid.isSolid(0, 0));
+        Assert.assertFalse(grid.isSolid(-1, 0));
+        Assert.assertFalse(grid.isSolid(0, 3));
+        Assert.assertNull(grid.getTile(4, 0, pool));
+        Assert.assertNull(grid.getTile(1, 0, pool));
+    }
+
+    @Test
+    public void should_share_shapes_between_cells() {
+        grid.setSolid(0, 0);
+        grid.setSolid(3, 2);
+        grid.setSquareTriangle(1, 0, SquareTriangleTile.SquareAngle.BottomRight, 0, 2);
+        grid.setSquareTriangle(2, 1, SquareTriangleTile.SquareAngle.BottomRight, 0, 2);
+
+        Assert.assertSame(grid.getShape(0, 0), grid.getShape(3, 2));
+        Assert.assertSame(grid.getShape(1, 0), grid.getShape(2, 1));
+        Assert.assertNotSame(grid.getShape(0, 0), grid.getShape(1, 0));
+    }
+
+    @Test
+    public void should_place_square_triangle_like_a_map_tile() {
+        grid.setSquareTriangle(2, 1, SquareTriangleTile.SquareAngle.BottomRight, 1, 2);
+        SquareTriangleTile expected = new SquareTriangleTile(2, 1.5f, 3, 1.5f, 3, 2, 2, 1.5f, 1, 2);
+
+        TileBase tile = grid.getTile(2, 1, pool);
+
+        Assert.assertTrue(tile instanceof SquareTriangleTile);
+        Assert.assertArrayEquals(expected.getVertices(), tile.getVertices(), 0);
+        Assert.assertEquals(expected.upDirection, ((SquareTriangleTile)tile).upDirection);
+        Assert.assertEquals(expected.getTanAngle(), ((SquareTriangleTile)tile).getTanAngle(), 0);
+    }
+
+    @Test
+    public void should_place_different_tiles_for_each_lookup() {
+        grid.setSolid(0, 0);
+        grid.setSolid(1, 0);
+
+        TileBase first = grid.getTile(0, 0, pool);
+        TileBase second = grid.getTile(1, 0, pool);
+
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(0, first.x(), 0);
+        Assert.assertEquals(1, second.x(), 0);
+    }
+
+    @Test
+    public void should_mark_walls_outside_of_the_edges_as_neighbours() {
+        int neighbours = grid.getNeighbours(0, 1);
+
+        Assert.assertTrue(hasNeighbour(neighbours, TileNeighbours.LEFT));
+        Assert.assertTrue(hasNeighbour(neighbours, TileNeighbours.TOP_LEFT));
+        Assert.assertTrue(hasNeighbour(neighbours, TileNeighbours.BOTTOM_LEFT));
+        Assert.assertFalse(hasNeighbour(neighbours, TileNeighbours.RIGHT));
+        Assert.assertFalse(hasNeighbour(neighbours, TileNeighbours.UP));
+    }
+
+    @Test
+    public void should_mark_square_triangle_neighbours() {
+        grid.setSolid(1, 1);
+        grid.setSquareTriangle(2, 2, SquareTriangleTile.SquareAngle.BottomLeft, 0, 1);
+
+        int neighbours = grid.getNeighbours(1, 1);
+
+        Assert.assertTrue(hasNeighbour(neighbours, TileNeighbours.TOP_RIGHT));
+        Assert.assertTrue(isSquareTriangle(neighbours, TileNeighbours.TOP_RIGHT));
+        Assert.assertFalse(hasNeighbour(neighbours, TileNeighbours.UP));
+    }
+
+    @Test
+    public void should_block_above_solid_tiles_on_the_top_row() {
+        grid.setSolid(1, 2);
+
+        int neighbours = grid.getNeighbours(1, 2);
+
+        Assert.assertTrue(hasNeighbour(neighbours, TileNeighbours.UP));
+        Assert.assertFalse(hasNeighbour(neighbours, TileNeighbours.TOP_RIGHT));
+    }
+
+    private boolean hasNeighbour(int neighbours, int direction) {
+        return (neighbours & 1 << direction) != 0;
+    }
+
+    private boolean isSquareTriangle(int neighbours, int direction) {
+        return (neighbours & 1 << (direction + TileNeighbours.SQUARE_TRIANGLE_SHIFT)) != 0;
+    }
+}
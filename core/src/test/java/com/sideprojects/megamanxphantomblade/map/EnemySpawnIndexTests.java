@@ -0,0 +1,58 @@
+package com.sideprojects.megamanxphantomblade.map;
+
+import com.sideprojects.megamanxphantomblade.enemies.EnemyBase;
+import com.sideprojects.megamanxphantomblade.mocks.MockEnemy;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ */
+public class EnemySpawnIndexTests {
+    private EnemySpawnIndex index;
+
+    @Before
+    public void init() {
+        index = new EnemySpawnIndex();
+    }
+
+    @Test
+    public void should_sort_enemies_by_spawn_x() {
+        EnemyBase<?> far = add(30);
+        EnemyBase<?> near = add(2);
+        EnemyBase<?> middle = add(10);
+
+        Assert.assertSame(near, index.get(0));
+        Assert.assertSame(middle, index.get(1));
+        Assert.assertSame(far, index.get(2));
+        Assert.assertEquals(2, far.spawnIndex);
+    }
+
+    @Test
+    public void should_keep_enemies_with_same_spawn_x_in_order_added() {
+        EnemyBase<?> first = add(5);
+        EnemyBase<?> second = add(5);
+
+        Assert.assertSame(first, index.get(0));
+        Assert.assertSame(second, index.get(1));
+    }
+
+    @Test
+    public void should_find_first_enemy_from_x() {
+        add(2);
+        add(10);
+        add(30);
+
+        Assert.assertEquals(0, index.first(-5));
+        Assert.assertEquals(1, index.first(10));
+        Assert.assertEquals(2, index.first(10.5f));
+        Assert.assertEquals(3, index.first(31));
+    }
+
+    private EnemyBase<?> add(float x) {
+        EnemyBase<?> enemy = new MockEnemy(x, 0, null);
+        index.add(enemy);
+        return enemy;
+    }
+}
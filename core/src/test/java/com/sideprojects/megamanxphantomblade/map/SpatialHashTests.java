@@ -0,0 +1,91 @@
+package com.sideprojects.megamanxphantomblade.map;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.sideprojects.megamanxphantomblade.MovingObject;
+import com.sideprojects.megamanxphantomblade.mocks.MockMovingObject;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Created by buivuhoang on 22/10/17.
+ */
+public class SpatialHashTests {
+    private SpatialHash<MovingObject> hash;
+    private Array<MovingObject> result;
+
+    @Before
+    public void init() {
+        hash = new SpatialHash<>();
+        result = new Array<>();
+    }
+
+    @Test
+    public void should_find_objects_near_the_area() {
+        MovingObject near = new MockMovingObject(2.5f, 2.5f, 0, 0);
+        MovingObject far = new MockMovingObject(20, 2.5f, 0, 0);
+        hash.add(near);
+        hash.add(far);
+
+        hash.query(new Rectangle(2, 2, 0.5f, 0.5f), result);
+
+        Assert.assertTrue(result.contains(near, true));
+        Assert.assertFalse(result.contains(far, true));
+    }
+
+    @Test
+    public void should_move_objects_when_position_is_updated() {
+        MovingObject object = new MockMovingObject(2.5f, 2.5f, 0, 0);
+        hash.add(object);
+
+        object.updatePos(30.5f, 2.5f);
+        hash.query(new Rectangle(2, 2, 0.5f, 0.5f), result);
+        Assert.assertEquals(0, result.size);
+
+        hash.query(new Rectangle(30, 2, 0.5f, 0.5f), result);
+        Assert.assertEquals(1, result.size);
+        Assert.assertSame(object, result.first());
+    }
+
+    @Test
+    public void should_not_find_removed_objects() {
+        MovingObject object = new MockMovingObject(2.5f, 2.5f, 0, 0);
+        hash.add(object);
+        hash.remove(object);
+
+        object.updatePos(2.6f, 2.5f);
+        hash.query(new Rectangle(2, 2, 0.5f, 0.5f), result);
+
+        Assert.assertEquals(0, result.size);
+        Assert.assertNull(object.spatialHash);
+    }
+
+    @Test
+    public void should_keep_the_order_objects_were_added_in() {
+        MovingObject first = new MockMovingObject(2.5f, 2.5f, 0, 0);
+        MovingObject second = new MockMovingObject(2.5f, 2.5f, 0, 0);
+        hash.add(first);
+        hash.add(second);
+
+        Assert.assertTrue(first.spatialHashOrder < second.spatialHashOrder);
+    }
+
+    @Test
+    public void should_move_objects_once_thawed() {
+        MovingObject object = new MockMovingObject(2.5f, 2.5f, 0, 0);
+        hash.add(object);
+
+        hash.freeze();
+        object.updatePos(30.5f, 2.5f);
+        hash.query(new Rectangle(2, 2, 0.5f, 0.5f), result);
+        Assert.assertEquals(1, result.size);
+
+        hash.thaw();
+        hash.update(object);
+        result.clear();
+        hash.query(new Rectangle(30, 2, 0.5f, 0.5f), result);
+        Assert.assertEquals(1, result.size);
+        Assert.assertSame(object, result.first());
+    }
+}
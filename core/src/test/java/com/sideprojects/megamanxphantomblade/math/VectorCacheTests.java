@@ -0,0 +1,52 @@
+package com.sideprojects.megamanxphantomblade.math;
+
+import com.badlogic.gdx.math.Vector2;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ */
+public class VectorCacheTests {
+    @Test
+    public void should_return_the_same_vector_for_the_same_coordinates() {
+        VectorCache cache = new VectorCache(8);
+
+        Vector2 vector = cache.obtain(0.3f, -0.6f);
+
+        Assert.assertSame(vector, cache.obtain(0.3f, -0.6f));
+        Assert.assertEquals(0.3f, vector.x, 0);
+        Assert.assertEquals(-0.6f, vector.y, 0);
+        Assert.assertEquals(1, cache.hits());
+        Assert.assertEquals(1, cache.misses());
+    }
+
+    @Test
+    public void should_keep_coordinates_apart() {
+        VectorCache cache = new VectorCache(8);
+
+        Vector2 zero = cache.obtain(0, 0);
+        Vector2 swapped = cache.obtain(1, 2);
+        Vector2 other = cache.obtain(2, 1);
+
+        Assert.assertNotSame(swapped, other);
+        Assert.assertNotSame(zero, cache.obtain(-0f, 0));
+        Assert.assertSame(zero, cache.obtain(0, 0));
+        Assert.assertEquals(2, other.x, 0);
+        Assert.assertEquals(1, other.y, 0);
+    }
+
+    @Test
+    public void should_stop_caching_when_full() {
+        VectorCache cache = new VectorCache(2);
+        cache.obtain(1, 1);
+        cache.obtain(2, 2);
+
+        Vector2 uncached = cache.obtain(3, 3);
+
+        Assert.assertEquals(2, cache.cachedSize());
+        Assert.assertEquals(3, uncached.x, 0);
+        Assert.assertNotSame(uncached, cache.obtain(3, 3));
+        Assert.assertSame(cache.obtain(1, 1), cache.obtain(1, 1));
+    }
+}
@@ -3,9 +3,8 @@ package com.sideprojects.megamanxphantomblade.mocks;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.rahul.libgdx.parallax.ParallaxBackground;
 import com.sideprojects.megamanxphantomblade.Difficulty;
+import com.sideprojects.megamanxphantomblade.map.CollisionGrid;
 import com.sideprojects.megamanxphantomblade.map.MapBase;
-import com.sideprojects.megamanxphantomblade.physics.TileBase;
-import com.sideprojects.megamanxphantomblade.physics.tiles.RectangleTile;
 import com.sideprojects.megamanxphantomblade.physics.tiles.SquareTriangleTile;
 
 /**
@@ -17,21 +16,21 @@ public class MockMap extends MapBase {
 
     public MockMap() {
         super(null, null, null, Difficulty.NORMAL);
-        if (bounds == null || bounds.length < 1) {
+        if (bounds == null || bounds.getWidth() < 1) {
             // Initialise to a 10x10 map
-            bounds = new TileBase[maxX][maxY];
+            bounds = new CollisionGrid(maxX, maxY);
         }
     }
 
     public void addRectTile(int x, int y) {
         argumentCheck(x, y);
-        bounds[x][y] = new RectangleTile(x, y, 1, 1);
+        bounds.setSolid(x, y);
     }
 
     public void addSlopeBottomRight(int x, int y) {
         argumentCheck(x, y);
-        bounds[x][y] = new SquareTriangleTile(x, y, x + 1, y, x + 1, y + 0.5f, x, y, 0, 2);
-        bounds[++x][y] = new SquareTriangleTile(x, y + 0.5f, x + 1, y + 0.5f, x + 1, y + 1, x, y + 0.5f, 1, 2);
+        bounds.setSquareTriangle(x, y, SquareTriangleTile.SquareAngle.BottomRight, 0, 2);
+        bounds.setSquareTriangle(++x, y, SquareTriangleTile.SquareAngle.BottomRight, 1, 2);
     }
 
     private void argumentCheck(int x, int y) {
@@ -41,7 +40,7 @@ public class MockMap extends MapBase {
     }
 
     public void addEnemy(float x, float y) {
-        enemyList.add(new MockEnemy(x, y, this));
+        addEnemy(new MockEnemy(x, y, this));
     }
 
     public void setEnemyCanTakeDamage(boolean canTakeDamage) {
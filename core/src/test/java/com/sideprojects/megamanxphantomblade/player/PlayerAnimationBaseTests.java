@@ -0,0 +1,61 @@
+package com.sideprojects.megamanxphantomblade.player;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.sideprojects.megamanxphantomblade.Damage;
+import com.sideprojects.megamanxphantomblade.MovingObject;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Created by buivuhoang on 24/10/17.
+ */
+public class PlayerAnimationBaseTests {
+    private PlayerAnimationBase animations;
+
+    @Before
+    public void init() {
+        animations = spy(PlayerAnimationBase.class);
+        doAnswer(invocation -> mock(Animation.class)).when(animations).retrieveFromCache(any(), any(), any(), anyFloat());
+        doAnswer(invocation -> new Vector2()).when(animations).getAnimationPaddingX(any(), anyInt(), anyBoolean(), any(), anyBoolean());
+    }
+
+    @Test
+    public void should_resolve_each_animation_once() {
+        Animation<TextureRegion> first = animations.get(PlayerAnimationBase.Type.Run, false, true, Damage.Type.NORMAL, true, false);
+        Animation<TextureRegion> second = animations.get(PlayerAnimationBase.Type.Run, false, true, Damage.Type.NORMAL, true, false);
+
+        Assert.assertSame(first, second);
+        verify(animations, times(1)).retrieveFromCache(any(), any(), any(), anyFloat());
+    }
+
+    @Test
+    public void should_ignore_attack_parameters_when_not_attacking() {
+        Animation<TextureRegion> first = animations.get(PlayerAnimationBase.Type.Idle, false, false, Damage.Type.HEAVY, true, true);
+        Animation<TextureRegion> second = animations.get(PlayerAnimationBase.Type.Idle, false, false, null, false, false);
+
+        Assert.assertSame(first, second);
+    }
+
+    @Test
+    public void should_keep_low_health_animations_apart() {
+        Animation<TextureRegion> normal = animations.get(PlayerAnimationBase.Type.Idle, false, false, null, false, false);
+        Animation<TextureRegion> lowHealth = animations.get(PlayerAnimationBase.Type.Idle, true, false, null, false, false);
+
+        Assert.assertNotSame(normal, lowHealth);
+    }
+
+    @Test
+    public void should_cache_padding_per_direction() {
+        Vector2 left = animations.getAnimationPadding(PlayerAnimationBase.Type.Dash, MovingObject.LEFT, true, Damage.Type.LIGHT, false);
+        Vector2 right = animations.getAnimationPadding(PlayerAnimationBase.Type.Dash, MovingObject.RIGHT, true, Damage.Type.LIGHT, false);
+
+        Assert.assertNotSame(left, right);
+        Assert.assertSame(left, animations.getAnimationPadding(PlayerAnimationBase.Type.Dash, MovingObject.LEFT, true, Damage.Type.LIGHT, false));
+    }
+}
@@ -1,10 +1,12 @@
 package com.sideprojects.megamanxphantomblade.player.x;
 
+import com.badlogic.ashley.core.Engine;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.math.Rectangle;
 import com.sideprojects.megamanxphantomblade.Damage;
 import com.sideprojects.megamanxphantomblade.Difficulty;
 import com.sideprojects.megamanxphantomblade.MovingObject;
+import com.sideprojects.megamanxphantomblade.entities.systems.AnimationSystem;
 import com.sideprojects.megamanxphantomblade.physics.player.PlayerState;
 import com.sideprojects.megamanxphantomblade.player.PlayerAnimationBase;
 import com.sideprojects.megamanxphantomblade.player.PlayerBase;
@@ -20,6 +22,8 @@ import static org.mockito.Mockito.*;
  */
 public class XBusterTests {
     private XBuster attack;
+    // Looks up the frames of the attack's animations
+    private Engine engine;
     private PlayerSound soundSpy;
     private Animation noDamageAnimationSpy;
     private Animation damageAnimationSpy;
@@ -34,28 +38,32 @@ public class XBusterTests {
         damageAnimationSpy = mock(Animation.class);
 
         PlayerAnimationBase playerAnimationSpy = spy(PlayerAnimationBase.class);
-        doAnswer(invocation -> mock(Animation.class)).when(playerAnimationSpy).retrieveFromCache(any(), anyInt(), any(), any(), anyFloat());
+        doAnswer(invocation -> mock(Animation.class)).when(playerAnimationSpy).retrieveFromCache(any(), any(), any(), anyFloat());
         doAnswer(invocation -> noDamageAnimationSpy).when(playerAnimationSpy).retrieveFromCache(
                 eq(PlayerAnimationBase.Type.BulletNoDamageExplode),
-                anyInt(), any(), any(), anyFloat());
+                any(), any(), anyFloat());
         soundSpy = mock(PlayerSound.class);
         doAnswer(invocation -> damageAnimationSpy).when(playerAnimationSpy).retrieveFromCache(
                 eq(PlayerAnimationBase.Type.BulletHeavyExplode),
-                anyInt(), any(), any(), anyFloat());
+                any(), any(), anyFloat());
         soundSpy = mock(PlayerSound.class);
 
-        attack = new XBuster(
+        attack = new XBuster().init(
                 mockPlayer,
                 new Damage(Damage.Type.HEAVY, Damage.Side.NONE, Difficulty.NORMAL),
                 MovingObject.NONEDIRECTION,
                 playerAnimationSpy,
                 soundSpy);
+        engine = new Engine();
+        engine.addSystem(new AnimationSystem(0));
+        engine.addEntity(attack.entity);
     }
 
     @Test
     public void should_use_no_damage_animation_when_deals_no_damage() {
         attack.die(false);
         attack.update(1);
+        engine.update(1);
         verify(soundSpy).playAttackNoDamage();
         verify(noDamageAnimationSpy).getKeyFrame(anyFloat(), anyBoolean());
     }
@@ -64,6 +72,7 @@ public class XBusterTests {
     public void should_use_damage_animation_when_deals_damage() {
         attack.die(true);
         attack.update(1);
+        engine.update(1);
         verify(soundSpy).playBulletHit();
         verify(damageAnimationSpy).getKeyFrame(anyFloat(), anyBoolean());
     }
@@ -0,0 +1,36 @@
+package com.sideprojects.megamanxphantomblade.renderers;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Created by buivuhoang on 24/10/17.
+ */
+public class RegionDrawerTests {
+    private Batch batch;
+    private TextureRegion region;
+
+    @Before
+    public void init() {
+        batch = mock(Batch.class);
+        region = mock(TextureRegion.class);
+        when(region.getRegionWidth()).thenReturn(20);
+        when(region.getRegionHeight()).thenReturn(30);
+    }
+
+    @Test
+    public void should_draw_region_as_is_when_not_mirrored() {
+        RegionDrawer.draw(batch, region, 5, 10, false);
+        verify(batch).draw(region, 5f, 10f, 20f, 30f);
+    }
+
+    @Test
+    public void should_draw_mirrored_region_within_same_bounds() {
+        RegionDrawer.draw(batch, region, 5, 10, true);
+        verify(batch).draw(region, 25f, 10f, -20f, 30f);
+    }
+}
@@ -0,0 +1,91 @@
+package com.sideprojects.megamanxphantomblade.renderers;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.math.Matrix4;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Created by buivuhoang on 26/10/17.
+ */
+public class StaticMapRendererTests {
+    private static final int TILE_SIZE = 10;
+
+    private SpriteCache cache;
+    private TiledMapTileLayer layer;
+    private TiledMap map;
+    private StaticTiledMapTile tile;
+
+    @Before
+    public void init() {
+        cache = mock(SpriteCache.class);
+        // Chunk ids in build order
+        when(cache.endCache()).thenReturn(0, 1, 2);
+        tile = new StaticTiledMapTile(new TextureRegion(mock(Texture.class), 0, 0, TILE_SIZE, TILE_SIZE));
+        // 3 chunks wide, 1 chunk high
+        layer = new TiledMapTileLayer(40, 10, TILE_SIZE, TILE_SIZE);
+        setTile(0, 0);
+        setTile(1, 0);
+        setTile(20, 5);
+        setTile(39, 9);
+        map = new TiledMap();
+        map.getLayers().add(layer);
+    }
+
+    @Test
+    public void should_build_one_cache_per_chunk_at_load() {
+        new StaticMapRenderer(map, cache);
+
+        verify(cache, times(3)).beginCache();
+        verify(cache, times(4)).add(any(Sprite.class));
+    }
+
+    @Test
+    public void should_only_draw_chunks_in_view() {
+        StaticMapRenderer renderer = new StaticMapRenderer(map, cache);
+
+        renderer.render(new Matrix4(), 30, 0, 100, 100);
+
+        verify(cache).draw(0);
+        verify(cache, never()).draw(1);
+        verify(cache, never()).draw(2);
+    }
+
+    @Test
+    public void should_rebuild_invalidated_chunk_in_place() {
+        StaticMapRenderer renderer = new StaticMapRenderer(map, cache);
+        layer.getCell(20, 5).setTile(null);
+
+        renderer.invalidate(20, 5);
+        renderer.render(new Matrix4(), 30, 0, 100, 100);
+
+        verify(cache).beginCache(1);
+        verify(cache, times(1)).clear();
+    }
+
+    @Test
+    public void should_rebuild_everything_when_chunk_outgrows_its_cache() {
+        StaticMapRenderer renderer = new StaticMapRenderer(map, cache);
+        setTile(21, 5);
+
+        renderer.invalidate(21, 5);
+        renderer.render(new Matrix4(), 30, 0, 100, 100);
+
+        verify(cache, times(2)).clear();
+        verify(cache, never()).beginCache(anyInt());
+    }
+
+    private void setTile(int x, int y) {
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        cell.setTile(tile);
+        layer.setCell(x, y, cell);
+    }
+}
@@ -0,0 +1,51 @@
+package com.sideprojects.megamanxphantomblade.renderers.shaders;
+
+import com.badlogic.gdx.graphics.Color;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Created by buivuhoang on 26/10/17.
+ */
+public class SpriteShaderTests {
+    private static final float DELTA = 1 / 127f;
+
+    @Test
+    public void should_draw_sprites_as_is_with_white() {
+        Color color = unpack(SpriteShader.normal(0.9f));
+
+        Assert.assertEquals(1f, color.r, DELTA);
+        Assert.assertEquals(1f, color.g, DELTA);
+        Assert.assertEquals(1f, color.b, DELTA);
+        Assert.assertEquals(0.9f, color.a, DELTA);
+        Assert.assertEquals(Color.WHITE.toFloatBits(), SpriteShader.NORMAL, 0);
+    }
+
+    @Test
+    public void should_encode_brighten_as_distance_below_white() {
+        Color color = unpack(SpriteShader.DAMAGED);
+
+        // The shader adds twice the distance to 1
+        Assert.assertEquals(0.5f, (1 - color.r) * 2, DELTA);
+        Assert.assertTrue(color.r >= 0.5f);
+        Assert.assertEquals(1f, color.a, DELTA);
+    }
+
+    @Test
+    public void should_encode_fill_colour_below_half() {
+        Color color = unpack(SpriteShader.fill(1f, 0.5f, 0f, 0.3f));
+
+        // The shader fills with twice the channel, 1 sits on the boundary where both effects give white
+        Assert.assertEquals(1f, color.r * 2, DELTA);
+        Assert.assertEquals(0.5f, color.g * 2, DELTA);
+        Assert.assertEquals(0f, color.b * 2, DELTA);
+        Assert.assertTrue(color.g < 0.5f);
+        Assert.assertEquals(0.3f, color.a, DELTA);
+    }
+
+    private static Color unpack(float packed) {
+        Color color = new Color();
+        Color.abgr8888ToColor(color, packed);
+        return color;
+    }
+}
@@ -0,0 +1,130 @@
+package com.sideprojects.megamanxphantomblade.sound;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.ObjectMap;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ */
+public class AudioSchedulerTests {
+    private ObjectMap<String, Sound> sounds;
+    private long nextId;
+    private AudioScheduler scheduler;
+
+    @Before
+    public void init() {
+        sounds = new ObjectMap<>();
+        // Every sound plays for a second, 4 voices in total and 2 of each sound
+        scheduler = new AudioScheduler(this::getSound, file -> 1, 4, 2);
+    }
+
+    private Sound getSound(String file) {
+        Sound sound = sounds.get(file);
+        if (sound == null) {
+            sound = mock(Sound.class);
+            when(sound.play(anyFloat())).thenAnswer(invocation -> ++nextId);
+            when(sound.loop(anyFloat())).thenAnswer(invocation -> ++nextId);
+            sounds.put(file, sound);
+        }
+        return sound;
+    }
+
+    @Test
+    public void should_play_identical_requests_of_a_tick_once() {
+        for (int i = 0; i < 10; i++) {
+            scheduler.play("explode");
+        }
+
+        scheduler.update(0.1f);
+
+        verify(getSound("explode"), times(1)).play(anyFloat());
+        Assert.assertEquals(9, scheduler.getMerged());
+        Assert.assertEquals(1, scheduler.getVoiceCount());
+    }
+
+    @Test
+    public void should_replace_oldest_voice_of_sound_over_its_limit() {
+        scheduler.play("shot");
+        scheduler.update(0.1f);
+        scheduler.play("shot");
+        scheduler.update(0.1f);
+        scheduler.play("shot");
+        scheduler.update(0.1f);
+
+        verify(getSound("shot")).stop(1);
+        verify(getSound("shot"), never()).stop(2);
+        Assert.assertEquals(2, scheduler.getVoiceCount());
+        Assert.assertEquals(1, scheduler.getStolen());
+    }
+
+    @Test
+    public void should_not_replace_voices_of_higher_priority() {
+        for (String file : new String[] {"jump", "land", "dash", "shout"}) {
+            scheduler.setLimits(file, 2, AudioScheduler.PRIORITY_HIGH);
+            scheduler.play(file);
+        }
+        scheduler.setLimits("explode", 2, AudioScheduler.PRIORITY_LOW);
+        scheduler.update(0.1f);
+
+        scheduler.play("explode");
+        scheduler.update(0.1f);
+
+        verify(getSound("explode"), never()).play(anyFloat());
+        Assert.assertEquals(4, scheduler.getVoiceCount());
+        Assert.assertEquals(1, scheduler.getDropped());
+    }
+
+    @Test
+    public void should_not_play_sounds_out_of_range_of_listener() {
+        scheduler.setListener(10, 5, 8, 4.5f);
+
+        scheduler.playAt("explode", 30, 5);
+        scheduler.playAt("shot", 12, 6);
+        scheduler.update(0.1f);
+
+        verify(getSound("explode"), never()).play(anyFloat());
+        verify(getSound("shot")).play(anyFloat());
+        Assert.assertEquals(1, scheduler.getCulled());
+    }
+
+    @Test
+    public void should_free_voices_once_their_sound_is_over() {
+        scheduler.play("shot");
+        scheduler.loop("charge");
+        scheduler.update(0.1f);
+        Assert.assertEquals(2, scheduler.getVoiceCount());
+
+        scheduler.update(1);
+
+        // Looping voices play until they are stopped
+        Assert.assertEquals(1, scheduler.getVoiceCount());
+        scheduler.stop("charge");
+        scheduler.update(0.1f);
+        Assert.assertEquals(0, scheduler.getVoiceCount());
+    }
+
+    @Test
+    public void should_only_stop_voices_that_are_playing() {
+        scheduler.loop("charge");
+        scheduler.update(0.1f);
+
+        scheduler.stop("charge");
+        scheduler.stop("explode");
+        scheduler.update(0.1f);
+
+        verify(getSound("charge")).stop(1);
+        Assert.assertEquals(0, scheduler.getVoiceCount());
+        // A sound that isn't playing isn't fetched to be stopped
+        Assert.assertFalse(sounds.containsKey("explode"));
+    }
+}
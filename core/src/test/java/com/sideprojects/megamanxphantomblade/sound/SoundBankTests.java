@@ -0,0 +1,118 @@
+package com.sideprojects.megamanxphantomblade.sound;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ */
+public class SoundBankTests {
+    private SoundBank bank;
+    private Array<Sound> unloaded;
+
+    @Before
+    public void init() {
+        unloaded = new Array<>();
+        // Every sound is 100 bytes, so 3 of them fit
+        bank = new SoundBank(300, file -> mock(Sound.class), unloaded::add, file -> new WavHeader(100, 0));
+    }
+
+    @Test
+    public void should_unload_least_recently_played_sound_over_budget() {
+        Sound a = bank.get("a");
+        bank.get("b");
+        bank.get("c");
+        bank.get("b");
+
+        bank.get("d");
+
+        Assert.assertFalse(bank.isLoaded("a"));
+        Assert.assertTrue(bank.isLoaded("b"));
+        Assert.assertEquals(1, unloaded.size);
+        Assert.assertSame(a, unloaded.first());
+        Assert.assertEquals(300, bank.getSize());
+    }
+
+    @Test
+    public void should_never_unload_pinned_sounds() {
+        bank.preload(Array.with("a", "b", "c"));
+
+        bank.get("d");
+        bank.get("e");
+
+        Assert.assertTrue(bank.isLoaded("a") && bank.isLoaded("b") && bank.isLoaded("c"));
+        Assert.assertTrue(bank.isLoaded("e"));
+        Assert.assertFalse(bank.isLoaded("d"));
+        Assert.assertEquals(400, bank.getSize());
+
+        bank.unpin("a");
+
+        Assert.assertFalse(bank.isLoaded("a"));
+        Assert.assertEquals(300, bank.getSize());
+    }
+
+    @Test
+    public void should_count_hits_misses_and_evictions() {
+        bank.preload(Array.with("a"));
+        bank.get("a");
+        bank.get("b");
+        bank.get("c");
+        bank.get("d");
+        bank.get("d");
+
+        Assert.assertEquals(2, bank.getHits());
+        Assert.assertEquals(3, bank.getMisses());
+        Assert.assertEquals(1, bank.getEvictions());
+    }
+
+    @Test
+    public void should_unload_every_sound_on_dispose() {
+        bank.preload(Array.with("a", "b"));
+
+        bank.dispose();
+
+        Assert.assertEquals(2, unloaded.size);
+        Assert.assertEquals(0, bank.getCount());
+        Assert.assertEquals(0, bank.getSize());
+    }
+
+    @Test
+    public void should_keep_duration_read_when_sound_is_loaded() {
+        // 100 bytes at 50 bytes per second for wav files
+        bank = new SoundBank(300, file -> mock(Sound.class), unloaded::add,
+                file -> new WavHeader(100, file.endsWith(".wav") ? 50 : 0));
+        bank.get("a.wav");
+        bank.get("b.ogg");
+
+        Assert.assertEquals(2, bank.getDuration("a.wav"), 0);
+        Assert.assertEquals(SoundBank.DEFAULT_DURATION, bank.getDuration("b.ogg"), 0);
+    }
+
+    @Test
+    public void should_read_decoded_size_from_the_data_chunk() throws IOException {
+        ByteBuffer wav = ByteBuffer.allocate(56).order(ByteOrder.LITTLE_ENDIAN);
+        wav.put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(48).put("WAVE".getBytes(StandardCharsets.US_ASCII));
+        // A chunk of odd size before the format, padded by a byte
+        wav.put("LIST".getBytes(StandardCharsets.US_ASCII)).putInt(3).put(new byte[4]);
+        wav.put("fmt ".getBytes(StandardCharsets.US_ASCII)).putInt(0);
+        wav.put("data".getBytes(StandardCharsets.US_ASCII)).putInt(1234);
+        File file = File.createTempFile("sound", ".wav");
+        file.deleteOnExit();
+        Files.write(file.toPath(), wav.array());
+
+        Assert.assertEquals(1234, SoundBank.getDecodedSize(new FileHandle(file)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.sideprojects.megamanxphantomblade.headless;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.sideprojects.megamanxphantomblade.entities.systems.ChunkRunner;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Created by buivuhoang on 27/10/17.
+ * Runs the chunks on a fork join pool, the calling thread waits until all of them are done.
+ * The tasks are reused between runs, so running the chunks doesn't allocate.
+ * Not in core, the html backend has no java.util.concurrent.
+ */
+public class ForkJoinChunkRunner implements ChunkRunner, Disposable {
+    private final ForkJoinPool pool;
+    private final Root root;
+    private Chunk[] chunks;
+    private IntConsumer chunk;
+    private int chunkCount;
+
+    public ForkJoinChunkRunner(int parallelism) {
+        pool = new ForkJoinPool(parallelism);
+        root = new Root();
+        chunks = new Chunk[0];
+    }
+
+    @Override
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void run(int chunkCount, IntConsumer chunk) {
+        if (chunkCount <= 1) {
+            SERIAL.run(chunkCount, chunk);
+            return;
+        }
+        if (chunks.length < chunkCount) {
+            chunks = new Chunk[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                chunks[i] = new Chunk(i);
+            }
+        }
+        this.chunk = chunk;
+        this.chunkCount = chunkCount;
+        root.reinitialize();
+        pool.invoke(root);
+    }
+
+    @Override
+    public void dispose() {
+        pool.shutdown();
+    }
+
+    /**
+     * Forks every chunk but the first, which it runs itself
+     */
+    private class Root extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void compute() {
+            for (int i = 1; i < chunkCount; i++) {
+                chunks[i].reinitialize();
+                chunks[i].fork();
+            }
+            chunk.accept(0);
+            // Joining the last forked chunk first lets this thread run the chunks no other thread took yet
+            for (int i = chunkCount - 1; i > 0; i--) {
+                chunks[i].join();
+            }
+        }
+    }
+
+    private class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int index;
+
+        private Chunk(int index) {
+            this.index = index;
+        }
+
+        @Override
+        protected void compute() {
+            chunk.accept(index);
+        }
+    }
+}
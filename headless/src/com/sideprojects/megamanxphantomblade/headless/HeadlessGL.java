@@ -0,0 +1,32 @@
+package com.sideprojects.megamanxphantomblade.headless;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ * A GL20 that does nothing, so that textures can be created without a GPU.
+ * Every call returns 0, false or null.
+ */
+public class HeadlessGL {
+    private HeadlessGL() {}
+
+    public static GL20 create() {
+        return (GL20)Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] {GL20.class},
+                (proxy, method, args) -> defaultValue(method.getReturnType()));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == float.class) {
+            return 0f;
+        } else if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,58 @@
+package com.sideprojects.megamanxphantomblade.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.sideprojects.megamanxphantomblade.Difficulty;
+import com.sideprojects.megamanxphantomblade.animation.AnimationLoader;
+import com.sideprojects.megamanxphantomblade.animation.AtlasRegistry;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ * Runs simulated playthroughs without a GPU or audio device and reports the simulation throughput.
+ * Arguments: [ticks per run] [number of runs] [seed of the first run] [threads to update the enemies on]
+ */
+public class HeadlessLauncher {
+    public static void main(String[] arg) {
+        int ticks = arg.length > 0 ? Integer.parseInt(arg[0]) : 36000;
+        int runs = arg.length > 1 ? Integer.parseInt(arg[1]) : 1;
+        long seed = arg.length > 2 ? Long.parseLong(arg[2]) : 0;
+        int enemyThreads = arg.length > 3 ? Integer.parseInt(arg[3]) : 1;
+
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                install();
+                AtlasRegistry atlases = AnimationLoader.getAtlasRegistry();
+                ForkJoinChunkRunner enemyRunner = enemyThreads > 1 ? new ForkJoinChunkRunner(enemyThreads) : null;
+                for (int i = 0; i < runs; i++) {
+                    HeadlessSimulation simulation = enemyRunner != null
+                            ? new HeadlessSimulation(seed + i, Difficulty.NORMAL, enemyRunner)
+                            : new HeadlessSimulation(seed + i, Difficulty.NORMAL);
+                    long start = System.nanoTime();
+                    simulation.run(ticks);
+                    double seconds = (System.nanoTime() - start) / 1e9;
+                    System.out.println(String.format("Run %d (seed %d): %d ticks in %.3fs, %.0f ticks/s, player at %.2f, %.2f",
+                            i, seed + i, simulation.getTicks(), seconds, simulation.getTicks() / seconds,
+                            simulation.map.player.pos.x, simulation.map.player.pos.y));
+                    System.out.println(String.format("  %d atlases loaded, %.1f MB of texture memory",
+                            atlases.size(), atlases.getTextureMemory() / (1024f * 1024f)));
+                    simulation.map.dispose();
+                }
+                if (enemyRunner != null) {
+                    enemyRunner.dispose();
+                }
+                Gdx.app.exit();
+            }
+        });
+    }
+
+    /**
+     * Replaces GL and the textures so that stages can be created without a GPU
+     */
+    public static void install() {
+        Gdx.gl = HeadlessGL.create();
+        Gdx.gl20 = Gdx.gl;
+        AnimationLoader.setTextureSource(new PlaceholderTextureSource());
+    }
+}
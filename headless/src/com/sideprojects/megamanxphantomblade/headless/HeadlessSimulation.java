@@ -0,0 +1,52 @@
+package com.sideprojects.megamanxphantomblade.headless;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.sideprojects.megamanxphantomblade.PhantomBladeGame;
+import com.sideprojects.megamanxphantomblade.entities.systems.ChunkRunner;
+import com.sideprojects.megamanxphantomblade.map.MapBase;
+import com.sideprojects.megamanxphantomblade.map.maps.IntroStage;
+import com.sideprojects.megamanxphantomblade.physics.player.x.PlayerXPhysicsFactory;
+import com.sideprojects.megamanxphantomblade.player.x.PlayerXFactory;
+import com.sideprojects.megamanxphantomblade.player.x.PlayerXSound;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ * One playthrough of the intro stage with scripted input, without rendering or sound.
+ * Call HeadlessLauncher.install first so the stage can be loaded without a GPU.
+ */
+public class HeadlessSimulation {
+    public final MapBase map;
+    private final ScriptedInputProcessor input;
+    private int ticks;
+
+    public HeadlessSimulation(long seed, int difficulty) {
+        this(seed, difficulty, ChunkRunner.SERIAL);
+    }
+
+    /**
+     * @param enemyRunner Runs the enemy moves and updates, the simulation is the same whichever runner is used
+     */
+    public HeadlessSimulation(long seed, int difficulty, ChunkRunner enemyRunner) {
+        // The game logic uses MathUtils for randomness, seed it so that runs can be reproduced
+        MathUtils.random.setSeed(seed);
+        input = new ScriptedInputProcessor(seed);
+        SilentSoundPlayer sound = new SilentSoundPlayer();
+        map = new IntroStage(new PlayerXFactory(), new PlayerXPhysicsFactory(input, new PlayerXSound(sound)), sound, difficulty);
+        map.setChunkRunner(enemyRunner);
+    }
+
+    /**
+     * Runs the simulation for a number of fixed steps, as fast as possible
+     */
+    public void run(int numberOfTicks) {
+        for (int i = 0; i < numberOfTicks; i++) {
+            input.nextTick();
+            map.update(PhantomBladeGame.TIME_STEP);
+        }
+        ticks += numberOfTicks;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+}
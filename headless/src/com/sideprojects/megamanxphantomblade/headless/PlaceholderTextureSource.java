@@ -0,0 +1,103 @@
+package com.sideprojects.megamanxphantomblade.headless;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.sideprojects.megamanxphantomblade.animation.TextureSource;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ * Creates textures that have the size of the image but no pixels.
+ * Only the png header is read, so regions and animations are the same as in the game without decoding any image.
+ * Needs HeadlessGL to be set as Gdx.gl.
+ */
+public class PlaceholderTextureSource implements TextureSource {
+    // Width and height are the first fields of the IHDR chunk, right after the signature and the chunk header
+    private static final int PNG_SIZE_OFFSET = 16;
+
+    @Override
+    public Texture load(FileHandle file) {
+        DataInputStream input = new DataInputStream(file.read());
+        try {
+            input.skipBytes(PNG_SIZE_OFFSET);
+            int width = input.readInt();
+            int height = input.readInt();
+            return new Texture(new PlaceholderTextureData(width, height));
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't read the size of " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(input);
+        }
+    }
+
+    private static class PlaceholderTextureData implements TextureData {
+        private final int width;
+        private final int height;
+
+        private PlaceholderTextureData(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public TextureDataType getType() {
+            return TextureDataType.Custom;
+        }
+
+        @Override
+        public boolean isPrepared() {
+            return true;
+        }
+
+        @Override
+        public void prepare() {
+            // Nothing to prepare
+        }
+
+        @Override
+        public Pixmap consumePixmap() {
+            throw new GdxRuntimeException("Placeholder textures have no pixmap");
+        }
+
+        @Override
+        public boolean disposePixmap() {
+            return false;
+        }
+
+        @Override
+        public void consumeCustomData(int target) {
+            // Nothing to upload
+        }
+
+        @Override
+        public int getWidth() {
+            return width;
+        }
+
+        @Override
+        public int getHeight() {
+            return height;
+        }
+
+        @Override
+        public Pixmap.Format getFormat() {
+            return Pixmap.Format.RGBA8888;
+        }
+
+        @Override
+        public boolean useMipMaps() {
+            return false;
+        }
+
+        @Override
+        public boolean isManaged() {
+            return false;
+        }
+    }
+}
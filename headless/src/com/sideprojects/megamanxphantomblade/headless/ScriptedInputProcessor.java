@@ -0,0 +1,52 @@
+package com.sideprojects.megamanxphantomblade.headless;
+
+import com.sideprojects.megamanxphantomblade.input.Command;
+import com.sideprojects.megamanxphantomblade.input.InputProcessor;
+
+import java.util.Random;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ * Plays through the map with random button presses, mostly running to the right.
+ * The same seed always presses the same buttons.
+ */
+public class ScriptedInputProcessor implements InputProcessor {
+    private static final Command[] COMMANDS = Command.values();
+    // Chance per tick to press a released button, and to release a pressed one, by Command ordinal
+    private static final float[] PRESS_CHANCE = {0.01f, 0.2f, 0.01f, 0.05f, 0.02f, 0.05f};
+    private static final float[] RELEASE_CHANCE = {0.2f, 0.01f, 0.2f, 0.1f, 0.2f, 0.02f};
+
+    private final Random random;
+    private final boolean[] pressed;
+    private final boolean[] justPressed;
+
+    public ScriptedInputProcessor(long seed) {
+        random = new Random(seed);
+        pressed = new boolean[COMMANDS.length];
+        justPressed = new boolean[COMMANDS.length];
+    }
+
+    /**
+     * Presses and releases the buttons for the next tick
+     */
+    public void nextTick() {
+        for (int i = 0; i < COMMANDS.length; i++) {
+            boolean wasPressed = pressed[i];
+            float chance = wasPressed ? RELEASE_CHANCE[i] : PRESS_CHANCE[i];
+            if (random.nextFloat() < chance) {
+                pressed[i] = !wasPressed;
+            }
+            justPressed[i] = pressed[i] && !wasPressed;
+        }
+    }
+
+    @Override
+    public boolean isCommandPressed(Command command) {
+        return pressed[command.ordinal()];
+    }
+
+    @Override
+    public boolean isCommandJustPressed(Command command) {
+        return justPressed[command.ordinal()];
+    }
+}
@@ -0,0 +1,56 @@
+package com.sideprojects.megamanxphantomblade.headless;
+
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.sideprojects.megamanxphantomblade.sound.SoundPlayer;
+
+/**
+ * Created by buivuhoang on 23/10/17.
+ * Ignores every sound, so the simulation neither loads nor plays any audio.
+ */
+public class SilentSoundPlayer extends SoundPlayer {
+    @Override
+    public void play(String file) {
+        // Silent
+    }
+
+    @Override
+    public void playInParallel(String file) {
+        // Silent
+    }
+
+    @Override
+    public void playInParallel(String file, float x, float y) {
+        // Silent
+    }
+
+    @Override
+    public void playInParallelAndStopPreviousSound(String file) {
+        // Silent
+    }
+
+    @Override
+    public void playOneRandomly(String... files) {
+        // Silent
+    }
+
+    @Override
+    public void loopInParallel(String file) {
+        // Silent
+    }
+
+    @Override
+    public void stop(String file) {
+        // Silent
+    }
+
+    @Override
+    public Sound loadSound(String file) {
+        return null;
+    }
+
+    @Override
+    public Music loadMusic(String file) {
+        return null;
+    }
+}
@@ -0,0 +1,110 @@
+package com.sideprojects.megamanxphantomblade.tools;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by buivuhoang on 25/10/17.
+ * Repacks the frames of every sprite sheet into a few shared pages, so a frame of the game needs fewer texture switches.
+ * The frames of a sheet are named after its path and indexed in their original order, which is how PackedSprites finds them.
+ * Arguments: [sprites folder] [output folder] [name of the packed atlas]
+ */
+public class SpritePacker {
+    private static final String SHEET_EXTENSION = ".txt";
+
+    public static void main(String[] arg) throws IOException {
+        File spritesFolder = new File(arg[0]);
+        File outputFolder = new File(arg[1]);
+        String packFileName = arg.length > 2 ? arg[2] : "sprites";
+        int frames = pack(spritesFolder, outputFolder, packFileName);
+        System.out.println("Packed " + frames + " frames into " + new File(outputFolder, packFileName + ".atlas"));
+    }
+
+    public static int pack(File spritesFolder, File outputFolder, String packFileName) throws IOException {
+        TexturePacker.Settings settings = new TexturePacker.Settings();
+        settings.maxWidth = 2048;
+        settings.maxHeight = 2048;
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        settings.duplicatePadding = true;
+        // The game draws the frames at their packed size, so they need to keep it
+        settings.stripWhitespaceX = false;
+        settings.stripWhitespaceY = false;
+        settings.rotation = false;
+        settings.useIndexes = true;
+        settings.filterMin = Texture.TextureFilter.Nearest;
+        settings.filterMag = Texture.TextureFilter.Nearest;
+
+        TexturePacker packer = new TexturePacker(settings);
+        int frames = 0;
+        for (File sheet : findSheets(spritesFolder)) {
+            frames += addFrames(packer, sheet, getRegionName(spritesFolder, sheet));
+        }
+        packer.pack(outputFolder, packFileName);
+        return frames;
+    }
+
+    private static int addFrames(TexturePacker packer, File sheet, String name) throws IOException {
+        FileHandle sheetFile = new FileHandle(sheet);
+        TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(sheetFile, sheetFile.parent(), false);
+        Map<TextureAtlas.TextureAtlasData.Page, BufferedImage> pages = new HashMap<>();
+        int index = 0;
+        for (TextureAtlas.TextureAtlasData.Region region : data.getRegions()) {
+            if (region.rotate) {
+                throw new IOException(sheet + " has rotated frames, which aren't supported");
+            }
+            BufferedImage page = pages.get(region.page);
+            if (page == null) {
+                page = ImageIO.read(region.page.textureFile.file());
+                pages.put(region.page, page);
+            }
+            // Frames are found by their position in the original sheet, so index them by it
+            packer.addImage(getFrame(page, region), name + "_" + index);
+            index++;
+        }
+        return index;
+    }
+
+    private static BufferedImage getFrame(BufferedImage page, TextureAtlas.TextureAtlasData.Region region) {
+        if (region.width == 0 || region.height == 0) {
+            // Some animations end on an empty frame, which can't be packed, so keep a transparent pixel in its place
+            return new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        }
+        return page.getSubimage(region.left, region.top, region.width, region.height);
+    }
+
+    private static List<File> findSheets(File folder) {
+        List<File> sheets = new ArrayList<>();
+        File[] files = folder.listFiles();
+        if (files == null) {
+            return sheets;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                sheets.addAll(findSheets(file));
+            } else if (file.getName().endsWith(SHEET_EXTENSION)) {
+                sheets.add(file);
+            }
+        }
+        // Keep the output the same between runs
+        Collections.sort(sheets);
+        return sheets;
+    }
+
+    private static String getRegionName(File spritesFolder, File sheet) {
+        String path = spritesFolder.toURI().relativize(sheet.toURI()).getPath();
+        return path.substring(0, path.length() - SHEET_EXTENSION.length());
+    }
+}